@@ -13,4 +13,11 @@ import java.lang.annotation.Target;
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface OptionalUserId {
+
+    /**
+     * 목록 API의 북마크 분리 지원 여부
+     * - true면 X-Bookmark-Overlay: true 요청에는 로그인 여부와 상관없이 null 반환 (모든 사용자에게 같은 응답 → 공유 캐시 가능)
+     * - 북마크 여부는 클라이언트가 /api/v1/bookmarks/status로 따로 받아서 덮어씀
+     */
+    boolean bookmarkOverlay() default false;
 }
@@ -4,8 +4,10 @@ import com.swyp10.constants.AuthConstants;
 import com.swyp10.constants.TokenType;
 import com.swyp10.domain.auth.service.common.TokenService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -31,7 +33,33 @@ public class OptionalUserIdArgumentResolver implements HandlerMethodArgumentReso
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
         
         System.out.println("=== OptionalUserIdResolver ===");
-        
+
+        // 0. 북마크 분리 요청이면 사용자와 무관한 응답 (북마크 여부는 /api/v1/bookmarks/status)
+        OptionalUserId annotation = parameter.getParameterAnnotation(OptionalUserId.class);
+        HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+        if (annotation != null && annotation.bookmarkOverlay()) {
+            if (response != null) {
+                response.addHeader(HttpHeaders.VARY, AuthConstants.BOOKMARK_OVERLAY_HEADER);
+            }
+            if ("true".equalsIgnoreCase(webRequest.getHeader(AuthConstants.BOOKMARK_OVERLAY_HEADER))) {
+                return null;
+            }
+            // 분리 요청이 아니면 로그인 여부에 따라 북마크 값이 달라지므로 비로그인 응답도 Authorization별로 구분
+            // (없으면 공유 캐시가 비로그인 응답을 로그인 사용자에게 줄 수 있음)
+            if (response != null) {
+                response.addHeader(HttpHeaders.VARY, AuthConstants.AUTHORIZATION_HEADER);
+            }
+        }
+
+        Long userId = resolveUserId(webRequest);
+        // 사용자별 북마크 여부가 들어간 응답은 공유 캐시에 저장되면 안 됨
+        if (userId != null && annotation != null && annotation.bookmarkOverlay() && response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private");
+        }
+        return userId;
+    }
+
+    private Long resolveUserId(NativeWebRequest webRequest) {
         // 1. 먼저 SecurityContext 확인 (JWT 필터가 설정한 경우)
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication != null && authentication.isAuthenticated() && 
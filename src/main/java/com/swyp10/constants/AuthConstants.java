@@ -25,6 +25,8 @@ public final class AuthConstants {
     // HTTP 헤더 상수
     public static final String CONTENT_TYPE_FORM_URLENCODED = "application/x-www-form-urlencoded;charset=utf-8";
     public static final String AUTHORIZATION_HEADER = "Authorization";
+    // 목록의 북마크 여부를 /api/v1/bookmarks/status로 따로 받겠다는 요청 헤더 (값: true)
+    public static final String BOOKMARK_OVERLAY_HEADER = "X-Bookmark-Overlay";
     
     // 기본값 상수
     public static final long DEFAULT_TOKEN_EXPIRATION = 86400; // 24시간 (초)
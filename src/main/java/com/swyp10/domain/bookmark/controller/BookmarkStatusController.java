@@ -0,0 +1,35 @@
+package com.swyp10.domain.bookmark.controller;
+
+import com.swyp10.config.security.OptionalUserId;
+import com.swyp10.domain.bookmark.dto.response.BookmarkStatusResponse;
+import com.swyp10.domain.bookmark.service.UserBookmarkService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/bookmarks")
+@RequiredArgsConstructor
+@Tag(name = "북마크", description = "북마크 저장 API")
+public class BookmarkStatusController {
+
+    private final UserBookmarkService bookmarkService;
+
+    @Operation(summary = "북마크 여부 조회",
+        description = "축제 목록을 X-Bookmark-Overlay: true로 받은 뒤, 화면에 보이는 축제들의 북마크 여부만 따로 조회 (최대 "
+            + UserBookmarkService.MAX_STATUS_IDS + "개)")
+    @GetMapping("/status")
+    public BookmarkStatusResponse getBookmarkStatus(
+        @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
+        @RequestParam List<Long> ids
+    ) {
+        return bookmarkService.getBookmarkStatus(userId, ids);
+    }
+}
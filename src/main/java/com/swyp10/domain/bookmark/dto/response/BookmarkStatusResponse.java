@@ -0,0 +1,14 @@
+package com.swyp10.domain.bookmark.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BookmarkStatusResponse {
+    @Schema(description = "요청한 축제 중 북마크한 축제 ID (오름차순, 비로그인이면 빈 목록)", example = "[101, 205]")
+    private List<Long> bookmarkedIds;
+}
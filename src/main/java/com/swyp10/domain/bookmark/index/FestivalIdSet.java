@@ -0,0 +1,61 @@
+package com.swyp10.domain.bookmark.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 정렬된 long 배열로 들고 있는 축제 ID 집합 (읽기 전용)
+ *
+ * 사용자 한 명의 북마크는 많아야 수백 개라 박싱된 Set보다 정렬 배열 + 이진 탐색이 작고 빠르다.
+ * 추가/삭제는 새 배열을 만들어 돌려주므로 읽는 쪽은 잠금 없이 써도 된다.
+ */
+public final class FestivalIdSet {
+
+    private static final FestivalIdSet EMPTY = new FestivalIdSet(new long[0]);
+
+    private final long[] ids;
+
+    private FestivalIdSet(long[] ids) {
+        this.ids = ids;
+    }
+
+    public static FestivalIdSet of(Collection<Long> festivalIds) {
+        if (festivalIds.isEmpty()) {
+            return EMPTY;
+        }
+        long[] sorted = festivalIds.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+        return new FestivalIdSet(sorted);
+    }
+
+    public boolean contains(long festivalId) {
+        return Arrays.binarySearch(ids, festivalId) >= 0;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public FestivalIdSet with(long festivalId) {
+        int index = Arrays.binarySearch(ids, festivalId);
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        long[] added = new long[ids.length + 1];
+        System.arraycopy(ids, 0, added, 0, insertAt);
+        added[insertAt] = festivalId;
+        System.arraycopy(ids, insertAt, added, insertAt + 1, ids.length - insertAt);
+        return new FestivalIdSet(added);
+    }
+
+    public FestivalIdSet without(long festivalId) {
+        int index = Arrays.binarySearch(ids, festivalId);
+        if (index < 0) {
+            return this;
+        }
+        long[] removed = new long[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, index);
+        System.arraycopy(ids, index + 1, removed, index, ids.length - index - 1);
+        return new FestivalIdSet(removed);
+    }
+}
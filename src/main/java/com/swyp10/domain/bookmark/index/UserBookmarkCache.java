@@ -0,0 +1,143 @@
+package com.swyp10.domain.bookmark.index;
+
+import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 활성 북마크 축제 ID 캐시 (목록 카드 북마크 표시용)
+ *
+ * 사용자마다 처음 한 번만 활성 북마크 ID 전체를 읽어 두고, 이후 목록 요청은 메모리에서 포함 여부만 본다.
+ * 북마크 추가/취소는 트랜잭션 커밋 뒤에 캐시된 집합을 바로 고치고, 사용자 수는 max-users로 제한해 오래 안 쓴 사용자부터 버린다(LRU).
+ * 읽는 도중 북마크가 바뀌었으면 읽은 결과가 이미 오래됐을 수 있으므로 캐시에 넣지 않는다.
+ * 다른 인스턴스에서 바뀐 북마크는 알 수 없으므로, 읽은 지 ttl이 지난 사용자는 다시 읽는다 (인스턴스 간 차이는 최대 ttl).
+ */
+@Component
+public class UserBookmarkCache {
+
+    private final UserBookmarkRepository userBookmarkRepository;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<Long, Cached> entries;
+    // 북마크가 바뀔 때마다 증가 (읽기 시작 시점 값과 다르면 읽은 결과를 캐시하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public UserBookmarkCache(
+        UserBookmarkRepository userBookmarkRepository,
+        @Value("${bookmark.cache.enabled:true}") boolean enabled,
+        @Value("${bookmark.cache.max-users:10000}") int maxUsers,
+        @Value("${bookmark.cache.ttl-seconds:30}") long ttlSeconds
+    ) {
+        this(userBookmarkRepository, enabled, maxUsers, Duration.ofSeconds(ttlSeconds), Clock.systemUTC());
+    }
+
+    UserBookmarkCache(UserBookmarkRepository userBookmarkRepository, boolean enabled, int maxUsers,
+                      Duration ttl, Clock clock) {
+        this.userBookmarkRepository = userBookmarkRepository;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    /**
+     * userId가 주어진 festivalIds 중 북마크한 festivalId 집합 (비활성화 시 DB 조회)
+     */
+    public Set<Long> findBookmarkedFestivalIds(Long userId, Collection<Long> festivalIds) {
+        if (userId == null || festivalIds == null || festivalIds.isEmpty()) {
+            return Set.of();
+        }
+        if (!enabled) {
+            return userBookmarkRepository.findBookmarkedFestivalIds(userId, festivalIds);
+        }
+        FestivalIdSet bookmarked = get(userId);
+        return festivalIds.stream()
+            .filter(bookmarked::contains)
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * 북마크 추가 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void added(Long userId, Long festivalId) {
+        afterCommit(() -> update(userId, festivalId, true));
+    }
+
+    /**
+     * 북마크 취소 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void removed(Long userId, Long festivalId) {
+        afterCommit(() -> update(userId, festivalId, false));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    FestivalIdSet get(Long userId) {
+        synchronized (this) {
+            Cached cached = entries.get(userId);
+            if (cached != null && cached.expiresAt() > clock.millis()) {
+                return cached.festivalIds();
+            }
+        }
+        long startedGeneration = generation.get();
+        long expiresAt = clock.millis() + ttl.toMillis();
+        FestivalIdSet loaded = FestivalIdSet.of(userBookmarkRepository.findActiveFestivalIds(userId));
+        synchronized (this) {
+            if (generation.get() == startedGeneration) {
+                entries.put(userId, new Cached(loaded, expiresAt));
+            }
+        }
+        return loaded;
+    }
+
+    private synchronized void update(Long userId, Long festivalId, boolean bookmarked) {
+        generation.incrementAndGet();
+        // 만료 시각은 그대로 (이 인스턴스 변경만 반영한 집합이므로 다른 인스턴스 변경은 만료 후 다시 읽어서 반영)
+        Cached cached = entries.get(userId);
+        if (cached != null) {
+            FestivalIdSet festivalIds = cached.festivalIds();
+            entries.put(userId, new Cached(
+                bookmarked ? festivalIds.with(festivalId) : festivalIds.without(festivalId), cached.expiresAt()));
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record Cached(FestivalIdSet festivalIds, long expiresAt) {
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -15,5 +16,10 @@ public interface UserBookmarkCustomRepository {
      */
     Set<Long> findBookmarkedFestivalIds(Long userId, Collection<Long> festivalIds);
 
+    /**
+     * userId의 활성 북마크 festivalId 전체
+     */
+    List<Long> findActiveFestivalIds(Long userId);
+
     Page<FestivalSummaryResponse> findBookmarkedFestivals(Long userId, Pageable pageable);
 }
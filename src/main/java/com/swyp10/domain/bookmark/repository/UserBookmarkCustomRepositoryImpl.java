@@ -4,8 +4,8 @@ import com.querydsl.core.BooleanBuilder;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swyp10.domain.bookmark.entity.QUserBookmark;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
-import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.entity.QFestival;
+import com.swyp10.domain.festival.repository.FestivalSummaryRow;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -43,6 +43,20 @@ public class UserBookmarkCustomRepositoryImpl implements UserBookmarkCustomRepos
             .collect(Collectors.toSet());
     }
 
+    @Override
+    public List<Long> findActiveFestivalIds(Long userId) {
+        QUserBookmark ub = QUserBookmark.userBookmark;
+
+        return queryFactory
+            .select(ub.festival.festivalId)
+            .from(ub)
+            .where(
+                ub.user.userId.eq(userId),
+                ub.deletedAt.isNull()
+            )
+            .fetch();
+    }
+
     @Override
     public Page<FestivalSummaryResponse> findBookmarkedFestivals(Long userId, Pageable pageable) {
         QUserBookmark ub = QUserBookmark.userBookmark;
@@ -61,9 +75,9 @@ public class UserBookmarkCustomRepositoryImpl implements UserBookmarkCustomRepos
             .and(ub.user.userId.eq(userId))
             .and(ub.deletedAt.isNull());
 
-        // content
-        List<Festival> content = queryFactory
-            .select(f)
+        // content - 목록 카드에 필요한 축제 컬럼만 projection
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(f))
             .from(ub)
             .join(ub.festival, f)
             .where(where)
@@ -82,7 +96,7 @@ public class UserBookmarkCustomRepositoryImpl implements UserBookmarkCustomRepos
         System.out.println("조회된 축제 수: " + content.size() + ", 전체: " + total);
 
         List<FestivalSummaryResponse> dtos = content.stream()
-            .map(FestivalSummaryResponse::from)
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
 
         return new PageImpl<>(dtos, pageable, total);
@@ -1,6 +1,8 @@
 package com.swyp10.domain.bookmark.service;
 
+import com.swyp10.domain.bookmark.dto.response.BookmarkStatusResponse;
 import com.swyp10.domain.bookmark.entity.UserBookmark;
+import com.swyp10.domain.bookmark.index.UserBookmarkCache;
 import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
 import com.swyp10.domain.festival.entity.Festival;
@@ -22,9 +24,12 @@ import java.util.*;
 @Transactional(readOnly = true)
 public class UserBookmarkService {
 
+    public static final int MAX_STATUS_IDS = 100;
+
     private final UserBookmarkRepository bookmarkRepository;
     private final FestivalRepository festivalRepository;
     private final UserRepository userRepository;
+    private final UserBookmarkCache userBookmarkCache;
 
     /**
      * 북마크 저장 (이미 존재 & 삭제되지 않음 -> 에러 / soft-delete 상태 -> 복구 / 없음 -> 신규생성)
@@ -57,6 +62,7 @@ public class UserBookmarkService {
             }
             // soft-delete 상태면 복구
             reviveBookmark(existing);
+            userBookmarkCache.added(userId, festivalId);
             System.out.println("북마크 복구 완료: " + existing.getBookmarkId());
             return existing.getBookmarkId();
         }
@@ -67,10 +73,27 @@ public class UserBookmarkService {
             .user(user)
             .build();
         UserBookmark saved = bookmarkRepository.save(created);
+        userBookmarkCache.added(userId, festivalId);
         System.out.println("신규 북마크 생성 완료: " + saved.getBookmarkId());
         return saved.getBookmarkId();
     }
 
+    /**
+     * 주어진 축제 중 북마크한 축제 ID (목록 응답과 분리된 북마크 여부, 비로그인이면 빈 목록)
+     */
+    public BookmarkStatusResponse getBookmarkStatus(Long userId, List<Long> festivalIds) {
+        if (festivalIds.size() > MAX_STATUS_IDS) {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST,
+                "ids는 최대 " + MAX_STATUS_IDS + "개까지 조회할 수 있습니다.");
+        }
+        List<Long> bookmarkedIds = userBookmarkCache.findBookmarkedFestivalIds(userId, festivalIds).stream()
+            .sorted()
+            .toList();
+        return BookmarkStatusResponse.builder()
+            .bookmarkedIds(bookmarkedIds)
+            .build();
+    }
+
     @Transactional
     protected void reviveBookmark(UserBookmark bookmark) {
         bookmark.revive(); // UserBookmark 엔티티에 revive() 메서드가 있는지 확인 필요
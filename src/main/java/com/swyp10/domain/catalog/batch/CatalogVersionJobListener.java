@@ -0,0 +1,32 @@
+package com.swyp10.domain.catalog.batch;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.service.CatalogVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+
+/**
+ * 동기화 Job 종료 시 해당 종류 catalog_versions 증가 - 다른 인스턴스가 폴링으로 캐시를 비움
+ * 실패한 경우에도 증가 - 실패 전까지 저장한 데이터는 이미 반영됐다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CatalogVersionJobListener implements JobExecutionListener {
+
+    private final CatalogVersionService catalogVersionService;
+    private final CatalogEntityType entityType;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        try {
+            long version = catalogVersionService.bump(entityType);
+            log.info("[Catalog Versions] {} bumped to {} after job {} ({})",
+                entityType, version, jobExecution.getJobInstance().getJobName(), jobExecution.getStatus());
+        } catch (Exception e) {
+            // 버전을 못 올리면 다른 인스턴스는 다음 동기화까지 이전 캐시를 쓴다
+            log.warn("[Catalog Versions] failed to bump {}: {}", entityType, e.getMessage());
+        }
+    }
+}
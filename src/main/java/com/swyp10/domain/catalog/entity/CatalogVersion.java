@@ -0,0 +1,30 @@
+package com.swyp10.domain.catalog.entity;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 카탈로그 데이터 종류별 버전 (동기화 Job이 끝날 때마다 1씩 증가, 인스턴스마다 폴링해서 메모리 캐시 무효화)
+ */
+@Entity
+@Table(name = "catalog_versions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CatalogVersion {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", length = 30)
+    private CatalogEntityType entityType;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,11 @@
+package com.swyp10.domain.catalog.enums;
+
+/**
+ * 버전을 따로 관리하는 카탈로그 데이터 종류 (동기화 Job 단위)
+ */
+public enum CatalogEntityType {
+    FESTIVAL,
+    RESTAURANT,
+    TRAVEL_COURSE,
+    REGION
+}
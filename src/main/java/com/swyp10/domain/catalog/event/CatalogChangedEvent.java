@@ -0,0 +1,15 @@
+package com.swyp10.domain.catalog.event;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 인스턴스가 카탈로그 데이터를 바꿨음 (catalog_versions 폴링에서 버전 증가를 발견) - 해당 종류 캐시만 무효화
+ */
+@Getter
+@RequiredArgsConstructor
+public class CatalogChangedEvent {
+    private final CatalogEntityType entityType;
+    private final long version;
+}
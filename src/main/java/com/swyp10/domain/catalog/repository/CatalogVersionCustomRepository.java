@@ -0,0 +1,19 @@
+package com.swyp10.domain.catalog.repository;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface CatalogVersionCustomRepository {
+
+    /**
+     * 해당 종류 버전을 1 올리고 올린 값을 반환 (행이 없으면 1로 생성)
+     */
+    long bump(CatalogEntityType entityType, LocalDateTime updatedAt);
+
+    /**
+     * 종류별 현재 버전 (폴링용, 엔티티 없이 두 컬럼만)
+     */
+    Map<CatalogEntityType, Long> findVersions();
+}
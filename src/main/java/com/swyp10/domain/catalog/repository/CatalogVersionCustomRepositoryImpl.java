@@ -0,0 +1,52 @@
+package com.swyp10.domain.catalog.repository;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class CatalogVersionCustomRepositoryImpl implements CatalogVersionCustomRepository {
+
+    private static final String UPDATE_SQL =
+        "UPDATE catalog_versions SET version = version + 1, updated_at = ? WHERE entity_type = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO catalog_versions (entity_type, version, updated_at) VALUES (?, 1, ?)";
+
+    private static final String SELECT_SQL =
+        "SELECT version FROM catalog_versions WHERE entity_type = ?";
+
+    private static final String SELECT_ALL_SQL =
+        "SELECT entity_type, version FROM catalog_versions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public long bump(CatalogEntityType entityType, LocalDateTime updatedAt) {
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+        // 종류별 첫 변경만 행을 만들고, 다른 인스턴스가 먼저 만들었으면 다시 올림
+        if (jdbcTemplate.update(UPDATE_SQL, timestamp, entityType.name()) == 0) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, entityType.name(), timestamp);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(UPDATE_SQL, timestamp, entityType.name());
+            }
+        }
+        return jdbcTemplate.queryForObject(SELECT_SQL, Long.class, entityType.name());
+    }
+
+    @Override
+    public Map<CatalogEntityType, Long> findVersions() {
+        Map<CatalogEntityType, Long> versions = new EnumMap<>(CatalogEntityType.class);
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            versions.put(CatalogEntityType.valueOf(rs.getString("entity_type")), rs.getLong("version"));
+        });
+        return versions;
+    }
+}
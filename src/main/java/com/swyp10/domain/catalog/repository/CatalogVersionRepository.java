@@ -0,0 +1,9 @@
+package com.swyp10.domain.catalog.repository;
+
+import com.swyp10.domain.catalog.entity.CatalogVersion;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, CatalogEntityType>,
+    CatalogVersionCustomRepository {
+}
@@ -0,0 +1,108 @@
+package com.swyp10.domain.catalog.service;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.event.CatalogChangedEvent;
+import com.swyp10.domain.catalog.repository.CatalogVersionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * catalog_versions 폴링 - 다른 인스턴스의 동기화 Job이 올린 버전을 발견하면 CatalogChangedEvent 발행
+ *
+ * 기동 시점 버전을 기준으로 삼고(메모리 인덱스도 그 시점 DB로 빌드), 이후 올라간 종류만 이벤트로 알린다.
+ * 이 인스턴스가 직접 올린 버전은 이미 자기 캐시를 비웠으므로 건너뛴다 (markSeen).
+ * 조회는 PK 몇 행뿐이라 짧은 주기로 돌려도 부담이 없고, 별도 메시지 브로커 없이 MySQL만으로 인스턴스 간 무효화를 맞춘다.
+ */
+@Slf4j
+@Component
+public class CatalogVersionPoller {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final Map<CatalogEntityType, Long> seen = new EnumMap<>(CatalogEntityType.class);
+
+    public CatalogVersionPoller(
+        CatalogVersionRepository catalogVersionRepository,
+        ApplicationEventPublisher eventPublisher,
+        @Value("${catalog.versions.poll.enabled:true}") boolean enabled
+    ) {
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Map<CatalogEntityType, Long> versions = catalogVersionRepository.findVersions();
+            synchronized (seen) {
+                versions.forEach(this::advance);
+            }
+            log.info("[Catalog Versions] baseline: {}", versions);
+        } catch (Exception e) {
+            // 기준을 못 읽었으면 첫 폴링에서 이미 있는 버전까지 변경으로 보고 한 번 더 비움
+            log.warn("[Catalog Versions] baseline read failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${catalog.versions.poll.interval-ms:5000}",
+        initialDelayString = "${catalog.versions.poll.interval-ms:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        Map<CatalogEntityType, Long> versions;
+        try {
+            versions = catalogVersionRepository.findVersions();
+        } catch (Exception e) {
+            log.warn("[Catalog Versions] poll failed: {}", e.getMessage());
+            return;
+        }
+
+        List<CatalogChangedEvent> changed = new ArrayList<>();
+        synchronized (seen) {
+            versions.forEach((entityType, version) -> {
+                if (advance(entityType, version)) {
+                    changed.add(new CatalogChangedEvent(entityType, version));
+                }
+            });
+        }
+        for (CatalogChangedEvent event : changed) {
+            log.info("[Catalog Versions] {} changed on another instance (version {}), invalidating local caches",
+                event.getEntityType(), event.getVersion());
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    /**
+     * 이 인스턴스가 직접 올린 버전 (폴링에서 다시 알리지 않음)
+     */
+    public void markSeen(CatalogEntityType entityType, long version) {
+        synchronized (seen) {
+            advance(entityType, version);
+        }
+    }
+
+    private boolean advance(CatalogEntityType entityType, long version) {
+        Long previous = seen.get(entityType);
+        if (previous != null && previous >= version) {
+            return false;
+        }
+        seen.put(entityType, version);
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.swyp10.domain.catalog.service;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.repository.CatalogVersionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CatalogVersionService {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final CatalogVersionPoller catalogVersionPoller;
+
+    /**
+     * 카탈로그 데이터가 바뀌었음을 다른 인스턴스에 알림 (버전 증가, 커밋 후 이 인스턴스 폴링에서는 제외)
+     */
+    @Transactional
+    public long bump(CatalogEntityType entityType) {
+        long version = catalogVersionRepository.bump(entityType, LocalDateTime.now());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogVersionPoller.markSeen(entityType, version);
+            }
+        });
+        return version;
+    }
+}
@@ -1,8 +1,12 @@
 package com.swyp10.domain.festival.batch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.domain.catalog.batch.CatalogVersionJobListener;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.service.CatalogVersionService;
 import com.swyp10.domain.festival.client.TourApiClient;
 import com.swyp10.domain.festival.dto.tourapi.SearchFestival2Dto;
+import com.swyp10.domain.festival.index.FestivalSearchIndexHolder;
 import com.swyp10.domain.festival.service.FestivalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +20,7 @@ import org.springframework.batch.core.step.builder.StepBuilder;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
@@ -36,6 +41,9 @@ public class FestivalBatchConfig {
     private final FestivalService festivalService;
     private final TourApiClient tourApiClient;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FestivalSearchIndexHolder searchIndexHolder;
+    private final CatalogVersionService catalogVersionService;
 
     @Value("${tourapi.batch.festival.skip-if-data-exists:true}")
     private boolean skipIfDataExists;
@@ -65,11 +73,18 @@ public class FestivalBatchConfig {
     public Job festivalSyncJob(Step festivalSyncStep) {
         return new JobBuilder("festivalSyncJob", jobRepository)
             .incrementer(new RunIdIncrementer())
+            .listener(festivalSyncJobListener())
+            .listener(new CatalogVersionJobListener(catalogVersionService, CatalogEntityType.FESTIVAL))
             .flow(festivalSyncStep)
             .end()
             .build();
     }
 
+    @Bean
+    public FestivalSyncJobListener festivalSyncJobListener() {
+        return new FestivalSyncJobListener(eventPublisher);
+    }
+
     @Bean
     public Step festivalSyncStep() {
         return new StepBuilder("festivalSyncStep", jobRepository)
@@ -151,6 +166,6 @@ public class FestivalBatchConfig {
 
     @Bean
     public FestivalItemWriter festivalItemWriter() {
-        return new FestivalItemWriter(festivalService);
+        return new FestivalItemWriter(festivalService, searchIndexHolder);
     }
 }
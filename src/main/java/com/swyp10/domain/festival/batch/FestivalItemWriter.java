@@ -1,31 +1,40 @@
 package com.swyp10.domain.festival.batch;
 
+import com.swyp10.domain.festival.entity.Festival;
+import com.swyp10.domain.festival.index.FestivalSearchDocument;
+import com.swyp10.domain.festival.index.FestivalSearchIndexHolder;
 import com.swyp10.domain.festival.service.FestivalService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 public class FestivalItemWriter implements ItemWriter<FestivalProcessedData> {
 
     private final FestivalService festivalService;
+    private final FestivalSearchIndexHolder searchIndexHolder;
 
     @Override
     public void write(Chunk<? extends FestivalProcessedData> chunk) throws Exception {
         log.info("Writing {} festivals to database", chunk.size());
-        
+
+        List<FestivalSearchDocument> saved = new ArrayList<>(chunk.size());
         for (FestivalProcessedData data : chunk) {
             if (data != null) {
                 try {
                     // 배치로 저장 (트랜잭션으로 묶임)
-                    festivalService.saveOrUpdateFestival(
+                    Festival festival = festivalService.saveOrUpdateFestival(
                         data.getSearchDto(),
                         data.getCommonDto(),
                         data.getIntroDto(),
                         data.getImages()
                     );
+                    saved.add(FestivalSearchDocument.from(festival));
                 } catch (Exception e) {
                     log.error("Failed to save festival {}: {}", 
                         data.getSearchDto().getContentid(), e.getMessage());
@@ -34,6 +43,9 @@ public class FestivalItemWriter implements ItemWriter<FestivalProcessedData> {
             }
         }
         
+        // 저장한 축제를 검색 인덱스에 바로 반영 (전체 재빌드는 Job 종료 시)
+        searchIndexHolder.upsert(saved);
+
         log.info("Successfully wrote {} festivals", chunk.size());
         
         // 메모리 정리를 위한 가비지 컬렉션 힌트
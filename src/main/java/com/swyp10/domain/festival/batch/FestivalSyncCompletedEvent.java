@@ -0,0 +1,16 @@
+package com.swyp10.domain.festival.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+
+/**
+ * 축제 동기화 Job 종료 이벤트 - 메모리 인덱스/스냅샷 재빌드 트리거
+ * 다른 인스턴스가 동기화한 경우(catalog_versions 폴링)에도 발행하며, 이때 jobExecutionId는 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class FestivalSyncCompletedEvent {
+    private final Long jobExecutionId;
+    private final BatchStatus status;
+}
@@ -0,0 +1,24 @@
+package com.swyp10.domain.festival.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 축제 동기화 Job 종료 시 FestivalSyncCompletedEvent 발행
+ * 실패/스킵한 경우에도 발행 - 이미 저장된 데이터 기준으로 인덱스를 다시 만든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class FestivalSyncJobListener implements JobExecutionListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        log.info("[Festival Batch] Job finished - status: {}, publishing sync completed event", jobExecution.getStatus());
+        eventPublisher.publishEvent(new FestivalSyncCompletedEvent(jobExecution.getId(), jobExecution.getStatus()));
+    }
+}
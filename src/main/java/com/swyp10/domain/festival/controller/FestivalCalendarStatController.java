@@ -1,12 +1,17 @@
 package com.swyp10.domain.festival.controller;
 
 import com.swyp10.domain.festival.dto.response.FestivalDailyCountResponse;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
 import com.swyp10.domain.festival.service.FestivalService;
+import com.swyp10.domain.festival.service.FestivalVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.time.LocalDate;
 
@@ -17,16 +22,24 @@ import java.time.LocalDate;
 public class FestivalCalendarStatController {
 
     private final FestivalService festivalService;
+    private final FestivalVersions festivalVersions;
 
     @Operation(
         summary = "달력 월별 일자별 축제 개수 조회",
-        description = "특정 월의 각 날짜별 진행 중인 축제 개수 조회"
+        description = "특정 월의 각 날짜별 진행 중인 축제 개수 조회 (달력 리스트와 같은 지역/테마/누구랑 필터 적용 가능)"
     )
     @GetMapping("/calendar/daily-count")
     public FestivalDailyCountResponse getDailyFestivalCount(
         @RequestParam("startDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
-        @RequestParam("endDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
+        @RequestParam("endDate") @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+        @RequestParam(value = "region", required = false) RegionFilter region,
+        @RequestParam(value = "theme", required = false) FestivalTheme theme,
+        @RequestParam(value = "withWhom", required = false) FestivalWithWhom withWhom,
+        WebRequest webRequest
     ) {
-        return festivalService.getDailyFestivalCount(startDate, endDate);
+        if (festivalVersions.checkCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return festivalService.getDailyFestivalCount(startDate, endDate, region, theme, withWhom);
     }
 }
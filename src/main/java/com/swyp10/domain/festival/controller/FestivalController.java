@@ -2,18 +2,29 @@ package com.swyp10.domain.festival.controller;
 
 import com.swyp10.config.security.OptionalUserId;
 import com.swyp10.domain.festival.dto.request.*;
+import com.swyp10.domain.festival.dto.response.FestivalFacetResponse;
 import com.swyp10.domain.festival.dto.response.FestivalListResponse;
+import com.swyp10.domain.festival.dto.response.FestivalMapClusterResponse;
 import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopListResponse;
 import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopResponse;
 import com.swyp10.domain.festival.service.FestivalService;
+import com.swyp10.domain.festival.service.FestivalVersions;
+import com.swyp10.global.response.SerializedResponseCache;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springdoc.core.annotations.ParameterObject;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.util.function.Supplier;
 
 @Slf4j
 @RestController
@@ -23,51 +34,113 @@ import org.springframework.web.bind.annotation.*;
 public class FestivalController {
 
     private final FestivalService festivalService;
+    private final FestivalVersions festivalVersions;
+    private final SerializedResponseCache serializedResponseCache;
 
     @Operation(summary = "축제 리스트 조회 - 지도 페이지", description = "축제 리스트 조회 - 지도 페이지")
     @GetMapping("/map")
     public FestivalListResponse getFestivalsForMap(
-            @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
-            @ModelAttribute @ParameterObject FestivalMapRequest request
-    ) {
+            @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId,  // Swagger에서 숨김
+            @ModelAttribute @ParameterObject FestivalMapRequest request,
+            WebRequest webRequest,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse
+    ) throws IOException {
+        if (userId == null) {
+            return writeCatalogCached(webRequest, servletRequest, servletResponse, request,
+                () -> festivalService.getFestivalsForMap(null, request));
+        }
         return festivalService.getFestivalsForMap(userId, request);
     }
 
+    @Operation(summary = "지도 마커 클러스터 조회", description = "지도 영역과 줌 레벨 기준으로 축제 마커를 격자 단위로 묶은 클러스터 조회")
+    @GetMapping("/map/clusters")
+    public FestivalMapClusterResponse getFestivalMapClusters(
+            @ModelAttribute @ParameterObject @Valid FestivalMapClusterRequest request,
+            WebRequest webRequest
+    ) {
+        if (festivalVersions.checkCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return festivalService.getFestivalMapClusters(request);
+    }
+
     @Operation(summary = "축제 리스트 조회 - 달력 페이지", description = "축제 리스트 조회 - 달력 페이지")
     @GetMapping("/calendar")
     public FestivalListResponse getFestivalsForCalendar(
-            @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
-            @ModelAttribute @ParameterObject FestivalCalendarRequest request
-    ) {
+            @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId,  // Swagger에서 숨김
+            @ModelAttribute @ParameterObject FestivalCalendarRequest request,
+            WebRequest webRequest,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse
+    ) throws IOException {
+        if (userId == null) {
+            return writeCatalogCached(webRequest, servletRequest, servletResponse, request,
+                () -> festivalService.getFestivalsForCalendar(null, request));
+        }
         return festivalService.getFestivalsForCalendar(userId, request);
     }
 
     @Operation(summary = "축제 리스트 조회 - 맞춤 축제 페이지", description = "축제 리스트 조회 - 맞춤 축제 페이지")
     @GetMapping("/personal-test")
     public FestivalListResponse getFestivalsForPersonalTest(
-            @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
-            @ModelAttribute @ParameterObject FestivalPersonalTestRequest request
-    ) {
+            @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId,  // Swagger에서 숨김
+            @ModelAttribute @ParameterObject FestivalPersonalTestRequest request,
+            WebRequest webRequest,
+            HttpServletRequest servletRequest,
+            HttpServletResponse servletResponse
+    ) throws IOException {
+        if (userId == null) {
+            return writeCatalogCached(webRequest, servletRequest, servletResponse, request,
+                () -> festivalService.getFestivalsForPersonalTest(null, request));
+        }
         return festivalService.getFestivalsForPersonalTest(userId, request);
     }
 
     @Operation(summary = "축제 리스트 조회 - 검색 페이지", description = "축제 리스트 조회 - 검색 페이지")
     @GetMapping("/search")
     public FestivalListResponse searchFestivals(
-            @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
-            @ModelAttribute @ParameterObject FestivalSearchRequest request
+            @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId,  // Swagger에서 숨김
+            @ModelAttribute @ParameterObject FestivalSearchRequest request,
+            WebRequest webRequest
     ) {
+        // 사용자와 무관한 응답이면 변경이 없을 때 조회 없이 304
+        if (userId == null && festivalVersions.checkCatalogNotModified(webRequest)) {
+            festivalService.recordSearchKeyword(request);
+            return null;
+        }
         return festivalService.searchFestivals(userId, request);
     }
 
+    @Operation(summary = "필터별 축제 개수", description = "지역/테마/누구랑/상태 값별 축제 개수 조회 (각 필터 개수는 그 필터를 뺀 나머지 조건 적용)")
+    @GetMapping("/facets")
+    public FestivalFacetResponse getFestivalFacets(
+        @ModelAttribute @ParameterObject FestivalFacetRequest request,
+        WebRequest webRequest
+    ) {
+        if (festivalVersions.checkCatalogNotModified(webRequest)) {
+            return null;
+        }
+        return festivalService.getFestivalFacets(request);
+    }
+
     @Operation(summary = "이달의 축제", description = "현재 월 기준으로 viewCount가 가장 높은 5개 축제 조회 (로그인 불필요)")
     @GetMapping("/monthly-top")
     public FestivalMonthlyTopListResponse getMonthlyTopFestivals(
-        @Parameter(hidden = true) @OptionalUserId Long userId  // 로그인 선택적, Swagger에서 숨김
+        @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId  // 로그인 선택적, Swagger에서 숨김
     ) {
         return festivalService.getMonthlyTopFestivals(userId);
     }
 
+    @Operation(summary = "급상승 축제", description = "최근 조회일수록 가중치를 크게 둔 조회수 점수(반감기 3일) 순으로 축제 조회 (로그인 불필요)")
+    @GetMapping("/trending")
+    public FestivalListResponse getTrendingFestivals(
+        @Parameter(hidden = true) @OptionalUserId(bookmarkOverlay = true) Long userId,  // 로그인 선택적, Swagger에서 숨김
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return festivalService.getTrendingFestivals(userId, limit);
+    }
+
     @Operation(
             summary = "축제 리스트 조회 - 마이페이지",
             description = "내 북마크한 축제 목록(페이징)",
@@ -80,4 +153,15 @@ public class FestivalController {
     ) {
         return festivalService.getMyBookmarkedFestivals(userId, request);
     }
-}
\ No newline at end of file
+
+    // 사용자와 무관한 응답이면 변경이 없을 때 조회 없이 304, 아니면 직렬화해 둔 응답 바이트를 그대로 씀 (본문을 직접 썼으므로 null 반환)
+    // 캐시 키는 바인딩된 요청 DTO 기준 (모르는 파라미터를 붙여 캐시를 우회할 수 없게)
+    private <T> T writeCatalogCached(WebRequest webRequest, HttpServletRequest servletRequest,
+                                     HttpServletResponse servletResponse, Object params,
+                                     Supplier<T> loader) throws IOException {
+        if (!festivalVersions.checkCatalogNotModified(webRequest)) {
+            serializedResponseCache.write(servletRequest, servletResponse, params, festivalVersions.catalogTag(), loader);
+        }
+        return null;
+    }
+}
@@ -3,15 +3,17 @@ package com.swyp10.domain.festival.controller;
 import com.swyp10.config.security.OptionalUserId;
 import com.swyp10.domain.festival.dto.response.FestivalDetailResponse;
 import com.swyp10.domain.festival.service.FestivalDetailService;
-import com.swyp10.domain.festival.service.FestivalService;
+import com.swyp10.domain.festival.service.FestivalVersions;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1/festivals")
@@ -20,13 +22,38 @@ import org.springframework.web.bind.annotation.RestController;
 public class FestivalDetailController {
 
     private final FestivalDetailService festivalDetailService;
+    private final FestivalVersions festivalVersions;
 
-    @Operation(summary = "축제 상세 조회", description = "축제 상세 조회")
+    @Operation(summary = "축제 상세 조회", description = "축제 상세 조회 (If-None-Match가 현재 ETag와 같으면 304)")
     @GetMapping("/{festivalId}")
     public FestivalDetailResponse getFestivalDetail(
         @PathVariable Long festivalId,
-        @Parameter(hidden = true) @OptionalUserId Long userId  // Swagger에서 숨김
+        @Parameter(hidden = true) @OptionalUserId Long userId,  // Swagger에서 숨김
+        HttpServletRequest request,
+        WebRequest webRequest
     ) {
-        return festivalDetailService.getFestivalDetail(festivalId, userId);
+        Boolean bookmarked = userId != null ? festivalDetailService.isBookmarked(festivalId, userId) : null;
+        // 존재를 확인한 축제만 변경이 없으면 조회 없이 304 (조회수는 그대로 셈)
+        boolean confirmed = festivalVersions.isConfirmed(festivalId);
+        if (confirmed && festivalVersions.checkFestivalNotModified(webRequest, festivalId, bookmarked)) {
+            festivalDetailService.recordView(festivalId, userId, clientKey(request));
+            return null;
+        }
+        FestivalDetailResponse detail = festivalDetailService.getFestivalDetail(
+            festivalId, userId, clientKey(request), Boolean.TRUE.equals(bookmarked));
+        // 상세를 만들었으니 있는 축제 - 처음 확인했으면 여기서 ETag를 붙임 (조회수는 이미 셈, 같으면 본문만 생략)
+        if (!confirmed) {
+            festivalVersions.confirmed(festivalId);
+            if (festivalVersions.checkFestivalNotModified(webRequest, festivalId, bookmarked)) {
+                return null;
+            }
+        }
+        return detail;
+    }
+
+    // 비로그인 조회자 구분용 (IP + User-Agent), 원문은 저장하지 않고 HyperLogLog 해시로만 사용
+    // IP는 신뢰하는 프록시 기준으로 서버가 정한 주소 (server.forward-headers-strategy) - X-Forwarded-For 첫 값은 클라이언트가 바꿀 수 있음
+    private String clientKey(HttpServletRequest request) {
+        return request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
     }
 }
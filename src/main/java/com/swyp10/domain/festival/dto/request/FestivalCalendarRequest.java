@@ -12,7 +12,7 @@ import org.springframework.format.annotation.DateTimeFormat;
 import java.time.LocalDate;
 
 @Getter @Setter
-public class FestivalCalendarRequest extends FestivalPageRequest {
+public class FestivalCalendarRequest extends FestivalCursorPageRequest {
 
     @Schema(description = "지역 필터", required = false, nullable = true, example = "SEOUL")
     private RegionFilter region;
@@ -0,0 +1,28 @@
+package com.swyp10.domain.festival.dto.request;
+
+import com.swyp10.domain.festival.enums.FestivalPageMode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 커서(keyset) 페이징을 지원하는 축제 목록 요청
+ * cursor 파라미터가 없으면 기존 page/size(offset) 방식 그대로 동작한다.
+ */
+@Getter @Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class FestivalCursorPageRequest extends FestivalPageRequest {
+
+    @Schema(description = "다음 페이지 커서 (빈 값이면 커서 방식 첫 페이지, 생략하면 page 기반 조회)", required = false, nullable = true, example = "MjAyNS0wOC0wMVQxMDowMF8xMg")
+    private String cursor;
+
+    @Schema(description = "page 기반 조회 응답 방식 (PAGE: 전체 개수 포함, SLICE: count 없이 hasNext만)", required = false, nullable = false, example = "SLICE")
+    @Builder.Default
+    private FestivalPageMode mode = FestivalPageMode.PAGE;
+}
@@ -0,0 +1,51 @@
+package com.swyp10.domain.festival.dto.request;
+
+import com.swyp10.domain.festival.enums.FestivalPeriod;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 필터별 축제 개수 조회 조건 (지도 / 달력 목록 필터를 합친 것)
+ */
+@Getter @Setter
+public class FestivalFacetRequest {
+
+    @Schema(description = "축제 상태", required = false, nullable = false, example = "ONGOING")
+    private FestivalStatus status = FestivalStatus.ALL;
+
+    @Schema(description = "지역 필터", required = false, nullable = true, example = "SEOUL")
+    private RegionFilter region;
+
+    @Schema(description = "누구랑", required = false, nullable = false, example = "FAMILY")
+    private FestivalWithWhom withWhom = FestivalWithWhom.ALL;
+
+    @Schema(description = "테마", required = false, nullable = false, example = "CULTURE_ART")
+    private FestivalTheme theme = FestivalTheme.ALL;
+
+    @Schema(description = "기간 (date가 있으면 무시)", required = false, nullable = false, example = "THIS_WEEK")
+    private FestivalPeriod period = FestivalPeriod.ALL;
+
+    @Schema(description = "조회 기준 날짜 (달력 화면, 이 날짜에 진행 중인 축제만)", required = false, nullable = true, example = "2025-08-01")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate date;
+
+    @Schema(description = "좌상단 위도", required = false, nullable = true, example = "37.6")
+    private Double latTopLeft;
+
+    @Schema(description = "좌상단 경도", required = false, nullable = true, example = "126.9")
+    private Double lngTopLeft;
+
+    @Schema(description = "우하단 위도", required = false, nullable = true, example = "37.4")
+    private Double latBottomRight;
+
+    @Schema(description = "우하단 경도", required = false, nullable = true, example = "127.1")
+    private Double lngBottomRight;
+}
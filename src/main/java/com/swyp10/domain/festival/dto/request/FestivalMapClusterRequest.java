@@ -0,0 +1,40 @@
+package com.swyp10.domain.festival.dto.request;
+
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter @Setter
+public class FestivalMapClusterRequest {
+
+    @Schema(description = "축제 상태", required = false, nullable = false, example = "ONGOING")
+    private FestivalStatus status = FestivalStatus.ALL;
+
+    @Schema(description = "테마", required = false, nullable = false, example = "CULTURE_ART")
+    private FestivalTheme theme = FestivalTheme.ALL;
+
+    @Schema(description = "좌상단 위도", required = false, nullable = true, example = "37.6")
+    private Double latTopLeft;
+
+    @Schema(description = "좌상단 경도", required = false, nullable = true, example = "126.9")
+    private Double lngTopLeft;
+
+    @Schema(description = "우하단 위도", required = false, nullable = true, example = "37.4")
+    private Double latBottomRight;
+
+    @Schema(description = "우하단 경도", required = false, nullable = true, example = "127.1")
+    private Double lngBottomRight;
+
+    @Schema(description = "지도 줌 레벨 (웹 지도 기준, 클수록 확대)", required = false, example = "7", defaultValue = "7")
+    @Min(value = 0, message = "줌 레벨은 0 이상이어야 합니다.")
+    @Max(value = 21, message = "줌 레벨은 21 이하여야 합니다.")
+    private Integer zoom = 7;
+
+    public boolean hasViewport() {
+        return latTopLeft != null && latBottomRight != null && lngTopLeft != null && lngBottomRight != null;
+    }
+}
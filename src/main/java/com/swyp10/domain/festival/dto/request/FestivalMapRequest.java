@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Getter @Setter
-public class FestivalMapRequest extends FestivalPageRequest {
+public class FestivalMapRequest extends FestivalCursorPageRequest {
 
     @Schema(description = "축제 상태", required = false, nullable = false, example = "ONGOING")
     private FestivalStatus status = FestivalStatus.ALL;
@@ -6,7 +6,7 @@ import lombok.Getter;
 import lombok.Setter;
 
 @Getter @Setter
-public class FestivalPersonalTestRequest extends FestivalPageRequest {
+public class FestivalPersonalTestRequest extends FestivalCursorPageRequest {
     @Schema( description = "테스트 성향 결과", required = false, nullable = true, example = "ENERGIZER")
     private FestivalPersonalityType personalityType;
 }
@@ -11,7 +11,7 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-public class FestivalSearchRequest extends FestivalPageRequest {
+public class FestivalSearchRequest extends FestivalCursorPageRequest {
     @Schema(description = "검색 키워드 (축제명, 설명, 지역명 등 자유 검색)", required = false, nullable = true, example = "벚꽃축제")
     private String searchParam;
 }
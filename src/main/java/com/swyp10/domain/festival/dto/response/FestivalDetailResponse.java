@@ -8,7 +8,7 @@ import lombok.Getter;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class FestivalDetailResponse {
     @Schema(description = "축제 ID", required = true, nullable = false, example = "1001")
     private Long id;
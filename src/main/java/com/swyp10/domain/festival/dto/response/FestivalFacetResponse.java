@@ -0,0 +1,38 @@
+package com.swyp10.domain.festival.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class FestivalFacetResponse {
+    @Schema(description = "모든 필터를 적용한 축제 개수", example = "42")
+    private long total;
+
+    @Schema(description = "지역별 개수 (지역 외 필터 적용, ALL은 지역 필터를 뺀 전체)")
+    private List<FacetCount> regions;
+
+    @Schema(description = "테마별 개수 (테마 외 필터 적용)")
+    private List<FacetCount> themes;
+
+    @Schema(description = "누구랑별 개수 (누구랑 외 필터 적용)")
+    private List<FacetCount> withWhoms;
+
+    @Schema(description = "상태별 개수 (상태 외 필터 적용)")
+    private List<FacetCount> statuses;
+
+    @Getter
+    @AllArgsConstructor
+    public static class FacetCount {
+        @Schema(description = "필터 값", example = "SEOUL")
+        private String value;
+        @Schema(description = "표시 이름", example = "서울")
+        private String displayName;
+        @Schema(description = "축제 개수", example = "17")
+        private long count;
+    }
+}
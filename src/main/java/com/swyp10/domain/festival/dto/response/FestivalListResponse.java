@@ -9,5 +9,10 @@ import lombok.experimental.SuperBuilder;
 @SuperBuilder
 @Schema(description = "축제 목록 응답")
 public class FestivalListResponse extends PageResponse<FestivalSummaryResponse> {
-    // 추가적인 필드가 필요한 경우 여기에 추가
+
+    @Schema(description = "다음 페이지 존재 여부 (SLICE 모드/커서 방식 조회에서만)", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "다음 페이지 커서 (SLICE 모드/커서 방식 조회에서만, 마지막 페이지면 생략)", example = "MjAyNS0wOC0wMVQxMDowMF8xMg")
+    private String nextCursor;
 }
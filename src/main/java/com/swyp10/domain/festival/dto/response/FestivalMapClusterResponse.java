@@ -0,0 +1,37 @@
+package com.swyp10.domain.festival.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "지도 마커 클러스터 응답")
+public class FestivalMapClusterResponse {
+    @Schema(description = "요청 줌 레벨", example = "7")
+    private int zoom;
+
+    @Schema(description = "클러스터링에 사용한 geohash 정밀도", example = "3")
+    private int precision;
+
+    @Schema(description = "클러스터 리스트")
+    private List<Cluster> clusters;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Cluster {
+        @Schema(description = "클러스터 셀 geohash", example = "wyd")
+        private String cellId;
+        @Schema(description = "클러스터 중심 위도 (축제 좌표 평균)", example = "37.5665")
+        private double lat;
+        @Schema(description = "클러스터 중심 경도 (축제 좌표 평균)", example = "126.978")
+        private double lng;
+        @Schema(description = "클러스터에 포함된 축제 개수", example = "12")
+        private int count;
+        @Schema(description = "대표 축제 ID (조회수 최다)", example = "1")
+        private Long representativeId;
+    }
+}
@@ -64,4 +64,23 @@ public class FestivalMonthlyTopResponse {
                 String.valueOf(festival.getBasicInfo().getMapy()) : null)
             .build();
     }
+
+    /**
+     * 공유 스냅샷의 카드를 요청마다 북마크 여부만 바꿔 쓰도록 복사
+     */
+    public FestivalMonthlyTopResponse copy() {
+        return FestivalMonthlyTopResponse.builder()
+            .id(id)
+            .thumbnail(thumbnail)
+            .theme(theme)
+            .title(title)
+            .overview(overview)
+            .bookmarked(bookmarked)
+            .address(address)
+            .startDate(startDate)
+            .endDate(endDate)
+            .map_x(map_x)
+            .map_y(map_y)
+            .build();
+    }
 }
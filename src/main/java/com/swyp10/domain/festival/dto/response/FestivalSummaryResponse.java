@@ -10,7 +10,7 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Getter @Setter
-@Builder
+@Builder(toBuilder = true)
 public class FestivalSummaryResponse {
     @Schema(description = "축제 ID", required = true, nullable = false, example = "1234")
     private Long id;
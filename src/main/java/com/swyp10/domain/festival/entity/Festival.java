@@ -5,7 +5,6 @@ import com.swyp10.common.BaseTimeEntity;
 import com.swyp10.domain.festival.enums.*;
 import com.swyp10.domain.review.entity.UserReview;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,11 +15,11 @@ import java.util.List;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
-@Table(name = "festivals")
+@Table(name = "festivals", indexes = {
+    @Index(name = "idx_festivals_geohash", columnList = "geohash")
+})
 @NoArgsConstructor(access = PROTECTED)
-@AllArgsConstructor
 @Getter
-@Builder
 public class Festival extends BaseTimeEntity {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,12 +32,6 @@ public class Festival extends BaseTimeEntity {
     @Embedded
     private FestivalBasicInfo basicInfo;
 
-    @Column(columnDefinition = "TEXT")
-    private String overview;
-
-    @Embedded
-    private FestivalDetailIntro detailIntro;
-
     @Enumerated(EnumType.STRING)
     private FestivalPersonalityType personalityType;
 
@@ -55,35 +48,78 @@ public class Festival extends BaseTimeEntity {
     private RegionFilter regionFilter;
 
     @OneToMany(mappedBy = "festival", cascade = CascadeType.ALL, orphanRemoval = true)
-    @Builder.Default
     private List<FestivalImage> detailImages = new ArrayList<>();
 
     @OneToOne(mappedBy = "festival", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private FestivalStatistics statistics;
 
+    // overview / 소개 TEXT 컬럼은 festival_details로 분리 (목록 조회는 projection이라 읽지 않음)
+    @OneToOne(mappedBy = "festival", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @JsonIgnore
+    private FestivalDetail detail;
+
     @OneToMany(mappedBy = "festival", cascade = CascadeType.ALL, orphanRemoval = true)
-    @Builder.Default
     @JsonIgnore
     private List<FestivalTravelCourse> travelCourses = new ArrayList<>();
 
     @OneToMany(mappedBy = "festival", cascade = CascadeType.ALL, orphanRemoval = true)
-    @Builder.Default
     @JsonIgnore
     private List<UserReview> reviews = new ArrayList<>();
 
-    // 
+    // overview / detailIntro는 빌더에서 받아 festival_details 행으로 함께 저장
+    @Builder
+    private Festival(Long festivalId, String contentId, FestivalBasicInfo basicInfo, String overview,
+                     FestivalDetailIntro detailIntro, FestivalPersonalityType personalityType, FestivalStatus status,
+                     FestivalTheme theme, FestivalWithWhom withWhom, RegionFilter regionFilter,
+                     List<FestivalImage> detailImages) {
+        this.festivalId = festivalId;
+        this.contentId = contentId;
+        this.basicInfo = basicInfo;
+        this.personalityType = personalityType;
+        this.status = status;
+        this.theme = theme;
+        this.withWhom = withWhom;
+        this.regionFilter = regionFilter;
+        if (detailImages != null) {
+            this.detailImages = detailImages;
+        }
+        this.detail = FestivalDetail.builder()
+            .festival(this)
+            .overview(overview)
+            .detailIntro(detailIntro)
+            .build();
+    }
+
+    public String getOverview() {
+        return detail != null ? detail.getOverview() : null;
+    }
+
+    public FestivalDetailIntro getDetailIntro() {
+        return detail != null ? detail.getDetailIntro() : null;
+    }
+
+    // 분리 이전에 저장된 축제는 상세 행이 없을 수 있으므로 처음 갱신할 때 만든다
     public void updateOverview(String overview) {
-        this.overview = overview;
+        ensureDetail().updateOverview(overview);
     }
 
     public void updateDetailIntro(FestivalDetailIntro detailIntro) {
-        this.detailIntro = detailIntro;
+        ensureDetail().updateDetailIntro(detailIntro);
     }
 
     public void updateBasicInfo(FestivalBasicInfo basicInfo) {
         this.basicInfo = basicInfo;
     }
 
+    // 빌더로 basicInfo를 직접 만든 경우에도 좌표와 geohash가 어긋나지 않도록 저장 시점에 맞춤
+    @PrePersist
+    @PreUpdate
+    void syncGeohash() {
+        if (basicInfo != null) {
+            basicInfo.syncGeohash();
+        }
+    }
+
     // 연관 관계 메서드
     public void initializeStatistics() {
         if (this.statistics == null) {
@@ -97,6 +133,13 @@ public class Festival extends BaseTimeEntity {
         image.setFestival(this);
     }
 
+    private FestivalDetail ensureDetail() {
+        if (this.detail == null) {
+            this.detail = FestivalDetail.builder().festival(this).build();
+        }
+        return this.detail;
+    }
+
     public void clearDetailImages() {
         detailImages.forEach(img -> img.setFestival(null));
         detailImages.clear();
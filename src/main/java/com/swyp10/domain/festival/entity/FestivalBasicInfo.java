@@ -1,5 +1,6 @@
 package com.swyp10.domain.festival.entity;
 
+import com.swyp10.domain.festival.index.GeoHash;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -35,6 +36,10 @@ public class FestivalBasicInfo {
 
     private Double mapy;
 
+    // 지도 영역 조회용 공간 키 (mapy, mapx로 계산, idx_festivals_geohash)
+    @Column(length = 12)
+    private String geohash;
+
     private String modifiedtime;
 
     private String sigungucode;
@@ -57,4 +62,11 @@ public class FestivalBasicInfo {
     private String progresstype;
 
     private String festivaltype;
+
+    /**
+     * 좌표 기준으로 geohash 다시 계산 (좌표가 없으면 null)
+     */
+    public void syncGeohash() {
+        this.geohash = GeoHash.encode(mapy, mapx);
+    }
 }
@@ -0,0 +1,32 @@
+package com.swyp10.domain.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 축제별 일별 고유 조회자 HyperLogLog sketch (레지스터 4096바이트)
+ */
+@Entity
+@Table(name = "festival_daily_viewers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FestivalDailyViewers {
+
+    @EmbeddedId
+    private FestivalDailyViewersId id;
+
+    @Column(nullable = false, length = 4096)
+    private byte[] sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public void updateSketch(byte[] sketch) {
+        this.sketch = sketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
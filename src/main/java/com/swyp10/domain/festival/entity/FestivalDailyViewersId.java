@@ -0,0 +1,25 @@
+package com.swyp10.domain.festival.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class FestivalDailyViewersId implements Serializable {
+
+    @Column(name = "festival_id")
+    private Long festivalId;
+
+    @Column(name = "view_date")
+    private LocalDate viewDate;
+}
@@ -0,0 +1,46 @@
+package com.swyp10.domain.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 축제 상세 텍스트 (overview + 소개 정보)
+ * 목록/필터 조회가 읽는 festivals 행을 좁게 유지하려고 TEXT 컬럼만 festival_details로 분리했다.
+ * festivals와 PK를 공유하고, 상세 화면과 배치 저장에서만 읽고 쓴다.
+ */
+@Entity
+@Table(name = "festival_details")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FestivalDetail {
+
+    @Id
+    @Column(name = "festival_id")
+    private Long festivalId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "festival_id")
+    private Festival festival;
+
+    @Column(columnDefinition = "TEXT")
+    private String overview;
+
+    @Embedded
+    private FestivalDetailIntro detailIntro;
+
+    @Builder
+    public FestivalDetail(Festival festival, String overview, FestivalDetailIntro detailIntro) {
+        this.festival = festival;
+        this.overview = overview;
+        this.detailIntro = detailIntro;
+    }
+
+    public void updateOverview(String overview) {
+        this.overview = overview;
+    }
+
+    public void updateDetailIntro(FestivalDetailIntro detailIntro) {
+        this.detailIntro = detailIntro;
+    }
+}
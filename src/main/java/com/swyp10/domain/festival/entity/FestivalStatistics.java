@@ -33,6 +33,14 @@ public class FestivalStatistics {
     @Column(name = "rating_count", nullable = false)
     private int ratingCount;
 
+    // 이번 달 고유 조회자 수 추정치 (HyperLogLog) - uniqueViewersMonth가 이번 달일 때만 유효
+    @Column(name = "unique_viewers", nullable = false)
+    private int uniqueViewers;
+
+    // uniqueViewers를 집계한 달 (yyyyMM)
+    @Column(name = "unique_viewers_month")
+    private Integer uniqueViewersMonth;
+
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
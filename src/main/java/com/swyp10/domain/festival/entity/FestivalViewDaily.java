@@ -0,0 +1,27 @@
+package com.swyp10.domain.festival.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 축제별 일별 상세 조회수 (급상승 축제 점수 계산용 시계열)
+ */
+@Entity
+@Table(name = "festival_view_daily")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FestivalViewDaily {
+
+    @EmbeddedId
+    private FestivalViewDailyId id;
+
+    @Column(name = "view_count", nullable = false)
+    private long viewCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
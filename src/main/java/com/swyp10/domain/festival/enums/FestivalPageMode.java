@@ -0,0 +1,24 @@
+package com.swyp10.domain.festival.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+public enum FestivalPageMode {
+    PAGE("페이지"),     // 전체 개수/페이지 수 포함
+    SLICE("슬라이스");  // count 없이 다음 페이지 존재 여부(hasNext)만
+
+    private final String displayName;
+
+    FestivalPageMode(String value) { this.displayName = value; }
+
+    public String getDisplayName() { return displayName; }
+
+    @JsonCreator
+    public static FestivalPageMode from(String value) {
+        for (FestivalPageMode mode : values()) {
+            if (mode.displayName.equalsIgnoreCase(value) || mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid FestivalPageMode: " + value);
+    }
+}
@@ -3,6 +3,10 @@ package com.swyp10.domain.festival.enums;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 public enum FestivalPeriod {
     THIS_WEEK("이번주"),
     THIS_MONTH("이번달"),
@@ -28,4 +32,28 @@ public enum FestivalPeriod {
     public boolean isAll() {
         return this == ALL;
     }
+
+    /**
+     * 기준일(today) 기준 기간 시작일 (ALL이면 null)
+     */
+    public LocalDate startDate(LocalDate today) {
+        return switch (this) {
+            case THIS_WEEK -> today.with(DayOfWeek.MONDAY);
+            case THIS_MONTH -> YearMonth.from(today).atDay(1);
+            case NEXT_MONTH -> YearMonth.from(today).plusMonths(1).atDay(1);
+            case ALL -> null;
+        };
+    }
+
+    /**
+     * 기준일(today) 기준 기간 종료일 (ALL이면 null)
+     */
+    public LocalDate endDate(LocalDate today) {
+        return switch (this) {
+            case THIS_WEEK -> today.with(DayOfWeek.SUNDAY);
+            case THIS_MONTH -> YearMonth.from(today).atEndOfMonth();
+            case NEXT_MONTH -> YearMonth.from(today).plusMonths(1).atEndOfMonth();
+            case ALL -> null;
+        };
+    }
 }
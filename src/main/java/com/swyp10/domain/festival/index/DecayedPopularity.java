@@ -0,0 +1,78 @@
+package com.swyp10.domain.festival.index;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 지수 감쇠 인기 점수 (반감기마다 예전 조회의 무게가 절반으로 줄어듦)
+ *
+ * 점수를 기준 시각(base)의 가치로 환산해서 저장하므로, 조회가 들어올 때 그 축제 점수에만 더하면 되고
+ * 시간이 지나도 모든 점수에 같은 배율이 곱해질 뿐이라 순위는 다시 계산할 필요가 없다.
+ * 환산 배율이 너무 커지면 기준 시각을 옮기면서 한 번에 줄이고, 거의 0이 된 축제는 버린다.
+ * 동기화는 호출하는 쪽에서 한다.
+ */
+public final class DecayedPopularity {
+
+    // 2^40배를 넘으면 기준 시각을 옮김 (double 정밀도 여유)
+    private static final double MAX_EXPONENT = 40;
+    private static final double MIN_SCORE = 1e-3;
+
+    private final double halfLifeMillis;
+    private long baseMillis;
+    private final Map<Long, Double> scores = new HashMap<>();
+
+    public DecayedPopularity(long halfLifeMillis, long baseMillis) {
+        if (halfLifeMillis <= 0) {
+            throw new IllegalArgumentException("반감기는 0보다 커야 합니다.");
+        }
+        this.halfLifeMillis = halfLifeMillis;
+        this.baseMillis = baseMillis;
+    }
+
+    public void add(Long festivalId, long views, long atMillis) {
+        double exponent = (atMillis - baseMillis) / halfLifeMillis;
+        if (exponent > MAX_EXPONENT) {
+            rebase(atMillis);
+            exponent = 0;
+        }
+        scores.merge(festivalId, views * Math.pow(2, exponent), Double::sum);
+    }
+
+    /**
+     * nowMillis 시점의 감쇠 점수 (최근 조회 1회 = 1점)
+     */
+    public double score(Long festivalId, long nowMillis) {
+        Double score = scores.get(festivalId);
+        return score == null ? 0 : score * Math.pow(2, (baseMillis - nowMillis) / halfLifeMillis);
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    /**
+     * 점수 높은 순 축제 ID (최대 limit개)
+     */
+    @SuppressWarnings("unchecked")
+    public long[] ranking(int limit) {
+        Map.Entry<Long, Double>[] entries = scores.entrySet().toArray(new Map.Entry[0]);
+        Arrays.sort(entries, (a, b) -> {
+            int byScore = Double.compare(b.getValue(), a.getValue());
+            return byScore != 0 ? byScore : Long.compare(a.getKey(), b.getKey());
+        });
+        int size = Math.min(limit, entries.length);
+        long[] ranking = new long[size];
+        for (int i = 0; i < size; i++) {
+            ranking[i] = entries[i].getKey();
+        }
+        return ranking;
+    }
+
+    private void rebase(long newBaseMillis) {
+        double factor = Math.pow(2, (baseMillis - newBaseMillis) / halfLifeMillis);
+        scores.replaceAll((festivalId, score) -> score * factor);
+        scores.values().removeIf(score -> score < MIN_SCORE);
+        baseMillis = newBaseMillis;
+    }
+}
@@ -0,0 +1,236 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.response.FestivalFacetResponse;
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import com.swyp10.domain.festival.enums.FestivalPersonalityType;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * 목록 조회용 메모리 축제 카탈로그 (읽기 전용 스냅샷)
+ *
+ * 카드 컬럼은 행 번호로 접근하는 배열(날짜는 epoch day, 좌표는 double)로 들고,
+ * 필터 enum(상태/테마/누구랑/지역/성향)은 값마다 행 bitmap을 하나씩 만들어 둔다.
+ * 조회는 enum 조건 bitmap AND → 기간/영역 조건 확인 → 정렬 순서대로 페이지 구간의 행만 카드로 만든다.
+ * 행은 생성일 내림차순(지도/맞춤 축제 목록 순서)으로 두고, 달력 순서(시작일 오름차순)는 행 번호 배열로 따로 들고 있다.
+ */
+public final class FestivalCatalog {
+
+    // 날짜 없음 (비교 조건은 항상 거짓, SQL NULL과 같은 의미)
+    private static final int NO_DATE = Integer.MIN_VALUE;
+
+    public enum Order {
+        // 생성일 내림차순, ID 내림차순
+        CREATED_DESC,
+        // 시작일 오름차순(없으면 앞), ID 오름차순
+        START_DATE_ASC
+    }
+
+    private final int size;
+    private final long[] ids;
+    private final String[] thumbnails;
+    private final String[] titles;
+    private final String[] addresses;
+    private final int[] startDays;
+    private final int[] endDays;
+    private final double[] mapx;
+    private final double[] mapy;
+    private final FestivalStatus[] statuses;
+    private final FestivalTheme[] themes;
+    private final FestivalWithWhom[] withWhoms;
+    private final RegionFilter[] regions;
+    private final int[] byStartDate;
+    private final EnumMap<FestivalStatus, BitSet> statusBitmaps = new EnumMap<>(FestivalStatus.class);
+    private final EnumMap<FestivalTheme, BitSet> themeBitmaps = new EnumMap<>(FestivalTheme.class);
+    private final EnumMap<FestivalWithWhom, BitSet> withWhomBitmaps = new EnumMap<>(FestivalWithWhom.class);
+    private final EnumMap<RegionFilter, BitSet> regionBitmaps = new EnumMap<>(RegionFilter.class);
+    private final EnumMap<FestivalPersonalityType, BitSet> personalityBitmaps = new EnumMap<>(FestivalPersonalityType.class);
+
+    private FestivalCatalog(List<FestivalCatalogRow> rows) {
+        this.size = rows.size();
+        this.ids = new long[size];
+        this.thumbnails = new String[size];
+        this.titles = new String[size];
+        this.addresses = new String[size];
+        this.startDays = new int[size];
+        this.endDays = new int[size];
+        this.mapx = new double[size];
+        this.mapy = new double[size];
+        this.statuses = new FestivalStatus[size];
+        this.themes = new FestivalTheme[size];
+        this.withWhoms = new FestivalWithWhom[size];
+        this.regions = new RegionFilter[size];
+        for (int row = 0; row < size; row++) {
+            FestivalCatalogRow source = rows.get(row);
+            ids[row] = source.festivalId();
+            thumbnails[row] = source.thumbnail();
+            titles[row] = source.title();
+            addresses[row] = source.address();
+            startDays[row] = epochDay(source.startDate());
+            endDays[row] = epochDay(source.endDate());
+            mapx[row] = source.mapx() != null ? source.mapx() : Double.NaN;
+            mapy[row] = source.mapy() != null ? source.mapy() : Double.NaN;
+            statuses[row] = source.status();
+            themes[row] = source.theme();
+            withWhoms[row] = source.withWhom();
+            regions[row] = source.regionFilter();
+            mark(statusBitmaps, source.status(), row);
+            mark(themeBitmaps, source.theme(), row);
+            mark(withWhomBitmaps, source.withWhom(), row);
+            mark(regionBitmaps, source.regionFilter(), row);
+            mark(personalityBitmaps, source.personalityType(), row);
+        }
+        this.byStartDate = IntStream.range(0, size).boxed()
+            .sorted(Comparator.<Integer>comparingInt(row -> startDays[row]).thenComparingLong(row -> ids[row]))
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    /**
+     * rows는 생성일 내림차순, ID 내림차순으로 정렬돼 있어야 한다
+     */
+    public static FestivalCatalog build(List<FestivalCatalogRow> rows) {
+        return new FestivalCatalog(rows);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 조건에 맞는 축제 한 페이지 + 전체 개수
+     */
+    public Page<FestivalSummaryResponse> find(FestivalCatalogFilter filter, Order order, Pageable pageable) {
+        BitSet matches = matches(filter);
+        long offset = pageable.getOffset();
+        int limit = pageable.getPageSize();
+        List<FestivalSummaryResponse> content = new ArrayList<>(Math.min(limit, matches.cardinality()));
+
+        long position = 0;
+        if (order == Order.CREATED_DESC) {
+            for (int row = matches.nextSetBit(0); row >= 0 && content.size() < limit; row = matches.nextSetBit(row + 1)) {
+                if (position++ >= offset) {
+                    content.add(toResponse(row));
+                }
+            }
+        } else {
+            for (int i = 0; i < size && content.size() < limit; i++) {
+                int row = byStartDate[i];
+                if (matches.get(row) && position++ >= offset) {
+                    content.add(toResponse(row));
+                }
+            }
+        }
+        return new PageImpl<>(content, pageable, matches.cardinality());
+    }
+
+    /**
+     * 조건에 맞는 행 bitmap
+     */
+    public BitSet matches(FestivalCatalogFilter filter) {
+        BitSet matches = new BitSet(size);
+        matches.set(0, size);
+        and(matches, statusBitmaps, filter.status());
+        and(matches, themeBitmaps, filter.theme());
+        and(matches, withWhomBitmaps, filter.withWhom());
+        and(matches, regionBitmaps, filter.region());
+        and(matches, personalityBitmaps, filter.personalityType());
+        retainInRange(matches, filter);
+        return matches;
+    }
+
+    /**
+     * 필터별 축제 개수 - 기간/영역 조건에 맞는 축제를 한 번 훑으면서 facet마다 자기 필터만 빼고 집계
+     */
+    public FestivalFacetResponse facets(FestivalCatalogFilter filter) {
+        BitSet rows = new BitSet(size);
+        rows.set(0, size);
+        and(rows, personalityBitmaps, filter.personalityType());
+        retainInRange(rows, filter);
+
+        FestivalFacetCounter counter = new FestivalFacetCounter(filter);
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            counter.add(statuses[row], themes[row], withWhoms[row], regions[row], 1);
+        }
+        return counter.toResponse();
+    }
+
+    private void retainInRange(BitSet rows, FestivalCatalogFilter filter) {
+        if (!filter.hasPeriod() && !filter.hasViewport()) {
+            return;
+        }
+        for (int row = rows.nextSetBit(0); row >= 0; row = rows.nextSetBit(row + 1)) {
+            if (!inRange(filter, row)) {
+                rows.clear(row);
+            }
+        }
+    }
+
+    // 기간 겹침(시작일 <= end && 종료일 >= start), 영역 포함(between) - 값이 없으면 SQL처럼 거짓
+    private boolean inRange(FestivalCatalogFilter filter, int row) {
+        if (filter.hasPeriod()) {
+            if (startDays[row] == NO_DATE || endDays[row] == NO_DATE
+                || startDays[row] > filter.periodEnd().toEpochDay() || endDays[row] < filter.periodStart().toEpochDay()) {
+                return false;
+            }
+        }
+        if (filter.hasViewport()) {
+            // NaN(좌표 없음)은 모든 비교가 거짓
+            return mapy[row] >= filter.minLat() && mapy[row] <= filter.maxLat()
+                && mapx[row] >= filter.minLng() && mapx[row] <= filter.maxLng();
+        }
+        return true;
+    }
+
+    // FestivalSummaryRow.toResponse와 같은 값 (좌표가 없으면 "null" 문자열까지 동일)
+    private FestivalSummaryResponse toResponse(int row) {
+        FestivalTheme theme = themes[row];
+        return FestivalSummaryResponse.builder()
+            .id(ids[row])
+            .thumbnail(thumbnails[row])
+            .theme(theme != null ? theme.name() : null)
+            .title(titles[row])
+            .bookmarked(false)
+            .address(addresses[row])
+            .startDate(startDays[row] == NO_DATE ? null : LocalDate.ofEpochDay(startDays[row]))
+            .endDate(endDays[row] == NO_DATE ? null : LocalDate.ofEpochDay(endDays[row]))
+            .map_x(Double.isNaN(mapx[row]) ? "null" : String.valueOf(mapx[row]))
+            .map_y(Double.isNaN(mapy[row]) ? "null" : String.valueOf(mapy[row]))
+            .build();
+    }
+
+    private static int epochDay(LocalDate date) {
+        return date != null ? (int) date.toEpochDay() : NO_DATE;
+    }
+
+    private static <E extends Enum<E>> void mark(EnumMap<E, BitSet> bitmaps, E value, int row) {
+        if (value != null) {
+            bitmaps.computeIfAbsent(value, v -> new BitSet()).set(row);
+        }
+    }
+
+    private static <E extends Enum<E>> void and(BitSet matches, EnumMap<E, BitSet> bitmaps, E value) {
+        if (value == null) {
+            return;
+        }
+        BitSet bitmap = bitmaps.get(value);
+        if (bitmap == null) {
+            matches.clear();
+        } else {
+            matches.and(bitmap);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.request.FestivalCalendarRequest;
+import com.swyp10.domain.festival.dto.request.FestivalFacetRequest;
+import com.swyp10.domain.festival.dto.request.FestivalMapRequest;
+import com.swyp10.domain.festival.dto.request.FestivalPersonalTestRequest;
+import com.swyp10.domain.festival.enums.FestivalPeriod;
+import com.swyp10.domain.festival.enums.FestivalPersonalityType;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+
+import java.time.LocalDate;
+
+/**
+ * 메모리 카탈로그 조회 조건 (null이면 조건 없음, ALL은 만들 때 null로 바꿈)
+ * 각 목록 요청의 where 조건(FestivalCustomRepositoryImpl)과 같은 의미를 갖도록 요청별 팩토리로만 만든다.
+ */
+public record FestivalCatalogFilter(
+    FestivalStatus status,
+    FestivalTheme theme,
+    FestivalWithWhom withWhom,
+    RegionFilter region,
+    FestivalPersonalityType personalityType,
+    LocalDate periodStart,
+    LocalDate periodEnd,
+    Double minLat,
+    Double maxLat,
+    Double minLng,
+    Double maxLng
+) {
+
+    public static FestivalCatalogFilter forMap(FestivalMapRequest request, LocalDate today) {
+        FestivalPeriod period = request.getPeriod();
+        boolean hasPeriod = period != null && !period.isAll();
+        boolean hasViewport = request.getLatTopLeft() != null && request.getLatBottomRight() != null &&
+            request.getLngTopLeft() != null && request.getLngBottomRight() != null;
+        return new FestivalCatalogFilter(
+            request.getStatus() != null && !request.getStatus().isAll() ? request.getStatus() : null,
+            request.getTheme() != null && !request.getTheme().isAll() ? request.getTheme() : null,
+            request.getWithWhom() != null && !request.getWithWhom().isAll() ? request.getWithWhom() : null,
+            null,
+            null,
+            hasPeriod ? period.startDate(today) : null,
+            hasPeriod ? period.endDate(today) : null,
+            hasViewport ? request.getLatBottomRight() : null,
+            hasViewport ? request.getLatTopLeft() : null,
+            hasViewport ? request.getLngTopLeft() : null,
+            hasViewport ? request.getLngBottomRight() : null);
+    }
+
+    public static FestivalCatalogFilter forCalendar(FestivalCalendarRequest request) {
+        LocalDate date = request.getDate();
+        return new FestivalCatalogFilter(
+            null,
+            request.getTheme() != null && !request.getTheme().isAll() ? request.getTheme() : null,
+            request.getWithWhom() != null && !request.getWithWhom().isAll() ? request.getWithWhom() : null,
+            request.getRegion() != null && !request.getRegion().isAll() ? request.getRegion() : null,
+            null,
+            date,
+            date,
+            null, null, null, null);
+    }
+
+    /**
+     * facet 집계 조건 - date가 있으면 그 날짜에 진행 중인 축제(달력), 없으면 기간 필터(지도)
+     */
+    public static FestivalCatalogFilter forFacets(FestivalFacetRequest request, LocalDate today) {
+        LocalDate start = null;
+        LocalDate end = null;
+        if (request.getDate() != null) {
+            start = request.getDate();
+            end = request.getDate();
+        } else if (request.getPeriod() != null && !request.getPeriod().isAll()) {
+            start = request.getPeriod().startDate(today);
+            end = request.getPeriod().endDate(today);
+        }
+        boolean hasViewport = request.getLatTopLeft() != null && request.getLatBottomRight() != null &&
+            request.getLngTopLeft() != null && request.getLngBottomRight() != null;
+        return new FestivalCatalogFilter(
+            request.getStatus() != null && !request.getStatus().isAll() ? request.getStatus() : null,
+            request.getTheme() != null && !request.getTheme().isAll() ? request.getTheme() : null,
+            request.getWithWhom() != null && !request.getWithWhom().isAll() ? request.getWithWhom() : null,
+            request.getRegion() != null && !request.getRegion().isAll() ? request.getRegion() : null,
+            null,
+            start,
+            end,
+            hasViewport ? request.getLatBottomRight() : null,
+            hasViewport ? request.getLatTopLeft() : null,
+            hasViewport ? request.getLngTopLeft() : null,
+            hasViewport ? request.getLngBottomRight() : null);
+    }
+
+    public static FestivalCatalogFilter forPersonalTest(FestivalPersonalTestRequest request) {
+        return new FestivalCatalogFilter(
+            null, null, null, null,
+            request.getPersonalityType(),
+            null, null,
+            null, null, null, null);
+    }
+
+    public boolean hasPeriod() {
+        return periodStart != null && periodEnd != null;
+    }
+
+    public boolean hasViewport() {
+        return minLat != null && maxLat != null && minLng != null && maxLng != null;
+    }
+}
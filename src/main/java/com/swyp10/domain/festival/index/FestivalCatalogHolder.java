@@ -0,0 +1,85 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 축제 카탈로그 보관소
+ *
+ * 기동 직후와 동기화 Job이 끝날 때마다 전체를 다시 빌드해서 참조를 통째로 교체한다.
+ * 카탈로그는 DB 조건으로 다시 확인하지 않으므로, 축제가 저장/삭제되면 바로 버리고(다음 빌드까지 DB 조회) 빌드 도중 버려졌으면 결과를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class FestivalCatalogHolder {
+
+    private final FestivalRepository festivalRepository;
+    private final boolean enabled;
+    private final AtomicReference<FestivalCatalog> catalog = new AtomicReference<>();
+    // 버릴 때마다 증가 (빌드 시작 시점 값과 다르면 빌드 결과가 이미 오래된 것)
+    private final AtomicLong generation = new AtomicLong();
+
+    public FestivalCatalogHolder(
+        FestivalRepository festivalRepository,
+        @Value("${festival.catalog.enabled:true}") boolean enabled
+    ) {
+        this.festivalRepository = festivalRepository;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 현재 카탈로그 (비활성화했거나 아직 빌드 전이거나 버려졌으면 empty → DB 조회)
+     */
+    public Optional<FestivalCatalog> current() {
+        return Optional.ofNullable(catalog.get());
+    }
+
+    public void invalidate() {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            catalog.set(null);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            long startedGeneration = generation.get();
+            FestivalCatalog built = FestivalCatalog.build(festivalRepository.findAllCatalogRows());
+            synchronized (generation) {
+                if (generation.get() != startedGeneration) {
+                    log.info("[Festival Index] catalog changed while building, discarding");
+                    return;
+                }
+                catalog.set(built);
+            }
+            log.info("[Festival Index] catalog rebuilt - festivals: {}, elapsed: {}ms",
+                built.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 빌드 실패 시 이전 카탈로그 유지
+            log.warn("[Festival Index] catalog rebuild failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.enums.FestivalPersonalityType;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+
+import java.time.LocalDate;
+
+/**
+ * 메모리 카탈로그 빌드용 축제 projection (목록 카드 컬럼 + 필터 컬럼)
+ */
+public record FestivalCatalogRow(
+    Long festivalId,
+    String thumbnail,
+    String title,
+    String address,
+    LocalDate startDate,
+    LocalDate endDate,
+    Double mapx,
+    Double mapy,
+    FestivalStatus status,
+    FestivalTheme theme,
+    FestivalWithWhom withWhom,
+    RegionFilter regionFilter,
+    FestivalPersonalityType personalityType
+) {
+}
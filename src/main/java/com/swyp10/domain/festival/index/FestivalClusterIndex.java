@@ -0,0 +1,173 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.response.FestivalMapClusterResponse;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 지도 마커 클러스터 계층 (geohash 격자 기준)
+ *
+ * 상태/테마 필터 조합마다 geohash 정밀도 1~8 레벨의 셀 집계(좌표 합, 개수, 대표 축제)를 미리 만들어 둔다.
+ * 축제 하나는 (상태, 테마), (상태, ALL), (ALL, 테마), (ALL, ALL) 네 조합에만 들어가므로 크기는 O(8 * 4 * n).
+ * 조회는 줌 레벨에 맞는 정밀도의 셀 중 지도 영역과 겹치는 셀만 prefix 범위로 꺼낸다.
+ */
+public final class FestivalClusterIndex {
+
+    public static final int MIN_PRECISION = 1;
+    public static final int MAX_PRECISION = 8;
+
+    private final Map<FilterKey, List<TreeMap<String, Cell>>> levelsByFilter;
+
+    private FestivalClusterIndex(Map<FilterKey, List<TreeMap<String, Cell>>> levelsByFilter) {
+        this.levelsByFilter = levelsByFilter;
+    }
+
+    public static FestivalClusterIndex build(List<FestivalClusterPoint> points) {
+        Map<FilterKey, List<TreeMap<String, Cell>>> levelsByFilter = new HashMap<>();
+        for (FestivalClusterPoint point : points) {
+            if (point.festivalId() == null || point.lat() == null || point.lng() == null) {
+                continue;
+            }
+            String geohash = point.geohash() != null && point.geohash().length() >= MAX_PRECISION
+                ? point.geohash()
+                : GeoHash.encode(point.lat(), point.lng());
+            if (geohash == null) {
+                continue;
+            }
+            FestivalStatus status = point.status() != null ? point.status() : FestivalStatus.ALL;
+            FestivalTheme theme = point.theme() != null ? point.theme() : FestivalTheme.ALL;
+            for (FilterKey key : FilterKey.of(status, theme)) {
+                List<TreeMap<String, Cell>> levels = levelsByFilter.computeIfAbsent(key, k -> newLevels());
+                for (int precision = MIN_PRECISION; precision <= MAX_PRECISION; precision++) {
+                    levels.get(precision)
+                        .computeIfAbsent(geohash.substring(0, precision), k -> new Cell())
+                        .add(point);
+                }
+            }
+        }
+        return new FestivalClusterIndex(levelsByFilter);
+    }
+
+    /**
+     * 웹 지도 줌 레벨 -> geohash 정밀도
+     * 화면 너비(대략 360 / 2^(zoom-2)도)를 8칸 정도로 나누는 셀 크기를 고른다.
+     */
+    public static int precisionForZoom(int zoom) {
+        int precision = (int) Math.round(2 * (zoom + 1) / 5.0);
+        return Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision));
+    }
+
+    /**
+     * 필터 조합의 precision 레벨 셀 중 영역과 겹치는 클러스터
+     * 영역 좌표가 하나라도 없으면 전체, 영역이 뒤집혔으면 빈 목록 (지도 리스트 조회와 같은 의미)
+     */
+    public List<FestivalMapClusterResponse.Cluster> query(FestivalStatus status, FestivalTheme theme,
+                                                          Double minLat, Double maxLat,
+                                                          Double minLng, Double maxLng, int precision) {
+        List<FestivalMapClusterResponse.Cluster> result = new ArrayList<>();
+        List<TreeMap<String, Cell>> levels = levelsByFilter.get(new FilterKey(
+            status != null ? status : FestivalStatus.ALL,
+            theme != null ? theme : FestivalTheme.ALL));
+        if (levels == null) {
+            return result;
+        }
+        TreeMap<String, Cell> level = levels.get(Math.max(MIN_PRECISION, Math.min(MAX_PRECISION, precision)));
+
+        if (minLat == null || maxLat == null || minLng == null || maxLng == null) {
+            level.forEach((cellId, cell) -> result.add(cell.toCluster(cellId)));
+            return result;
+        }
+        if (minLat > maxLat || minLng > maxLng) {
+            return result;
+        }
+
+        List<String> prefixes = GeoHash.coveringPrefixes(minLat, maxLat, minLng, maxLng);
+        Map<String, Cell> candidates = new LinkedHashMap<>();
+        if (prefixes.isEmpty()) {
+            candidates.putAll(level);
+        }
+        for (String prefix : prefixes) {
+            if (prefix.length() >= precision) {
+                String cellId = prefix.substring(0, precision);
+                Cell cell = level.get(cellId);
+                if (cell != null) {
+                    candidates.put(cellId, cell);
+                }
+            } else {
+                candidates.putAll(subTree(level, prefix));
+            }
+        }
+
+        candidates.forEach((cellId, cell) -> {
+            double[] bounds = GeoHash.bounds(cellId);
+            boolean intersects = bounds[0] <= maxLat && bounds[1] >= minLat && bounds[2] <= maxLng && bounds[3] >= minLng;
+            if (intersects) {
+                result.add(cell.toCluster(cellId));
+            }
+        });
+        return result;
+    }
+
+    private static NavigableMap<String, Cell> subTree(TreeMap<String, Cell> level, String prefix) {
+        // base32 문자는 모두 '~'보다 작으므로 [prefix, prefix + "~")가 prefix로 시작하는 키 전체
+        return level.subMap(prefix, true, prefix + "~", false);
+    }
+
+    private static List<TreeMap<String, Cell>> newLevels() {
+        List<TreeMap<String, Cell>> levels = new ArrayList<>(MAX_PRECISION + 1);
+        for (int precision = 0; precision <= MAX_PRECISION; precision++) {
+            levels.add(new TreeMap<>());
+        }
+        return levels;
+    }
+
+    private record FilterKey(FestivalStatus status, FestivalTheme theme) {
+
+        static List<FilterKey> of(FestivalStatus status, FestivalTheme theme) {
+            List<FilterKey> keys = new ArrayList<>(4);
+            keys.add(new FilterKey(FestivalStatus.ALL, FestivalTheme.ALL));
+            if (!status.isAll()) {
+                keys.add(new FilterKey(status, FestivalTheme.ALL));
+            }
+            if (!theme.isAll()) {
+                keys.add(new FilterKey(FestivalStatus.ALL, theme));
+            }
+            if (!status.isAll() && !theme.isAll()) {
+                keys.add(new FilterKey(status, theme));
+            }
+            return keys;
+        }
+    }
+
+    private static final class Cell {
+        private double latSum;
+        private double lngSum;
+        private int count;
+        private Long representativeId;
+        private int representativeViews = -1;
+
+        void add(FestivalClusterPoint point) {
+            latSum += point.lat();
+            lngSum += point.lng();
+            count++;
+            int views = point.viewCount() != null ? point.viewCount() : 0;
+            if (views > representativeViews
+                || (views == representativeViews && point.festivalId() < representativeId)) {
+                representativeId = point.festivalId();
+                representativeViews = views;
+            }
+        }
+
+        FestivalMapClusterResponse.Cluster toCluster(String cellId) {
+            return new FestivalMapClusterResponse.Cluster(cellId, latSum / count, lngSum / count, count, representativeId);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.dto.request.FestivalMapClusterRequest;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지도 클러스터 계층 보관소 - 동기화 Job이 끝날 때마다 전체 축제 기준으로 다시 빌드해서 교체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalClusterIndexHolder {
+
+    private final FestivalRepository festivalRepository;
+    private final AtomicReference<FestivalClusterIndex> index = new AtomicReference<>();
+
+    public Optional<FestivalClusterIndex> current() {
+        return Optional.ofNullable(index.get());
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<FestivalClusterPoint> points = festivalRepository.findClusterPoints(new FestivalMapClusterRequest());
+            index.set(FestivalClusterIndex.build(points));
+            log.info("[Festival Index] cluster index rebuilt - points: {}, elapsed: {}ms",
+                points.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("[Festival Index] cluster index rebuild failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+
+/**
+ * 지도 클러스터 빌드용 축제 좌표 projection
+ */
+public record FestivalClusterPoint(Long festivalId, Double lat, Double lng, String geohash,
+                                   FestivalStatus status, FestivalTheme theme, Integer viewCount) {
+}
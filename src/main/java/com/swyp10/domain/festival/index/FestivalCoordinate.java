@@ -0,0 +1,7 @@
+package com.swyp10.domain.festival.index;
+
+/**
+ * 좌표 projection (festival_id, mapy, mapx)
+ */
+public record FestivalCoordinate(Long festivalId, Double lat, Double lng) {
+}
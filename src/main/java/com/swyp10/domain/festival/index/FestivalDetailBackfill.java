@@ -0,0 +1,35 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.repository.FestivalDetailRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * overview / 소개 컬럼을 festival_details로 분리하기 이전에 저장된 축제 백필
+ *
+ * ddl-auto: update 환경은 festival_details를 빈 테이블로 만들고 값은 festivals의 이전 컬럼에 그대로 남는다.
+ * 증분 동기화는 최근 시작한 축제만 다시 받으므로, 기동 시 한 번 이전 컬럼 값으로 상세 행이 없는 축제를 채운다.
+ * 시작 배치(ApplicationRunner)와 ApplicationReady 인덱스/카탈로그 빌드보다 먼저 돌도록 ApplicationStartedEvent에서 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalDetailBackfill {
+
+    private final FestivalDetailRepository festivalDetailRepository;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void backfill() {
+        try {
+            int total = festivalDetailRepository.backfillFromLegacyColumns();
+            if (total > 0) {
+                log.info("[Festival Index] detail backfill completed - {} festivals", total);
+            }
+        } catch (Exception e) {
+            log.warn("[Festival Index] detail backfill failed: {}", e.getMessage());
+        }
+    }
+}
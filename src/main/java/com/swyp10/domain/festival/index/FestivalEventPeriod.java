@@ -0,0 +1,9 @@
+package com.swyp10.domain.festival.index;
+
+import java.time.LocalDate;
+
+/**
+ * 인덱스 빌드용 축제 기간 projection (festival_id, eventstartdate, eventenddate)
+ */
+public record FestivalEventPeriod(Long festivalId, LocalDate startDate, LocalDate endDate) {
+}
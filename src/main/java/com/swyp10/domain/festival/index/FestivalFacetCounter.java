@@ -0,0 +1,80 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.response.FestivalFacetResponse;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 필터별 축제 개수 집계 (facet)
+ *
+ * 각 facet은 자기 필터만 빼고 나머지 필터를 적용한 개수다 ("서울 (42)"는 지역을 바꿨을 때 나올 개수).
+ * 축제(또는 필터 값 조합)마다 네 필터 중 몇 개가 안 맞는지 보고, 모두 맞으면 모든 facet에,
+ * 하나만 안 맞으면 그 facet에만 더한다. 두 개 이상 안 맞으면 어느 facet에도 들어가지 않으므로 한 번 훑으면 끝난다.
+ * 기간/영역 조건은 넘기기 전에 호출하는 쪽에서 거른다. 값이 없는 축제는 ALL에만 들어간다.
+ */
+public final class FestivalFacetCounter {
+
+    private final FestivalCatalogFilter filter;
+    private final long[] statusCounts = new long[FestivalStatus.values().length];
+    private final long[] themeCounts = new long[FestivalTheme.values().length];
+    private final long[] withWhomCounts = new long[FestivalWithWhom.values().length];
+    private final long[] regionCounts = new long[RegionFilter.values().length];
+    private long total;
+
+    public FestivalFacetCounter(FestivalCatalogFilter filter) {
+        this.filter = filter;
+    }
+
+    public void add(FestivalStatus status, FestivalTheme theme, FestivalWithWhom withWhom, RegionFilter region, long count) {
+        boolean statusMatches = filter.status() == null || filter.status() == status;
+        boolean themeMatches = filter.theme() == null || filter.theme() == theme;
+        boolean withWhomMatches = filter.withWhom() == null || filter.withWhom() == withWhom;
+        boolean regionMatches = filter.region() == null || filter.region() == region;
+
+        if (themeMatches && withWhomMatches && regionMatches) {
+            add(statusCounts, status, FestivalStatus.ALL, count);
+        }
+        if (statusMatches && withWhomMatches && regionMatches) {
+            add(themeCounts, theme, FestivalTheme.ALL, count);
+        }
+        if (statusMatches && themeMatches && regionMatches) {
+            add(withWhomCounts, withWhom, FestivalWithWhom.ALL, count);
+        }
+        if (statusMatches && themeMatches && withWhomMatches) {
+            add(regionCounts, region, RegionFilter.ALL, count);
+            if (regionMatches) {
+                total += count;
+            }
+        }
+    }
+
+    public FestivalFacetResponse toResponse() {
+        return FestivalFacetResponse.builder()
+            .total(total)
+            .regions(counts(RegionFilter.values(), regionCounts, RegionFilter::getDisplayName))
+            .themes(counts(FestivalTheme.values(), themeCounts, FestivalTheme::getDisplayName))
+            .withWhoms(counts(FestivalWithWhom.values(), withWhomCounts, FestivalWithWhom::getDisplayName))
+            .statuses(counts(FestivalStatus.values(), statusCounts, FestivalStatus::getDisplayName))
+            .build();
+    }
+
+    private static <E extends Enum<E>> void add(long[] counts, E value, E all, long count) {
+        counts[all.ordinal()] += count;
+        if (value != null && value != all) {
+            counts[value.ordinal()] += count;
+        }
+    }
+
+    private static <E extends Enum<E>> List<FestivalFacetResponse.FacetCount> counts(E[] values, long[] counts,
+                                                                                 Function<E, String> displayName) {
+        return Arrays.stream(values)
+            .map(value -> new FestivalFacetResponse.FacetCount(value.name(), displayName.apply(value), counts[value.ordinal()]))
+            .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+
+/**
+ * 필터 값 조합별 축제 개수 projection (카탈로그가 없을 때 facet 집계용)
+ */
+public record FestivalFacetGroup(FestivalStatus status, FestivalTheme theme, FestivalWithWhom withWhom,
+                                 RegionFilter region, Long count) {
+}
@@ -0,0 +1,45 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import com.swyp10.domain.festival.service.FestivalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * geohash 컬럼 추가 이전에 저장된 축제 백필
+ * 기동 시 한 번, geohash가 비어 있고 좌표가 있는 축제를 ID 순으로 나눠서 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalGeohashBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalService festivalService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            long lastId = 0L;
+            int total = 0;
+            List<FestivalCoordinate> chunk;
+            while (!(chunk = festivalRepository.findCoordinatesWithoutGeohash(lastId, CHUNK_SIZE)).isEmpty()) {
+                festivalService.updateGeohashes(chunk);
+                lastId = chunk.get(chunk.size() - 1).festivalId();
+                total += chunk.size();
+            }
+            if (total > 0) {
+                log.info("[Festival Index] geohash backfill completed - {} festivals", total);
+            }
+        } catch (Exception e) {
+            log.warn("[Festival Index] geohash backfill failed: {}", e.getMessage());
+        }
+    }
+}
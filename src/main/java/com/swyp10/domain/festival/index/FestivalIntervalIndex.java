@@ -0,0 +1,106 @@
+package com.swyp10.domain.festival.index;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 축제 기간 [eventstartdate, eventenddate]에 대한 불변 interval index
+ *
+ * 시작일 오름차순으로 정렬한 배열을 암묵적 이진 트리(구간 [lo, hi)의 중앙이 노드)로 보고,
+ * 노드마다 서브트리의 최대 종료일을 저장한다 (augmented interval tree).
+ * 겹침/포함 조회는 O(log n + k), 빌드는 O(n log n).
+ */
+public final class FestivalIntervalIndex {
+
+    private final long[] ids;
+    private final int[] starts;   // epochDay
+    private final int[] ends;     // epochDay
+    private final int[] maxEnd;   // 노드(mid) 서브트리의 최대 종료일
+
+    private FestivalIntervalIndex(long[] ids, int[] starts, int[] ends) {
+        this.ids = ids;
+        this.starts = starts;
+        this.ends = ends;
+        this.maxEnd = new int[ids.length];
+        fillMaxEnd(0, ids.length);
+    }
+
+    public static FestivalIntervalIndex build(List<FestivalEventPeriod> periods) {
+        List<FestivalEventPeriod> valid = periods.stream()
+            .filter(p -> p.festivalId() != null && p.startDate() != null && p.endDate() != null)
+            .filter(p -> !p.endDate().isBefore(p.startDate()))
+            .sorted(Comparator.comparing(FestivalEventPeriod::startDate)
+                .thenComparing(FestivalEventPeriod::festivalId))
+            .toList();
+
+        int n = valid.size();
+        long[] ids = new long[n];
+        int[] starts = new int[n];
+        int[] ends = new int[n];
+        for (int i = 0; i < n; i++) {
+            FestivalEventPeriod p = valid.get(i);
+            ids[i] = p.festivalId();
+            starts[i] = (int) p.startDate().toEpochDay();
+            ends[i] = (int) p.endDate().toEpochDay();
+        }
+        return new FestivalIntervalIndex(ids, starts, ends);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * date가 축제 기간에 포함되는 축제 ID (시작일 <= date && 종료일 >= date)
+     */
+    public List<Long> stab(LocalDate date) {
+        return overlap(date, date);
+    }
+
+    /**
+     * [from, to]와 기간이 겹치는 축제 ID (시작일 <= to && 종료일 >= from), 시작일 오름차순
+     */
+    public List<Long> overlap(LocalDate from, LocalDate to) {
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        List<Long> result = new ArrayList<>();
+        if (to.isBefore(from)) {
+            return result;
+        }
+        collect(0, ids.length, (int) from.toEpochDay(), (int) to.toEpochDay(), result);
+        return result;
+    }
+
+    private void collect(int lo, int hi, int queryStart, int queryEnd, List<Long> out) {
+        if (lo >= hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 서브트리 전체가 조회 시작 전에 끝남
+        if (maxEnd[mid] < queryStart) {
+            return;
+        }
+        collect(lo, mid, queryStart, queryEnd, out);
+        // mid 이후는 모두 조회 종료 후에 시작
+        if (starts[mid] > queryEnd) {
+            return;
+        }
+        if (ends[mid] >= queryStart) {
+            out.add(ids[mid]);
+        }
+        collect(mid + 1, hi, queryStart, queryEnd, out);
+    }
+
+    private int fillMaxEnd(int lo, int hi) {
+        if (lo >= hi) {
+            return Integer.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        int max = Math.max(ends[mid], Math.max(fillMaxEnd(lo, mid), fillMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = max;
+        return max;
+    }
+}
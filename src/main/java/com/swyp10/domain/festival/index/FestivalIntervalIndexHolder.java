@@ -0,0 +1,68 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 축제 기간 interval index 보관소
+ * 동기화 Job이 끝날 때마다 새로 빌드해서 참조를 통째로 교체한다 (조회 쪽은 락 없이 스냅샷 사용).
+ * 아직 빌드되지 않았으면 비어 있고, 서비스는 기존 DB 조건 조회로 처리한다.
+ * 후보 ID는 DB 범위 조건과 AND로 묶이므로, 축제가 저장/삭제되면 바로 버린다 (오래된 후보면 새 축제나 기간이 바뀐 축제가 빠짐).
+ * 빌드 도중 버려졌으면 결과를 쓰지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalIntervalIndexHolder {
+
+    private final FestivalRepository festivalRepository;
+    private final AtomicReference<FestivalIntervalIndex> index = new AtomicReference<>();
+    // 버릴 때마다 증가 (빌드 시작 시점 값과 다르면 빌드 결과가 이미 오래된 것)
+    private final AtomicLong generation = new AtomicLong();
+
+    public Optional<FestivalIntervalIndex> current() {
+        return Optional.ofNullable(index.get());
+    }
+
+    public void invalidate() {
+        synchronized (generation) {
+            generation.incrementAndGet();
+            index.set(null);
+        }
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            long startedGeneration = generation.get();
+            List<FestivalEventPeriod> periods = festivalRepository.findAllEventPeriods();
+            FestivalIntervalIndex built = FestivalIntervalIndex.build(periods);
+            synchronized (generation) {
+                if (generation.get() != startedGeneration) {
+                    log.info("[Festival Index] festivals changed while building interval index, discarding");
+                    return;
+                }
+                index.set(built);
+            }
+            log.info("[Festival Index] interval index rebuilt - size: {}, elapsed: {}ms",
+                built.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 빌드 실패 시 이전 인덱스 유지
+            log.warn("[Festival Index] interval index rebuild failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
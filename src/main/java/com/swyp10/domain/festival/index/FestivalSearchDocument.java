@@ -0,0 +1,15 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.entity.Festival;
+
+/**
+ * 검색 인덱스 빌드용 projection (festival_id, title, addr1, overview)
+ */
+public record FestivalSearchDocument(Long festivalId, String title, String addr1, String overview) {
+
+    public static FestivalSearchDocument from(Festival festival) {
+        String title = festival.getBasicInfo() != null ? festival.getBasicInfo().getTitle() : null;
+        String addr1 = festival.getBasicInfo() != null ? festival.getBasicInfo().getAddr1() : null;
+        return new FestivalSearchDocument(festival.getFestivalId(), title, addr1, festival.getOverview());
+    }
+}
@@ -0,0 +1,281 @@
+package com.swyp10.domain.festival.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 축제 검색용 n-gram 역색인 (제목 / 주소 / overview)
+ *
+ * 필드 문자열을 DB 콜레이션(utf8mb4_unicode_ci)처럼 접어서(전각/반각, 대소문자, 악센트 무시) 2글자, 3글자 조각
+ * (bigram, trigram)마다 축제 ID 목록(오름차순 int 배열)을 둔다.
+ * 검색어가 3글자 이상이면 trigram, 2글자면 bigram 목록을 모두 교집합한다.
+ * 결과는 LIKE '%q%' 결과를 빠짐없이 포함하는 후보 집합이고(다른 필드 조각끼리 맞는 경우 등 오탐 가능),
+ * 최종 일치 여부는 DB 조건으로 한 번 더 거른다.
+ *
+ * 접기만으로 콜레이션과 같아진다고 보장할 수 있는 검색어는 ASCII와 한글 음절뿐이라
+ * - 그 밖의 문자가 들어간 검색어와 1글자 검색어는 인덱스로 답하지 않고 (DB LIKE로 처리)
+ * - 접고 나서도 그런 검색어와 같을 수 있는 문자(ø, ß, 다른 문자 체계의 숫자, zero-width 같은 무시 문자)가 남는 문서는 항상 후보에 넣는다
+ */
+public final class FestivalSearchIndex {
+
+    public static final int MIN_QUERY_LENGTH = 2;
+    private static final int[] EMPTY = new int[0];
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<String, int[]> postings;
+    private final int[] documentIds;
+    // 조각으로 걸러낼 수 없어 모든 검색에 후보로 넣는 문서
+    private final int[] unfoldedIds;
+
+    private FestivalSearchIndex(Map<String, int[]> postings, int[] documentIds, int[] unfoldedIds) {
+        this.postings = postings;
+        this.documentIds = documentIds;
+        this.unfoldedIds = unfoldedIds;
+    }
+
+    public static FestivalSearchIndex empty() {
+        return new FestivalSearchIndex(Map.of(), EMPTY, EMPTY);
+    }
+
+    public static FestivalSearchIndex build(Collection<FestivalSearchDocument> documents) {
+        // ID 오름차순으로 넣어서 목록이 정렬된 상태로 쌓이게 함
+        List<FestivalSearchDocument> sorted = documents.stream()
+            .filter(d -> d.festivalId() != null)
+            .sorted(Comparator.comparing(FestivalSearchDocument::festivalId))
+            .toList();
+
+        Map<String, IntList> lists = new HashMap<>();
+        IntList unfolded = new IntList();
+        int[] documentIds = new int[sorted.size()];
+        int count = 0;
+        int previous = Integer.MIN_VALUE;
+        for (FestivalSearchDocument document : sorted) {
+            int id = Math.toIntExact(document.festivalId());
+            if (count > 0 && id == previous) {
+                continue;
+            }
+            documentIds[count++] = id;
+            previous = id;
+            List<String> fields = Arrays.asList(
+                normalize(document.title()), normalize(document.addr1()), normalize(document.overview()));
+            if (fields.stream().anyMatch(FestivalSearchIndex::hasUnfolded)) {
+                unfolded.add(id);
+                continue;
+            }
+            for (String gram : grams(fields)) {
+                lists.computeIfAbsent(gram, k -> new IntList()).add(id);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(lists.size() * 2);
+        lists.forEach((gram, list) -> postings.put(gram, list.toArray()));
+        return new FestivalSearchIndex(postings, Arrays.copyOf(documentIds, count), unfolded.toArray());
+    }
+
+    public static boolean isSearchable(String query) {
+        if (query == null || query.length() < MIN_QUERY_LENGTH) {
+            return false;
+        }
+        String normalized = normalize(query);
+        return normalized.length() >= MIN_QUERY_LENGTH && isPlain(normalized);
+    }
+
+    public int size() {
+        return documentIds.length;
+    }
+
+    public boolean contains(long festivalId) {
+        return festivalId <= Integer.MAX_VALUE && Arrays.binarySearch(documentIds, (int) festivalId) >= 0;
+    }
+
+    /**
+     * query를 포함할 수 있는 축제 ID (오름차순)
+     */
+    public int[] search(String query) {
+        if (!isSearchable(query)) {
+            throw new IllegalArgumentException("검색어는 한글/영문/숫자 " + MIN_QUERY_LENGTH + "글자 이상이어야 합니다.");
+        }
+        String normalized = normalize(query);
+        int n = normalized.length() >= 3 ? 3 : 2;
+
+        Set<String> queryGrams = new HashSet<>();
+        for (int i = 0; i + n <= normalized.length(); i++) {
+            queryGrams.add(normalized.substring(i, i + n));
+        }
+
+        List<int[]> lists = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            int[] list = postings.get(gram);
+            if (list == null) {
+                return unfoldedIds;
+            }
+            lists.add(list);
+        }
+        // 짧은 목록부터 교집합해서 중간 결과를 작게 유지
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return unfoldedIds.length == 0 ? result : union(result, unfoldedIds);
+    }
+
+    /**
+     * newer의 문서로 같은 ID 문서를 교체한 새 인덱스 (기존 인덱스는 그대로)
+     */
+    public FestivalSearchIndex merge(FestivalSearchIndex newer) {
+        if (newer.size() == 0) {
+            return this;
+        }
+        Map<String, int[]> merged = new HashMap<>(Math.max(postings.size(), newer.postings.size()) * 2);
+        for (Map.Entry<String, int[]> entry : postings.entrySet()) {
+            int[] kept = exclude(entry.getValue(), newer.documentIds);
+            if (kept.length > 0) {
+                merged.put(entry.getKey(), kept);
+            }
+        }
+        newer.postings.forEach((gram, list) -> merged.merge(gram, list, FestivalSearchIndex::union));
+        return new FestivalSearchIndex(merged, union(documentIds, newer.documentIds),
+            union(exclude(unfoldedIds, newer.documentIds), newer.unfoldedIds));
+    }
+
+    /**
+     * 콜레이션이 같게 보는 문자를 하나로 접음: 전각/반각, 합자(NFKC) -> 소문자 -> 악센트(결합 부호) 제거
+     * 한글 음절은 NFD로 풀었다가 NFC로 다시 모아서 그대로 남는다
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+        if (isPlain(text)) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        folded = MARKS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        return Normalizer.normalize(folded, Normalizer.Form.NFC);
+    }
+
+    // 접을 게 없는 문자(ASCII, 한글 음절)만 있는지
+    private static boolean isPlain(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80 && (c < 0xAC00 || c > 0xD7A3)) {
+                return false;
+            }
+            if (c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 접은 필드에 ASCII 검색어와 콜레이션상 같을 수 있는 문자가 남았는지
+    private static boolean hasUnfolded(String normalized) {
+        return normalized != null && normalized.codePoints().anyMatch(c -> c >= 0x80
+            ? Character.isLetter(c) && Character.UnicodeScript.of(c) == Character.UnicodeScript.LATIN
+                || Character.isDigit(c)
+                || Character.getType(c) == Character.FORMAT
+                || Character.getType(c) == Character.CONTROL
+            : c < 0x20 && c != '\t' && c != '\n' && c != '\r' || c == 0x7F);
+    }
+
+    private static Set<String> grams(List<String> fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            addGrams(grams, field);
+        }
+        return grams;
+    }
+
+    // 필드마다 따로 잘라서 필드 경계를 넘는 조각은 만들지 않음
+    private static void addGrams(Set<String> grams, String normalized) {
+        if (normalized == null) {
+            return;
+        }
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= normalized.length(); i++) {
+                grams.add(normalized.substring(i, i + n));
+            }
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    private static int[] union(int[] a, int[] b) {
+        int[] out = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length || j < b.length) {
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                out[k++] = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                out[k++] = b[j++];
+            } else {
+                out[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, k);
+    }
+
+    // a에서 excluded(정렬됨)에 있는 값을 뺀 목록
+    private static int[] exclude(int[] a, int[] excluded) {
+        int[] out = new int[a.length];
+        int j = 0;
+        int k = 0;
+        for (int value : a) {
+            while (j < excluded.length && excluded[j] < value) {
+                j++;
+            }
+            if (j >= excluded.length || excluded[j] != value) {
+                out[k++] = value;
+            }
+        }
+        return k == a.length ? a : Arrays.copyOf(out, k);
+    }
+
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 축제 검색 n-gram 인덱스 보관소
+ *
+ * 동기화 Job이 끝나면 전체를 다시 빌드하고, 그 사이 FestivalItemWriter가 저장한 축제는 작은 delta 인덱스로 바로 반영한다.
+ * 조회는 base 결과에서 delta에 있는 축제를 빼고 delta 결과를 합친 것. delta가 커지면 base에 합쳐서 교체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalSearchIndexHolder {
+
+    // delta가 이보다 커지면 base에 합침 (delta 재빌드 비용을 작게 유지)
+    private static final int COMPACT_THRESHOLD = 256;
+
+    private final FestivalRepository festivalRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * query를 포함할 수 있는 축제 ID (오름차순)
+     * 인덱스가 아직 없거나 검색어가 너무 짧으면 empty (DB 조건으로 처리)
+     */
+    public Optional<List<Long>> search(String query) {
+        Snapshot current = snapshot.get();
+        if (current == null || !FestivalSearchIndex.isSearchable(query)) {
+            return Optional.empty();
+        }
+        int[] fromBase = current.base().search(query);
+        int[] fromDelta = current.delta().search(query);
+
+        List<Long> ids = new ArrayList<>(fromBase.length + fromDelta.length);
+        int j = 0;
+        for (int id : fromBase) {
+            while (j < fromDelta.length && fromDelta[j] < id) {
+                ids.add((long) fromDelta[j++]);
+            }
+            // delta에 새 버전이 있는 축제는 base 결과를 버림
+            if (!current.delta().contains(id)) {
+                ids.add((long) id);
+            }
+        }
+        while (j < fromDelta.length) {
+            ids.add((long) fromDelta[j++]);
+        }
+        return Optional.of(ids);
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            FestivalSearchIndex built = FestivalSearchIndex.build(festivalRepository.findAllSearchDocuments());
+            snapshot.set(new Snapshot(built, FestivalSearchIndex.empty(), Map.of()));
+            log.info("[Festival Index] search index rebuilt - documents: {}, elapsed: {}ms",
+                built.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("[Festival Index] search index rebuild failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 배치가 저장한 축제 반영 - 아직 base가 없으면 다음 전체 빌드 때 들어가므로 무시
+     */
+    public synchronized void upsert(Collection<FestivalSearchDocument> documents) {
+        Snapshot current = snapshot.get();
+        if (current == null || documents.isEmpty()) {
+            return;
+        }
+        Map<Long, FestivalSearchDocument> pending = new HashMap<>(current.pending());
+        documents.forEach(document -> pending.put(document.festivalId(), document));
+
+        FestivalSearchIndex delta = FestivalSearchIndex.build(pending.values());
+        if (pending.size() >= COMPACT_THRESHOLD) {
+            snapshot.set(new Snapshot(current.base().merge(delta), FestivalSearchIndex.empty(), Map.of()));
+        } else {
+            snapshot.set(new Snapshot(current.base(), delta, pending));
+        }
+    }
+
+    private record Snapshot(FestivalSearchIndex base, FestivalSearchIndex delta,
+                            Map<Long, FestivalSearchDocument> pending) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.swyp10.domain.festival.index;
+
+/**
+ * 검색어 자동완성 빌드용 projection (festival_id, title, areacodeName, 조회수)
+ */
+public record FestivalSuggestSource(Long festivalId, String title, String areacodeName, Integer viewCount) {
+}
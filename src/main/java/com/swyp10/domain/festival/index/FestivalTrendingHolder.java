@@ -0,0 +1,107 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.entity.FestivalViewDaily;
+import com.swyp10.domain.festival.repository.FestivalViewDailyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 급상승 축제 순위 보관소
+ *
+ * 조회수 flush(FestivalViewCounter)마다 모인 증가분을 감쇠 점수에 더하고 정렬된 순위 배열을 통째로 교체한다.
+ * 요청은 배열 앞부분만 읽으므로 상세 조회 경로에는 비용이 없다.
+ * 기동 직후와 주기적으로 festival_view_daily(모든 인스턴스의 조회가 모인 곳)에서 점수를 다시 만든다.
+ */
+@Slf4j
+@Component
+public class FestivalTrendingHolder {
+
+    public static final int MAX_RANKING = 50;
+    // 다시 만들 때 읽는 기간 (반감기의 몇 배 이전 조회는 점수에 거의 영향이 없음)
+    private static final int SEED_DAYS = 14;
+
+    private final FestivalViewDailyRepository festivalViewDailyRepository;
+    private final long halfLifeMillis;
+    private final AtomicReference<long[]> ranking = new AtomicReference<>(new long[0]);
+    private DecayedPopularity popularity;
+
+    public FestivalTrendingHolder(
+        FestivalViewDailyRepository festivalViewDailyRepository,
+        @Value("${festival.trending.half-life-hours:72}") long halfLifeHours
+    ) {
+        this.festivalViewDailyRepository = festivalViewDailyRepository;
+        this.halfLifeMillis = Duration.ofHours(halfLifeHours).toMillis();
+        this.popularity = new DecayedPopularity(halfLifeMillis, System.currentTimeMillis());
+    }
+
+    /**
+     * 급상승 순위 상위 축제 ID (최대 limit개)
+     */
+    public List<Long> top(int limit) {
+        long[] current = ranking.get();
+        return Arrays.stream(current, 0, Math.min(limit, current.length)).boxed().toList();
+    }
+
+    /**
+     * DB에 반영된 조회수 증가분을 점수에 더함
+     */
+    public synchronized void record(Map<Long, Long> increments, LocalDateTime viewedAt) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        long atMillis = toMillis(viewedAt);
+        increments.forEach((festivalId, views) -> popularity.add(festivalId, views, atMillis));
+        ranking.set(popularity.ranking(MAX_RANKING));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reseed();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.trending.reseed-interval-ms:600000}",
+        initialDelayString = "${festival.trending.reseed-interval-ms:600000}")
+    public void scheduledReseed() {
+        reseed();
+    }
+
+    public synchronized void reseed() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            LocalDate today = LocalDate.now();
+            List<FestivalViewDaily> rows = festivalViewDailyRepository.findByIdViewDateGreaterThanEqual(
+                today.minusDays(SEED_DAYS - 1));
+            DecayedPopularity seeded = new DecayedPopularity(halfLifeMillis, startedAt);
+            for (FestivalViewDaily row : rows) {
+                // 그날 조회는 정오에 몰렸다고 보고, 오늘 행은 마지막 반영 시각 기준
+                LocalDate viewDate = row.getId().getViewDate();
+                LocalDateTime viewedAt = viewDate.equals(today) ? row.getUpdatedAt() : viewDate.atTime(12, 0);
+                seeded.add(row.getId().getFestivalId(), row.getViewCount(), toMillis(viewedAt));
+            }
+            popularity = seeded;
+            ranking.set(seeded.ranking(MAX_RANKING));
+            log.info("[Festival Trending] reseeded - festivals: {}, elapsed: {}ms",
+                seeded.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 실패 시 지금까지 모은 점수 유지
+            log.warn("[Festival Trending] reseed failed, keeping current scores: {}", e.getMessage());
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
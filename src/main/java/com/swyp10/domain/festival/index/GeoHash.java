@@ -0,0 +1,149 @@
+package com.swyp10.domain.festival.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 표준 base32 geohash 인코딩 / 지도 영역을 덮는 geohash prefix 계산
+ *
+ * 정밀도 p의 셀은 경도 ceil(5p/2)비트, 위도 floor(5p/2)비트의 격자이고,
+ * 비트는 경도부터 번갈아 섞어서(interleave) 5비트씩 문자로 바꾼다.
+ */
+public final class GeoHash {
+
+    /** festivals.geohash 저장 정밀도 (약 4.8m x 4.8m) */
+    public static final int STORED_PRECISION = 9;
+
+    /** 영역 조회 시 OR로 묶을 최대 셀 개수 */
+    public static final int MAX_COVER_CELLS = 16;
+
+    private static final String BASE32_INDEX = "0123456789bcdefghjkmnpqrstuvwxyz";
+    private static final char[] BASE32 = BASE32_INDEX.toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(Double lat, Double lng) {
+        if (lat == null || lng == null) {
+            return null;
+        }
+        return encode(lat, lng, STORED_PRECISION);
+    }
+
+    /**
+     * 좌표 범위를 벗어나면 null
+     */
+    public static String encode(double lat, double lng, int precision) {
+        if (Double.isNaN(lat) || Double.isNaN(lng) || lat < -90 || lat > 90 || lng < -180 || lng > 180) {
+            return null;
+        }
+        return toHash(lngIndex(lng, precision), latIndex(lat, precision), precision);
+    }
+
+    /**
+     * [minLat, maxLat] x [minLng, maxLng] 영역을 빠짐없이 덮는 geohash prefix 목록
+     * MAX_COVER_CELLS 이하로 덮을 수 있는 가장 세밀한 정밀도를 고르고,
+     * 영역이 뒤집혔거나 정밀도 1로도 덮을 수 없으면 빈 목록 (호출 측에서 셀 조건 없이 조회).
+     */
+    public static List<String> coveringPrefixes(double minLat, double maxLat, double minLng, double maxLng) {
+        List<String> prefixes = new ArrayList<>();
+        if (minLat > maxLat || minLng > maxLng) {
+            return prefixes;
+        }
+        minLat = clamp(minLat, -90, 90);
+        maxLat = clamp(maxLat, -90, 90);
+        minLng = clamp(minLng, -180, 180);
+        maxLng = clamp(maxLng, -180, 180);
+
+        int precision = 0;
+        for (int p = STORED_PRECISION; p >= 1; p--) {
+            long cells = (lngIndex(maxLng, p) - lngIndex(minLng, p) + 1) * (latIndex(maxLat, p) - latIndex(minLat, p) + 1);
+            if (cells <= MAX_COVER_CELLS) {
+                precision = p;
+                break;
+            }
+        }
+        if (precision == 0) {
+            return prefixes;
+        }
+
+        for (long x = lngIndex(minLng, precision); x <= lngIndex(maxLng, precision); x++) {
+            for (long y = latIndex(minLat, precision); y <= latIndex(maxLat, precision); y++) {
+                prefixes.add(toHash(x, y, precision));
+            }
+        }
+        return prefixes;
+    }
+
+    /**
+     * geohash 셀 영역 {minLat, maxLat, minLng, maxLng}
+     */
+    public static double[] bounds(String hash) {
+        int precision = hash.length();
+        long lngIndex = 0;
+        long latIndex = 0;
+        for (int i = 0; i < 5 * precision; i++) {
+            int value = BASE32_INDEX.indexOf(hash.charAt(i / 5));
+            int bit = (value >>> (4 - i % 5)) & 1;
+            if (i % 2 == 0) {
+                lngIndex = (lngIndex << 1) | bit;
+            } else {
+                latIndex = (latIndex << 1) | bit;
+            }
+        }
+        double latSize = 180.0 / (1L << latBits(precision));
+        double lngSize = 360.0 / (1L << lngBits(precision));
+        return new double[]{
+            -90 + latIndex * latSize, -90 + (latIndex + 1) * latSize,
+            -180 + lngIndex * lngSize, -180 + (lngIndex + 1) * lngSize
+        };
+    }
+
+    static int lngBits(int precision) {
+        return (5 * precision + 1) / 2;
+    }
+
+    static int latBits(int precision) {
+        return 5 * precision / 2;
+    }
+
+    static long lngIndex(double lng, int precision) {
+        return cellIndex(lng, -180, 360, lngBits(precision));
+    }
+
+    static long latIndex(double lat, int precision) {
+        return cellIndex(lat, -90, 180, latBits(precision));
+    }
+
+    private static long cellIndex(double value, double min, double range, int bits) {
+        long cells = 1L << bits;
+        long index = (long) Math.floor((value - min) / range * cells);
+        // 최댓값(90, 180)은 마지막 셀에 포함
+        return Math.max(0, Math.min(cells - 1, index));
+    }
+
+    private static String toHash(long lngIndex, long latIndex, int precision) {
+        int lngBit = lngBits(precision);
+        int latBit = latBits(precision);
+        char[] hash = new char[precision];
+        int value = 0;
+        for (int i = 0; i < 5 * precision; i++) {
+            int bit;
+            if (i % 2 == 0) {
+                bit = (int) (lngIndex >>> --lngBit) & 1;
+            } else {
+                bit = (int) (latIndex >>> --latBit) & 1;
+            }
+            value = (value << 1) | bit;
+            if (i % 5 == 4) {
+                hash[i / 5] = BASE32[value];
+                value = 0;
+            }
+        }
+        return new String(hash);
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -0,0 +1,99 @@
+package com.swyp10.domain.festival.index;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * HyperLogLog 고유 개수 추정 (precision 12 → 레지스터 4096개, 1바이트씩 4KB, 표준오차 약 1.6%)
+ *
+ * 들어온 값 수와 관계없이 크기가 고정이고, 레지스터별 최댓값으로 합치므로
+ * 일별 sketch를 합쳐 월별 sketch를 만들 수 있고 같은 sketch를 여러 번 합쳐도 결과가 같다.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 12;
+    public static final int REGISTERS = 1 << PRECISION;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != REGISTERS) {
+            throw new IllegalArgumentException("HyperLogLog 레지스터 크기가 맞지 않습니다.");
+        }
+        return new HyperLogLog(Arrays.copyOf(bytes, REGISTERS));
+    }
+
+    public void offer(String value) {
+        offerHash(hash(value));
+    }
+
+    public void offerHash(long hash) {
+        int index = (int) (hash >>> (64 - PRECISION));
+        // 남은 비트에서 첫 1의 위치 (모두 0이면 최댓값)
+        long rest = hash << PRECISION;
+        int rank = rest == 0 ? 64 - PRECISION + 1 : Long.numberOfLeadingZeros(rest) + 1;
+        if (rank > registers[index]) {
+            registers[index] = (byte) rank;
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // 작은 값은 linear counting이 더 정확
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    /**
+     * other를 합침 (레지스터별 최댓값)
+     */
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(Arrays.copyOf(registers, REGISTERS));
+    }
+
+    public byte[] toBytes() {
+        return Arrays.copyOf(registers, REGISTERS);
+    }
+
+    // FNV-1a 64 + murmur3 finalizer (상위 비트까지 고르게 섞이도록)
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -3,6 +3,7 @@ package com.swyp10.domain.festival.mapper;
 import com.swyp10.domain.festival.dto.tourapi.*;
 import com.swyp10.domain.festival.entity.*;
 import com.swyp10.domain.festival.enums.*;
+import com.swyp10.domain.festival.index.GeoHash;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -113,6 +114,7 @@ public class FestivalMapper {
             .firstimage2(firstimage2)
             .mapx(mapx)
             .mapy(mapy)
+            .geohash(GeoHash.encode(mapy, mapx))
             .modifiedtime(modifiedtime)
             .sigungucode(sigungucode)
             .tel(tel)
@@ -0,0 +1,55 @@
+package com.swyp10.domain.festival.repository;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수(count) 단기 TTL 캐시
+ * 키는 목록 종류 + 정규화된 where 조건 문자열, 동기화로 축제가 저장/삭제되면 전체 무효화한다.
+ */
+public class FestivalCountCache {
+
+    private final boolean enabled;
+    private final Duration ttl;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public FestivalCountCache(boolean enabled, Duration ttl, int maxEntries, Clock clock) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    public long get(String key, LongSupplier loader) {
+        if (!enabled) {
+            return loader.getAsLong();
+        }
+        long now = clock.millis();
+        Entry cached = entries.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.count();
+        }
+
+        long count = loader.getAsLong();
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttl.toMillis()));
+        return count;
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,60 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 목록 keyset 페이징 커서 - (정렬 키, festivalId)를 base64url로 감싼 불투명 문자열
+ * 정렬 키는 목록마다 다르다 (지도/검색/맞춤: createdAt, 달력: eventstartdate).
+ */
+public record FestivalCursor(String sortKey, Long festivalId) {
+
+    private static final char DELIMITER = '_';
+
+    public static FestivalCursor of(Object sortKey, Long festivalId) {
+        return new FestivalCursor(String.valueOf(sortKey), festivalId);
+    }
+
+    /**
+     * 비어 있으면 null (첫 페이지)
+     */
+    public static FestivalCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = decoded.lastIndexOf(DELIMITER);
+            return new FestivalCursor(decoded.substring(0, index), Long.parseLong(decoded.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortKey + DELIMITER + festivalId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime createdAt() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public LocalDate startDate() {
+        try {
+            return LocalDate.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new ApplicationException(ErrorCode.INVALID_REQUEST_PARAM, "유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -1,23 +1,65 @@
 package com.swyp10.domain.festival.repository;
 
 import com.swyp10.domain.festival.dto.request.FestivalCalendarRequest;
+import com.swyp10.domain.festival.dto.request.FestivalMapClusterRequest;
 import com.swyp10.domain.festival.dto.request.FestivalMapRequest;
 import com.swyp10.domain.festival.dto.request.FestivalPersonalTestRequest;
 import com.swyp10.domain.festival.dto.request.FestivalSearchRequest;
 import com.swyp10.domain.festival.dto.response.FestivalDailyCountResponse;
 import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopResponse;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import com.swyp10.domain.festival.index.FestivalCatalogFilter;
+import com.swyp10.domain.festival.index.FestivalCatalogRow;
+import com.swyp10.domain.festival.index.FestivalClusterPoint;
+import com.swyp10.domain.festival.index.FestivalCoordinate;
+import com.swyp10.domain.festival.index.FestivalEventPeriod;
+import com.swyp10.domain.festival.index.FestivalFacetGroup;
+import com.swyp10.domain.festival.index.FestivalSearchDocument;
+import com.swyp10.domain.festival.index.FestivalSuggestSource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface FestivalCustomRepository {
     Page<FestivalSummaryResponse> findFestivalsForMap(FestivalMapRequest request, Pageable pageable);
+    Page<FestivalSummaryResponse> findFestivalsForMap(FestivalMapRequest request, Collection<Long> periodCandidateIds, Pageable pageable);
+    FestivalSlice findFestivalsForMapSlice(FestivalMapRequest request, Collection<Long> periodCandidateIds, FestivalCursor cursor, Pageable pageable);
     Page<FestivalSummaryResponse> findFestivalsForCalendar(FestivalCalendarRequest request, Pageable pageable);
+    Page<FestivalSummaryResponse> findFestivalsForCalendar(FestivalCalendarRequest request, Collection<Long> periodCandidateIds, Pageable pageable);
+    FestivalSlice findFestivalsForCalendarSlice(FestivalCalendarRequest request, Collection<Long> periodCandidateIds, FestivalCursor cursor, Pageable pageable);
     List<FestivalDailyCountResponse.DailyCount> findDailyFestivalCounts(LocalDate startDate, LocalDate endDate);
+    List<FestivalDailyCountResponse.DailyCount> findDailyFestivalCounts(LocalDate startDate, LocalDate endDate,
+                                                                        RegionFilter region, FestivalTheme theme, FestivalWithWhom withWhom);
     Page<FestivalSummaryResponse> findFestivalsForPersonalTest(FestivalPersonalTestRequest request, Pageable pageable);
+    FestivalSlice findFestivalsForPersonalTestSlice(FestivalPersonalTestRequest request, FestivalCursor cursor, Pageable pageable);
     Page<FestivalSummaryResponse> searchFestivals(FestivalSearchRequest request, Pageable pageable);
+    // 검색 인덱스 후보 ID로 좁혀서 조회 (null이면 LIKE 조건만, 비어 있으면 빈 결과)
+    Page<FestivalSummaryResponse> searchFestivals(FestivalSearchRequest request, Collection<Long> searchCandidateIds, Pageable pageable);
+    FestivalSlice searchFestivalsSlice(FestivalSearchRequest request, FestivalCursor cursor, Pageable pageable);
+    FestivalSlice searchFestivalsSlice(FestivalSearchRequest request, Collection<Long> searchCandidateIds,
+                                       FestivalCursor cursor, Pageable pageable);
     List<FestivalMonthlyTopResponse> findTop5ByViewCountInCurrentMonth(LocalDate startOfMonth, LocalDate endOfMonth);
+    List<FestivalMonthlyTopResponse> findTop5ByViewCountInCurrentMonth(LocalDate startOfMonth, LocalDate endOfMonth, Collection<Long> periodCandidateIds);
+    List<FestivalMonthlyTopResponse> findMonthlyTopFestivals(LocalDate startOfMonth, LocalDate endOfMonth,
+                                                             Collection<Long> periodCandidateIds, int limit);
+    List<FestivalMonthlyTopResponse> findMonthlyTopCardsByIds(Collection<Long> festivalIds);
+    List<FestivalSummaryResponse> findSummariesByIds(Collection<Long> festivalIds);
+    List<FestivalEventPeriod> findAllEventPeriods();
+
+    List<FestivalSearchDocument> findAllSearchDocuments();
+
+    List<FestivalSuggestSource> findAllSuggestSources();
+
+    List<FestivalCatalogRow> findAllCatalogRows();
+
+    List<FestivalFacetGroup> findFacetGroups(FestivalCatalogFilter filter);
+    List<FestivalCoordinate> findCoordinatesWithoutGeohash(Long afterId, int limit);
+    List<FestivalClusterPoint> findClusterPoints(FestivalMapClusterRequest request);
+    void evictCountCache();
 }
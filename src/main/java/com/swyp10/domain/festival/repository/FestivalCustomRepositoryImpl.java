@@ -1,270 +1,721 @@
 package com.swyp10.domain.festival.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.swyp10.domain.festival.dto.request.FestivalCalendarRequest;
+import com.swyp10.domain.festival.dto.request.FestivalMapClusterRequest;
 import com.swyp10.domain.festival.dto.request.FestivalMapRequest;
 import com.swyp10.domain.festival.dto.request.FestivalPersonalTestRequest;
 import com.swyp10.domain.festival.dto.request.FestivalSearchRequest;
 import com.swyp10.domain.festival.dto.response.FestivalDailyCountResponse;
 import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopResponse;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
-import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.entity.QFestival;
+import com.swyp10.domain.festival.entity.QFestivalDetail;
 import com.swyp10.domain.festival.entity.QFestivalStatistics;
-import lombok.RequiredArgsConstructor;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import com.swyp10.domain.festival.index.FestivalCatalogFilter;
+import com.swyp10.domain.festival.index.FestivalCatalogRow;
+import com.swyp10.domain.festival.index.FestivalClusterPoint;
+import com.swyp10.domain.festival.index.FestivalCoordinate;
+import com.swyp10.domain.festival.index.FestivalEventPeriod;
+import com.swyp10.domain.festival.index.FestivalFacetGroup;
+import com.swyp10.domain.festival.index.FestivalSearchDocument;
+import com.swyp10.domain.festival.index.FestivalSuggestSource;
+import com.swyp10.domain.festival.index.GeoHash;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 
-import java.time.DayOfWeek;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
-@RequiredArgsConstructor
 public class FestivalCustomRepositoryImpl implements FestivalCustomRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final FestivalCountCache countCache;
+
+    public FestivalCustomRepositoryImpl(
+        JPAQueryFactory queryFactory,
+        @Value("${festival.list.count-cache.enabled:true}") boolean countCacheEnabled,
+        @Value("${festival.list.count-cache.ttl-seconds:30}") long countCacheTtlSeconds,
+        @Value("${festival.list.count-cache.max-entries:1000}") int countCacheMaxEntries
+    ) {
+        this.queryFactory = queryFactory;
+        this.countCache = new FestivalCountCache(countCacheEnabled, Duration.ofSeconds(countCacheTtlSeconds),
+            countCacheMaxEntries, Clock.systemUTC());
+    }
 
     @Override
     public Page<FestivalSummaryResponse> findFestivalsForMap(FestivalMapRequest request, Pageable pageable) {
-        QFestival festival = QFestival.festival;
-
-        BooleanBuilder where = new BooleanBuilder();
-        // 1. 상태 필터
-        if (request.getStatus() != null && !request.getStatus().isAll()) {
-            where.and(festival.status.eq(request.getStatus()));
-        }
-        // 2. 기간 필터
-        if (request.getPeriod() != null && !request.getPeriod().isAll()) {
-            LocalDate now = LocalDate.now();
-            LocalDate start;
-            LocalDate end;
-
-            switch (request.getPeriod()) {
-                case THIS_WEEK -> {
-                    start = now.with(DayOfWeek.MONDAY);
-                    end = now.with(DayOfWeek.SUNDAY);
-                }
-                case THIS_MONTH -> {
-                    YearMonth ym = YearMonth.from(now);
-                    start = ym.atDay(1);
-                    end = ym.atEndOfMonth();
-                }
-                case NEXT_MONTH -> {
-                    YearMonth nextMonth = YearMonth.from(now).plusMonths(1);
-                    start = nextMonth.atDay(1);
-                    end = nextMonth.atEndOfMonth();
-                }
-                default -> {
-                    start = null;
-                    end = null;
-                }
-            }
-            // start~end 기간 내 겹치는 축제만 (축제의 종료일 >= start && 시작일 <= end)
-            if (start != null && end != null) {
-                where.and(festival.basicInfo.eventenddate.goe(start)
-                    .and(festival.basicInfo.eventstartdate.loe(end)));
-            }
-        }
-        // 3. withWhom, theme
-        if (request.getWithWhom() != null && !request.getWithWhom().isAll()) {
-            where.and(festival.withWhom.eq(request.getWithWhom()));
-        }
-        if (request.getTheme() != null && !request.getTheme().isAll()) {
-            where.and(festival.theme.eq(request.getTheme()));
-        }
-        // 4. 좌표 필터(지도 내 포함)
-        if (request.getLatTopLeft() != null && request.getLatBottomRight() != null &&
-            request.getLngTopLeft() != null && request.getLngBottomRight() != null) {
-            where.and(
-                festival.basicInfo.mapy.isNotNull().and(
-                    festival.basicInfo.mapx.isNotNull()).and(
-                festival.basicInfo.mapy.castToNum(Double.class)
-                    .between(request.getLatBottomRight(), request.getLatTopLeft())
-                    .and(festival.basicInfo.mapx.castToNum(Double.class)
-                        .between(request.getLngTopLeft(), request.getLngBottomRight()))));
+        return findFestivalsForMap(request, null, pageable);
+    }
 
+    @Override
+    public Page<FestivalSummaryResponse> findFestivalsForMap(FestivalMapRequest request, Collection<Long> periodCandidateIds,
+                                                             Pageable pageable) {
+        if (periodCandidateIds != null && periodCandidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = mapWhere(festival, request, periodCandidateIds);
 
-        List<Festival> content = queryFactory
-            .selectFrom(festival)
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
             .where(where)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .orderBy(festival.createdAt.desc())
+            .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
             .fetch();
 
-        // totalCount 쿼리
-        long total = queryFactory
-            .selectFrom(festival)
-            .where(where)
-            .fetchCount();
-
-        // 엔티티 → DTO 변환 (builder로)
+        // 요약 컬럼 projection → DTO 변환
         List<FestivalSummaryResponse> dtos = content.stream()
-            .map(FestivalSummaryResponse::from)
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(dtos, pageable, total);
+        // totalCount - 첫/마지막 페이지에서 알 수 있으면 생략, 아니면 캐시
+        return PageableExecutionUtils.getPage(dtos, pageable, () -> cachedCount("map", festival, where));
     }
 
     @Override
     public Page<FestivalSummaryResponse> findFestivalsForCalendar(FestivalCalendarRequest request, Pageable pageable) {
-        QFestival festival = QFestival.festival;
-        BooleanBuilder where = new BooleanBuilder();
+        return findFestivalsForCalendar(request, null, pageable);
+    }
 
-        // 지역 필터
-        if (request.getRegion() != null && !request.getRegion().isAll()) {
-            where.and(festival.regionFilter.eq(request.getRegion()));
-        }
-        // 누구랑 필터
-        if (request.getWithWhom() != null && !request.getWithWhom().isAll()) {
-            where.and(festival.withWhom.eq(request.getWithWhom()));
-        }
-        // 테마 필터
-        if (request.getTheme() != null && !request.getTheme().isAll()) {
-            where.and(festival.theme.eq(request.getTheme()));
-        }
-        // 날짜(달력) 필터: date가 축제기간에 포함되는 축제만
-        if (request.getDate() != null) {
-            LocalDate date = request.getDate();
-            where.and(festival.basicInfo.eventstartdate.loe(date)
-                .and(festival.basicInfo.eventenddate.goe(date)));
+    @Override
+    public Page<FestivalSummaryResponse> findFestivalsForCalendar(FestivalCalendarRequest request, Collection<Long> periodCandidateIds,
+                                                                  Pageable pageable) {
+        if (periodCandidateIds != null && periodCandidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = calendarWhere(festival, request, periodCandidateIds);
 
-        List<Festival> content = queryFactory
-            .selectFrom(festival)
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
             .where(where)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .orderBy(festival.basicInfo.eventstartdate.asc())
+            .orderBy(festival.basicInfo.eventstartdate.asc(), festival.festivalId.asc())
             .fetch();
 
-        long total = queryFactory
-            .selectFrom(festival)
-            .where(where)
-            .fetchCount();
-
         List<FestivalSummaryResponse> dtos = content.stream()
-            .map(FestivalSummaryResponse::from)
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(dtos, pageable, total);
+        return PageableExecutionUtils.getPage(dtos, pageable, () -> cachedCount("calendar", festival, where));
     }
 
     @Override
-    public List<FestivalDailyCountResponse.DailyCount> findDailyFestivalCounts(LocalDate start, LocalDate end) {
+    public FestivalSlice findFestivalsForMapSlice(FestivalMapRequest request, Collection<Long> periodCandidateIds,
+                                                  FestivalCursor cursor, Pageable pageable) {
+        if (periodCandidateIds != null && periodCandidateIds.isEmpty()) {
+            return new FestivalSlice(List.of(), false, null);
+        }
         QFestival festival = QFestival.festival;
+        return fetchSliceByCreatedAt(festival, mapWhere(festival, request, periodCandidateIds), cursor, pageable);
+    }
 
-        // DB에 한 번에 일자별 개수를 구하는 쿼리
-        List<FestivalDailyCountResponse.DailyCount> result = new ArrayList<>();
-        LocalDate date = start;
-        while (!date.isAfter(end)) {
-            Long count = queryFactory.select(festival.count())
-                .from(festival)
-                .where(
-                    festival.basicInfo.eventstartdate.loe(date)
-                        .and(festival.basicInfo.eventenddate.goe(date))
-                )
-                .fetchOne();
-            result.add(new FestivalDailyCountResponse.DailyCount(date, count == null ? 0 : count.intValue()));
-            date = date.plusDays(1);
+    @Override
+    public FestivalSlice findFestivalsForCalendarSlice(FestivalCalendarRequest request, Collection<Long> periodCandidateIds,
+                                                       FestivalCursor cursor, Pageable pageable) {
+        if (periodCandidateIds != null && periodCandidateIds.isEmpty()) {
+            return new FestivalSlice(List.of(), false, null);
         }
-        return result;
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = calendarWhere(festival, request, periodCandidateIds);
+        // 시작일이 없는 축제는 커서로 이어갈 수 없으므로 제외
+        where.and(festival.basicInfo.eventstartdate.isNotNull());
+        if (cursor != null) {
+            LocalDate startDate = cursor.startDate();
+            where.and(festival.basicInfo.eventstartdate.gt(startDate)
+                .or(festival.basicInfo.eventstartdate.eq(startDate).and(festival.festivalId.gt(cursor.festivalId()))));
+        }
+
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
+            .where(where)
+            .offset(cursor == null ? pageable.getOffset() : 0)
+            .limit(pageable.getPageSize() + 1)
+            .orderBy(festival.basicInfo.eventstartdate.asc(), festival.festivalId.asc())
+            .fetch();
+
+        return toSlice(content, pageable.getPageSize(),
+            last -> FestivalCursor.of(last.startDate(), last.festivalId()));
     }
 
     @Override
-    public Page<FestivalSummaryResponse> findFestivalsForPersonalTest(FestivalPersonalTestRequest request, Pageable pageable) {
+    public FestivalSlice findFestivalsForPersonalTestSlice(FestivalPersonalTestRequest request, FestivalCursor cursor, Pageable pageable) {
         QFestival festival = QFestival.festival;
+        return fetchSliceByCreatedAt(festival, personalTestWhere(festival, request), cursor, pageable);
+    }
 
-        BooleanBuilder where = new BooleanBuilder();
+    @Override
+    public FestivalSlice searchFestivalsSlice(FestivalSearchRequest request, FestivalCursor cursor, Pageable pageable) {
+        return searchFestivalsSlice(request, null, cursor, pageable);
+    }
 
-        if (request.getPersonalityType() != null) {
-            where.and(festival.personalityType.eq(request.getPersonalityType()));
+    @Override
+    public FestivalSlice searchFestivalsSlice(FestivalSearchRequest request, Collection<Long> searchCandidateIds,
+                                              FestivalCursor cursor, Pageable pageable) {
+        if (searchCandidateIds != null && searchCandidateIds.isEmpty()) {
+            return new FestivalSlice(List.of(), false, null);
         }
+        QFestival festival = QFestival.festival;
+        return fetchSliceByCreatedAt(festival, searchWhere(festival, request, searchCandidateIds), cursor, pageable);
+    }
 
-        List<Festival> content = queryFactory
-            .selectFrom(festival)
+    @Override
+    public List<FestivalDailyCountResponse.DailyCount> findDailyFestivalCounts(LocalDate start, LocalDate end) {
+        return findDailyFestivalCounts(start, end, null, null, null);
+    }
+
+    @Override
+    public List<FestivalDailyCountResponse.DailyCount> findDailyFestivalCounts(LocalDate start, LocalDate end,
+                                                                               RegionFilter region, FestivalTheme theme,
+                                                                               FestivalWithWhom withWhom) {
+        FestivalDailyCountSweep sweep = new FestivalDailyCountSweep(start, end);
+        if (end.isBefore(start)) {
+            return sweep.result();
+        }
+
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = calendarFilter(festival, region, withWhom, theme);
+        // 조회 구간과 겹치는 축제만 (시작일 <= end && 종료일 >= start)
+        where.and(festival.basicInfo.eventstartdate.loe(end)
+            .and(festival.basicInfo.eventenddate.goe(start)));
+
+        // 기간 컬럼만 한 번에 가져와서 메모리에서 일자별 개수 집계
+        List<Tuple> periods = queryFactory
+            .select(festival.basicInfo.eventstartdate, festival.basicInfo.eventenddate)
+            .from(festival)
             .where(where)
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .orderBy(festival.createdAt.desc())
             .fetch();
 
-        long total = queryFactory
-            .selectFrom(festival)
+        for (Tuple period : periods) {
+            sweep.add(period.get(festival.basicInfo.eventstartdate), period.get(festival.basicInfo.eventenddate));
+        }
+        return sweep.result();
+    }
+
+    @Override
+    public Page<FestivalSummaryResponse> findFestivalsForPersonalTest(FestivalPersonalTestRequest request, Pageable pageable) {
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = personalTestWhere(festival, request);
+
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
             .where(where)
-            .fetchCount();
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
+            .fetch();
 
         List<FestivalSummaryResponse> dtos = content.stream()
-            .map(FestivalSummaryResponse::from)
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(dtos, pageable, total);
+        return PageableExecutionUtils.getPage(dtos, pageable, () -> cachedCount("personal-test", festival, where));
     }
 
     @Override
     public Page<FestivalSummaryResponse> searchFestivals(FestivalSearchRequest request, Pageable pageable) {
-        QFestival festival = QFestival.festival;
+        return searchFestivals(request, null, pageable);
+    }
 
-        BooleanBuilder where = new BooleanBuilder();
-        String search = request.getSearchParam();
-        if (search != null && !search.isBlank()) {
-            BooleanExpression titleLike = festival.basicInfo.title.containsIgnoreCase(search);
-            BooleanExpression descLike = festival.overview.containsIgnoreCase(search);
-            BooleanExpression addrLike = festival.basicInfo.addr1.containsIgnoreCase(search);
-            where.and(titleLike.or(descLike).or(addrLike));
+    @Override
+    public Page<FestivalSummaryResponse> searchFestivals(FestivalSearchRequest request, Collection<Long> searchCandidateIds,
+                                                         Pageable pageable) {
+        if (searchCandidateIds != null && searchCandidateIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
+        QFestival festival = QFestival.festival;
+        BooleanBuilder where = searchWhere(festival, request, searchCandidateIds);
 
-        List<Festival> content = queryFactory
-            .selectFrom(festival)
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
             .where(where)
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
-            .orderBy(festival.createdAt.desc())
+            .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
             .fetch();
 
-        long total = queryFactory
-            .selectFrom(festival)
-            .where(where)
-            .fetchCount();
-
         List<FestivalSummaryResponse> dtos = content.stream()
-            .map(FestivalSummaryResponse::from)
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
 
-        return new PageImpl<>(dtos, pageable, total);
+        return PageableExecutionUtils.getPage(dtos, pageable, () -> cachedCount("search", festival, where));
+    }
+
+    // 해당 월에 집계된 고유 조회자 수 (다른 달 값이거나 아직 없으면 0)
+    private NumberExpression<Integer> uniqueViewersIn(QFestivalStatistics statistics, YearMonth month) {
+        return new CaseBuilder()
+            .when(statistics.uniqueViewersMonth.eq(month.getYear() * 100 + month.getMonthValue()))
+            .then(statistics.uniqueViewers)
+            .otherwise(0);
     }
 
     @Override
     public List<FestivalMonthlyTopResponse> findTop5ByViewCountInCurrentMonth(LocalDate startOfMonth, LocalDate endOfMonth) {
+        return findTop5ByViewCountInCurrentMonth(startOfMonth, endOfMonth, null);
+    }
+
+    @Override
+    public List<FestivalMonthlyTopResponse> findTop5ByViewCountInCurrentMonth(LocalDate startOfMonth, LocalDate endOfMonth,
+                                                                              Collection<Long> periodCandidateIds) {
+        return findMonthlyTopFestivals(startOfMonth, endOfMonth, periodCandidateIds, 5);
+    }
+
+    @Override
+    public List<FestivalMonthlyTopResponse> findMonthlyTopFestivals(LocalDate startOfMonth, LocalDate endOfMonth,
+                                                                    Collection<Long> periodCandidateIds, int limit) {
+        if (periodCandidateIds != null && periodCandidateIds.isEmpty()) {
+            return List.of();
+        }
         QFestival festival = QFestival.festival;
         QFestivalStatistics statistics = QFestivalStatistics.festivalStatistics;
 
         BooleanBuilder where = new BooleanBuilder();
 
         // 현재 월에 진행되는 축제 조건 (기존 달력 필터 로직과 동일한 방식)
-        where.and(festival.basicInfo.eventstartdate.loe(endOfMonth)
-            .and(festival.basicInfo.eventenddate.goe(startOfMonth)));
+        where.and(periodCondition(festival, startOfMonth, endOfMonth, periodCandidateIds));
+
+        return monthlyTopCards(query -> query
+            .leftJoin(statistics).on(festival.festivalId.eq(statistics.festivalId))
+            .where(where)
+            .orderBy(uniqueViewersIn(statistics, YearMonth.from(startOfMonth)).desc(),
+                statistics.viewCount.coalesce(0).desc())
+            .limit(limit));
+    }
+
+    @Override
+    public List<FestivalMonthlyTopResponse> findMonthlyTopCardsByIds(Collection<Long> festivalIds) {
+        if (festivalIds.isEmpty()) {
+            return List.of();
+        }
+        return monthlyTopCards(query -> query.where(QFestival.festival.festivalId.in(festivalIds)));
+    }
+
+    @Override
+    public List<FestivalSummaryResponse> findSummariesByIds(Collection<Long> festivalIds) {
+        if (festivalIds.isEmpty()) {
+            return List.of();
+        }
+        QFestival festival = QFestival.festival;
+
+        // 순서는 호출하는 쪽에서 맞춤
+        return queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
+            .where(festival.festivalId.in(festivalIds))
+            .fetch()
+            .stream()
+            .map(FestivalSummaryRow::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    // 이달의 축제 카드 조회 (조건/정렬은 호출하는 쪽에서 추가)
+    private List<FestivalMonthlyTopResponse> monthlyTopCards(UnaryOperator<JPAQuery<Tuple>> customizer) {
+        QFestival festival = QFestival.festival;
+        QFestivalDetail detail = QFestivalDetail.festivalDetail;
+
+        // 카드에 필요한 컬럼만 조회 (overview는 응답에 포함되므로 상세 테이블에서 읽고, 소개 TEXT 컬럼은 제외)
+        JPAQuery<Tuple> query = queryFactory
+            .select(festival.festivalId,
+                festival.basicInfo.firstimage,
+                festival.theme,
+                festival.basicInfo.title,
+                detail.overview,
+                festival.basicInfo.addr1,
+                festival.basicInfo.eventstartdate,
+                festival.basicInfo.eventenddate,
+                festival.basicInfo.mapx,
+                festival.basicInfo.mapy)
+            .from(festival)
+            .leftJoin(detail).on(festival.festivalId.eq(detail.festivalId));
+        List<Tuple> rows = customizer.apply(query).fetch();
+
+        // Tuple → FestivalMonthlyTopResponse DTO 변환 (FestivalMonthlyTopResponse.from과 같은 값)
+        return rows.stream()
+            .map(row -> {
+                FestivalTheme theme = row.get(festival.theme);
+                Double mapx = row.get(festival.basicInfo.mapx);
+                Double mapy = row.get(festival.basicInfo.mapy);
+                return FestivalMonthlyTopResponse.builder()
+                    .id(row.get(festival.festivalId))
+                    .thumbnail(row.get(festival.basicInfo.firstimage))
+                    .theme(theme != null ? theme.name() : null)
+                    .title(row.get(festival.basicInfo.title))
+                    .overview(row.get(detail.overview))
+                    .bookmarked(false)
+                    .address(row.get(festival.basicInfo.addr1))
+                    .startDate(row.get(festival.basicInfo.eventstartdate))
+                    .endDate(row.get(festival.basicInfo.eventenddate))
+                    .map_x(mapx != null ? String.valueOf(mapx) : null)
+                    .map_y(mapy != null ? String.valueOf(mapy) : null)
+                    .build();
+            })
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<FestivalEventPeriod> findAllEventPeriods() {
+        QFestival festival = QFestival.festival;
+
+        return queryFactory
+            .select(Projections.constructor(FestivalEventPeriod.class,
+                festival.festivalId,
+                festival.basicInfo.eventstartdate,
+                festival.basicInfo.eventenddate))
+            .from(festival)
+            .where(festival.basicInfo.eventstartdate.isNotNull()
+                .and(festival.basicInfo.eventenddate.isNotNull()))
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalSearchDocument> findAllSearchDocuments() {
+        QFestival festival = QFestival.festival;
+        QFestivalDetail detail = QFestivalDetail.festivalDetail;
+
+        return queryFactory
+            .select(Projections.constructor(FestivalSearchDocument.class,
+                festival.festivalId,
+                festival.basicInfo.title,
+                festival.basicInfo.addr1,
+                detail.overview))
+            .from(festival)
+            .leftJoin(detail).on(festival.festivalId.eq(detail.festivalId))
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalCatalogRow> findAllCatalogRows() {
+        QFestival festival = QFestival.festival;
+
+        // 지도/맞춤 축제 목록과 같은 순서 (카탈로그 행 순서)
+        return queryFactory
+            .select(Projections.constructor(FestivalCatalogRow.class,
+                festival.festivalId,
+                festival.basicInfo.firstimage2,
+                festival.basicInfo.title,
+                festival.basicInfo.addr1,
+                festival.basicInfo.eventstartdate,
+                festival.basicInfo.eventenddate,
+                festival.basicInfo.mapx,
+                festival.basicInfo.mapy,
+                festival.status,
+                festival.theme,
+                festival.withWhom,
+                festival.regionFilter,
+                festival.personalityType))
+            .from(festival)
+            .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalFacetGroup> findFacetGroups(FestivalCatalogFilter filter) {
+        QFestival festival = QFestival.festival;
+
+        // 기간/영역 조건만 DB에서 걸고, 필터 값 조합별 개수를 한 번에 가져와서 facet은 메모리에서 집계
+        BooleanBuilder where = new BooleanBuilder();
+        if (filter.hasPeriod()) {
+            where.and(periodCondition(festival, filter.periodStart(), filter.periodEnd(), null));
+        }
+        if (filter.hasViewport()) {
+            where.and(viewportCondition(festival, filter.minLat(), filter.maxLat(), filter.minLng(), filter.maxLng()));
+        }
+        if (filter.personalityType() != null) {
+            where.and(festival.personalityType.eq(filter.personalityType()));
+        }
+
+        return queryFactory
+            .select(Projections.constructor(FestivalFacetGroup.class,
+                festival.status,
+                festival.theme,
+                festival.withWhom,
+                festival.regionFilter,
+                festival.count()))
+            .from(festival)
+            .where(where)
+            .groupBy(festival.status, festival.theme, festival.withWhom, festival.regionFilter)
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalSuggestSource> findAllSuggestSources() {
+        QFestival festival = QFestival.festival;
+        QFestivalStatistics statistics = QFestivalStatistics.festivalStatistics;
+
+        return queryFactory
+            .select(Projections.constructor(FestivalSuggestSource.class,
+                festival.festivalId,
+                festival.basicInfo.title,
+                festival.basicInfo.areacodeName,
+                statistics.viewCount.coalesce(0)))
+            .from(festival)
+            .leftJoin(statistics).on(festival.festivalId.eq(statistics.festivalId))
+            .where(festival.basicInfo.title.isNotNull())
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalCoordinate> findCoordinatesWithoutGeohash(Long afterId, int limit) {
+        QFestival festival = QFestival.festival;
 
-        List<Festival> content = queryFactory
-            .selectFrom(festival)
+        return queryFactory
+            .select(Projections.constructor(FestivalCoordinate.class,
+                festival.festivalId,
+                festival.basicInfo.mapy,
+                festival.basicInfo.mapx))
+            .from(festival)
+            .where(festival.festivalId.gt(afterId),
+                festival.basicInfo.geohash.isNull(),
+                festival.basicInfo.mapx.isNotNull(),
+                festival.basicInfo.mapy.isNotNull())
+            .orderBy(festival.festivalId.asc())
+            .limit(limit)
+            .fetch();
+    }
+
+    @Override
+    public List<FestivalClusterPoint> findClusterPoints(FestivalMapClusterRequest request) {
+        QFestival festival = QFestival.festival;
+        QFestivalStatistics statistics = QFestivalStatistics.festivalStatistics;
+
+        BooleanBuilder where = new BooleanBuilder();
+        where.and(festival.basicInfo.mapx.isNotNull().and(festival.basicInfo.mapy.isNotNull()));
+        if (request.getStatus() != null && !request.getStatus().isAll()) {
+            where.and(festival.status.eq(request.getStatus()));
+        }
+        if (request.getTheme() != null && !request.getTheme().isAll()) {
+            where.and(festival.theme.eq(request.getTheme()));
+        }
+        if (request.hasViewport()) {
+            where.and(viewportCondition(festival, request.getLatBottomRight(), request.getLatTopLeft(),
+                request.getLngTopLeft(), request.getLngBottomRight()));
+        }
+
+        return queryFactory
+            .select(Projections.constructor(FestivalClusterPoint.class,
+                festival.festivalId,
+                festival.basicInfo.mapy,
+                festival.basicInfo.mapx,
+                festival.basicInfo.geohash,
+                festival.status,
+                festival.theme,
+                statistics.viewCount.coalesce(0)))
+            .from(festival)
             .leftJoin(statistics).on(festival.festivalId.eq(statistics.festivalId))
             .where(where)
-            .orderBy(statistics.viewCount.coalesce(0).desc())
-            .limit(5)
             .fetch();
+    }
+
+    @Override
+    public void evictCountCache() {
+        countCache.invalidateAll();
+    }
+
+    /**
+     * 목록 종류 + where 조건 문자열을 키로 count 캐시 조회
+     */
+    private long cachedCount(String kind, QFestival festival, BooleanBuilder where) {
+        String key = kind + ":" + (where.getValue() != null ? where.getValue().toString() : "");
+        return countCache.get(key, () -> {
+            Long total = queryFactory
+                .select(festival.count())
+                .from(festival)
+                .where(where)
+                .fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    /**
+     * createdAt desc, festivalId desc 순 목록을 size + 1건 조회 (count 없음)
+     * 커서가 있으면 (createdAt, festivalId) 이후부터 seek, 없으면 offset
+     */
+    private FestivalSlice fetchSliceByCreatedAt(QFestival festival, BooleanBuilder base, FestivalCursor cursor, Pageable pageable) {
+        BooleanBuilder where = new BooleanBuilder(base);
+        if (cursor != null) {
+            LocalDateTime createdAt = cursor.createdAt();
+            where.and(festival.createdAt.lt(createdAt)
+                .or(festival.createdAt.eq(createdAt).and(festival.festivalId.lt(cursor.festivalId()))));
+        }
+
+        List<FestivalSummaryRow> content = queryFactory
+            .select(FestivalSummaryRow.projection(festival))
+            .from(festival)
+            .where(where)
+            .offset(cursor == null ? pageable.getOffset() : 0)
+            .limit(pageable.getPageSize() + 1)
+            .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
+            .fetch();
+
+        return toSlice(content, pageable.getPageSize(), last -> FestivalCursor.of(last.createdAt(), last.festivalId()));
+    }
 
-        // 엔티티 → FestivalMonthlyTopResponse DTO 변환 (overview 포함)
-        List<FestivalMonthlyTopResponse> dtos = content.stream()
-            .map(FestivalMonthlyTopResponse::from)
+    private FestivalSlice toSlice(List<FestivalSummaryRow> rows, int size, Function<FestivalSummaryRow, FestivalCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<FestivalSummaryRow> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        List<FestivalSummaryResponse> dtos = content.stream()
+            .map(FestivalSummaryRow::toResponse)
             .collect(Collectors.toList());
+        return new FestivalSlice(dtos, hasNext, nextCursor);
+    }
+
+    private BooleanBuilder mapWhere(QFestival festival, FestivalMapRequest request, Collection<Long> periodCandidateIds) {
+        BooleanBuilder where = new BooleanBuilder();
+        // 1. 상태 필터
+        if (request.getStatus() != null && !request.getStatus().isAll()) {
+            where.and(festival.status.eq(request.getStatus()));
+        }
+        // 2. 기간 필터 - start~end 기간 내 겹치는 축제만 (축제의 종료일 >= start && 시작일 <= end)
+        if (request.getPeriod() != null && !request.getPeriod().isAll()) {
+            LocalDate now = LocalDate.now();
+            where.and(periodCondition(festival, request.getPeriod().startDate(now), request.getPeriod().endDate(now), periodCandidateIds));
+        }
+        // 3. withWhom, theme
+        if (request.getWithWhom() != null && !request.getWithWhom().isAll()) {
+            where.and(festival.withWhom.eq(request.getWithWhom()));
+        }
+        if (request.getTheme() != null && !request.getTheme().isAll()) {
+            where.and(festival.theme.eq(request.getTheme()));
+        }
+        // 4. 좌표 필터(지도 내 포함)
+        if (request.getLatTopLeft() != null && request.getLatBottomRight() != null &&
+            request.getLngTopLeft() != null && request.getLngBottomRight() != null) {
+            where.and(viewportCondition(festival, request.getLatBottomRight(), request.getLatTopLeft(),
+                request.getLngTopLeft(), request.getLngBottomRight()));
+        }
+        return where;
+    }
+
+    private BooleanBuilder calendarWhere(QFestival festival, FestivalCalendarRequest request, Collection<Long> periodCandidateIds) {
+        BooleanBuilder where = calendarFilter(festival, request.getRegion(), request.getWithWhom(), request.getTheme());
+
+        // 날짜(달력) 필터: date가 축제기간에 포함되는 축제만
+        if (request.getDate() != null) {
+            LocalDate date = request.getDate();
+            where.and(periodCondition(festival, date, date, periodCandidateIds));
+        }
+        return where;
+    }
+
+    private BooleanBuilder personalTestWhere(QFestival festival, FestivalPersonalTestRequest request) {
+        BooleanBuilder where = new BooleanBuilder();
 
-        return dtos;
+        if (request.getPersonalityType() != null) {
+            where.and(festival.personalityType.eq(request.getPersonalityType()));
+        }
+        return where;
+    }
+
+    /**
+     * 검색 조건 - 인덱스 후보 ID가 있으면 PK 조회로 좁히고, LIKE 조건은 후보 안에서 최종 확인용으로 그대로 둔다.
+     */
+    private BooleanBuilder searchWhere(QFestival festival, FestivalSearchRequest request, Collection<Long> candidateIds) {
+        BooleanBuilder where = new BooleanBuilder();
+        String search = request.getSearchParam();
+        if (search != null && !search.isBlank()) {
+            if (candidateIds != null) {
+                where.and(festival.festivalId.in(candidateIds));
+            }
+            BooleanExpression titleLike = festival.basicInfo.title.containsIgnoreCase(search);
+            // overview는 festival_details에 있으므로 상세 행 존재 여부로 확인 (상세 행이 없는 축제도 제목/주소로는 검색)
+            QFestivalDetail detail = QFestivalDetail.festivalDetail;
+            BooleanExpression descLike = JPAExpressions.selectOne()
+                .from(detail)
+                .where(detail.festivalId.eq(festival.festivalId),
+                    detail.overview.containsIgnoreCase(search))
+                .exists();
+            BooleanExpression addrLike = festival.basicInfo.addr1.containsIgnoreCase(search);
+            where.and(titleLike.or(descLike).or(addrLike));
+        }
+        return where;
+    }
+
+    /**
+     * 지도 영역 조건
+     * geohash prefix(LIKE 'wydm%')로 인덱스 범위 조회 후 실제 좌표로 정확히 한 번 더 거른다.
+     * 영역이 너무 넓어 셀로 덮을 수 없으면 좌표 조건만 사용.
+     */
+    private BooleanExpression viewportCondition(QFestival festival, double minLat, double maxLat,
+                                                double minLng, double maxLng) {
+        BooleanExpression bbox = festival.basicInfo.mapy.between(minLat, maxLat)
+            .and(festival.basicInfo.mapx.between(minLng, maxLng));
+
+        List<String> prefixes = GeoHash.coveringPrefixes(minLat, maxLat, minLng, maxLng);
+        if (prefixes.isEmpty()) {
+            return bbox;
+        }
+        BooleanBuilder cells = new BooleanBuilder();
+        for (String prefix : prefixes) {
+            cells.or(festival.basicInfo.geohash.startsWith(prefix));
+        }
+        return bbox.and(cells);
+    }
+
+    /**
+     * 기간 겹침 조건 (시작일 <= end && 종료일 >= start)
+     * interval index에서 뽑은 후보 ID가 있으면 PK 조회로 좁히고, 범위 조건은 인덱스가 오래됐을 때를 대비해 그대로 둔다.
+     */
+    private BooleanExpression periodCondition(QFestival festival, LocalDate start, LocalDate end,
+                                              Collection<Long> candidateIds) {
+        BooleanExpression overlap = festival.basicInfo.eventstartdate.loe(end)
+            .and(festival.basicInfo.eventenddate.goe(start));
+        if (candidateIds == null) {
+            return overlap;
+        }
+        return festival.festivalId.in(candidateIds).and(overlap);
+    }
+
+    /**
+     * 달력 화면 공통 필터 (지역/누구랑/테마) - 리스트와 일자별 개수가 같은 조건을 쓰도록 공유
+     */
+    private BooleanBuilder calendarFilter(QFestival festival, RegionFilter region,
+                                          FestivalWithWhom withWhom, FestivalTheme theme) {
+        BooleanBuilder where = new BooleanBuilder();
+
+        // 지역 필터
+        if (region != null && !region.isAll()) {
+            where.and(festival.regionFilter.eq(region));
+        }
+        // 누구랑 필터
+        if (withWhom != null && !withWhom.isAll()) {
+            where.and(festival.withWhom.eq(withWhom));
+        }
+        // 테마 필터
+        if (theme != null && !theme.isAll()) {
+            where.and(festival.theme.eq(theme));
+        }
+        return where;
     }
 }
@@ -0,0 +1,51 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.domain.festival.dto.response.FestivalDailyCountResponse;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 축제 기간 목록으로 일자별 진행 중 축제 개수를 계산하는 차분 배열(sweep-line)
+ * 축제 하나당 O(1)로 누적하고, 마지막에 구간 길이만큼 한 번 훑어 개수를 만든다.
+ */
+public class FestivalDailyCountSweep {
+
+    private final LocalDate startDate;
+    private final int days;
+    private final int[] diff;
+
+    public FestivalDailyCountSweep(LocalDate startDate, LocalDate endDate) {
+        this.startDate = startDate;
+        this.days = endDate.isBefore(startDate) ? 0 : (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+        this.diff = new int[days + 1];
+    }
+
+    /**
+     * 축제 기간 [eventStart, eventEnd]를 조회 구간으로 잘라서 누적
+     */
+    public void add(LocalDate eventStart, LocalDate eventEnd) {
+        if (eventStart == null || eventEnd == null || days == 0) {
+            return;
+        }
+        long from = Math.max(0, ChronoUnit.DAYS.between(startDate, eventStart));
+        long to = Math.min(days - 1, ChronoUnit.DAYS.between(startDate, eventEnd));
+        if (from > to) {
+            return;
+        }
+        diff[(int) from]++;
+        diff[(int) to + 1]--;
+    }
+
+    public List<FestivalDailyCountResponse.DailyCount> result() {
+        List<FestivalDailyCountResponse.DailyCount> result = new ArrayList<>(days);
+        int running = 0;
+        for (int i = 0; i < days; i++) {
+            running += diff[i];
+            result.add(new FestivalDailyCountResponse.DailyCount(startDate.plusDays(i), running));
+        }
+        return result;
+    }
+}
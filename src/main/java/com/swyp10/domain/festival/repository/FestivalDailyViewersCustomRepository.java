@@ -0,0 +1,12 @@
+package com.swyp10.domain.festival.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface FestivalDailyViewersCustomRepository {
+
+    /**
+     * 그날 행이 없으면 sketch로 새로 만들고 true, 다른 인스턴스가 먼저 만들었으면 false (이때는 잠가서 합쳐야 함)
+     */
+    boolean insertSketch(Long festivalId, LocalDate viewDate, byte[] sketch, LocalDateTime updatedAt);
+}
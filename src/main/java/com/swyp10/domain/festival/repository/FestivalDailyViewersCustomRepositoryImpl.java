@@ -0,0 +1,29 @@
+package com.swyp10.domain.festival.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@RequiredArgsConstructor
+public class FestivalDailyViewersCustomRepositoryImpl implements FestivalDailyViewersCustomRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO festival_daily_viewers (festival_id, view_date, sketch, updated_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insertSketch(Long festivalId, LocalDate viewDate, byte[] sketch, LocalDateTime updatedAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, festivalId, Date.valueOf(viewDate), sketch, Timestamp.valueOf(updatedAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.domain.festival.entity.FestivalDailyViewers;
+import com.swyp10.domain.festival.entity.FestivalDailyViewersId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface FestivalDailyViewersRepository extends JpaRepository<FestivalDailyViewers, FestivalDailyViewersId>,
+    FestivalDailyViewersCustomRepository {
+
+    List<FestivalDailyViewers> findByIdViewDateBetween(LocalDate from, LocalDate to);
+
+    // 엔티티를 읽지 않고 이미 저장된 축제 ID만 (잠그기 전에 새 행/기존 행을 나누는 용도)
+    @Query("SELECT v.id.festivalId FROM FestivalDailyViewers v " +
+        "WHERE v.id.viewDate = :viewDate AND v.id.festivalId IN :festivalIds")
+    List<Long> findFestivalIds(@Param("viewDate") LocalDate viewDate, @Param("festivalIds") Collection<Long> festivalIds);
+
+    // SELECT ... FOR UPDATE, 축제 ID 순서로 잠가서 여러 인스턴스가 동시에 저장해도 deadlock이 나지 않게
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM FestivalDailyViewers v " +
+        "WHERE v.id.viewDate = :viewDate AND v.id.festivalId IN :festivalIds ORDER BY v.id.festivalId")
+    List<FestivalDailyViewers> findForUpdate(@Param("viewDate") LocalDate viewDate, @Param("festivalIds") Collection<Long> festivalIds);
+}
@@ -0,0 +1,10 @@
+package com.swyp10.domain.festival.repository;
+
+public interface FestivalDetailCustomRepository {
+
+    /**
+     * 분리 이전 festivals 컬럼(overview + 소개)에 남아 있는 값으로 상세 행이 없는 축제의 festival_details 행을 만듦
+     * (이전 컬럼이 없는 DB면 0, 이미 행이 있는 축제는 건드리지 않으므로 여러 번 실행해도 같음)
+     */
+    int backfillFromLegacyColumns();
+}
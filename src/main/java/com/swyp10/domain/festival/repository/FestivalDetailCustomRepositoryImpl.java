@@ -0,0 +1,49 @@
+package com.swyp10.domain.festival.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+
+@RequiredArgsConstructor
+public class FestivalDetailCustomRepositoryImpl implements FestivalDetailCustomRepository {
+
+    private static final String COLUMNS =
+        "overview, agelimit, bookingplace, discountinfofestival, eventhomepage, eventplace, festivalgrade, " +
+        "placeinfo, playtime, program, spendtimefestival, sponsor1, sponsor1tel, sponsor2, sponsor2tel, " +
+        "subevent, usetimefestival";
+
+    private static final String BACKFILL_SQL =
+        "INSERT INTO festival_details (festival_id, " + COLUMNS + ") " +
+        "SELECT f.festival_id, " + COLUMNS.replaceAll("(\\w+)", "f.$1") + " FROM festivals f " +
+        "WHERE NOT EXISTS (SELECT 1 FROM festival_details d WHERE d.festival_id = f.festival_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int backfillFromLegacyColumns() {
+        if (!hasLegacyColumns()) {
+            return 0;
+        }
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+
+    // ddl-auto: update로 올라온 DB에만 festivals.overview가 남아 있음 (새로 만든 스키마에는 없음)
+    private boolean hasLegacyColumns() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"festivals", "FESTIVALS"}) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if ("overview".equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
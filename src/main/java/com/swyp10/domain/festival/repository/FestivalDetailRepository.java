@@ -0,0 +1,7 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.domain.festival.entity.FestivalDetail;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FestivalDetailRepository extends JpaRepository<FestivalDetail, Long>, FestivalDetailCustomRepository {
+}
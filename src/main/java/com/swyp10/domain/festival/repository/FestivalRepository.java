@@ -10,10 +10,14 @@ import org.springframework.data.repository.query.Param;
 import java.util.Optional;
 
 public interface FestivalRepository extends JpaRepository<Festival, Long>, FestivalCustomRepository {
-    @EntityGraph(attributePaths = {"basicInfo", "detailIntro", "detailImages"})
+    @EntityGraph(attributePaths = {"basicInfo", "detail", "detailImages"})
     Optional<Festival> findByContentId(String contentId);
 
+    // 상세 화면용 - festival_details / 이미지까지 한 번에 조회
+    @EntityGraph(attributePaths = {"detail", "detailImages"})
+    Optional<Festival> findWithDetailByFestivalId(Long festivalId);
+
     @Modifying
-    @Query("UPDATE FestivalStatistics fs SET fs.viewCount = fs.viewCount + 1, fs.updatedAt = CURRENT_TIMESTAMP WHERE fs.festivalId = :festivalId")
-    int incrementViewCount(@Param("festivalId") Long festivalId);
+    @Query("UPDATE Festival f SET f.basicInfo.geohash = :geohash WHERE f.festivalId = :festivalId")
+    int updateGeohash(@Param("festivalId") Long festivalId, @Param("geohash") String geohash);
 }
@@ -0,0 +1,19 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * count 없이 size + 1건으로 다음 페이지 존재 여부만 확인한 목록 조회 결과
+ */
+@Getter
+@AllArgsConstructor
+public class FestivalSlice {
+    private final List<FestivalSummaryResponse> content;
+    private final boolean hasNext;
+    // 마지막 행 기준 다음 페이지 커서 (다음 페이지가 없으면 null)
+    private final String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.swyp10.domain.festival.repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+
+public interface FestivalStatisticsCustomRepository {
+
+    /**
+     * 축제별 조회수 증가분을 batch update로 반영 - 통계 행이 없으면 만들고, 축제 자체가 없으면 반환 목록에 담음
+     */
+    Set<Long> addViewCounts(Map<Long, Long> increments, LocalDateTime updatedAt);
+
+    /**
+     * 축제별 이번 달 고유 조회자 수 추정치 반영 (통계 행이 있는 축제만)
+     */
+    void updateUniqueViewers(Map<Long, Long> estimates, YearMonth month);
+}
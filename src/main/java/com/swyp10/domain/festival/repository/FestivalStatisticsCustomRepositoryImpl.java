@@ -0,0 +1,78 @@
+package com.swyp10.domain.festival.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class FestivalStatisticsCustomRepositoryImpl implements FestivalStatisticsCustomRepository {
+
+    private static final String UPDATE_SQL =
+        "UPDATE festival_statistics SET view_count = view_count + ?, updated_at = ? WHERE festival_id = ?";
+
+    // 통계 행이 없는 축제만 (축제가 없거나 다른 트랜잭션에서 아직 커밋 전이면 0건)
+    private static final String INSERT_SQL =
+        "INSERT INTO festival_statistics (festival_id, view_count, bookmark_count, rating_avg, rating_count, unique_viewers, updated_at) " +
+        "SELECT f.festival_id, ?, 0, 0, 0, 0, ? FROM festivals f " +
+        "WHERE f.festival_id = ? AND NOT EXISTS (SELECT 1 FROM festival_statistics s WHERE s.festival_id = f.festival_id)";
+
+    private static final String UNIQUE_VIEWERS_SQL =
+        "UPDATE festival_statistics SET unique_viewers = ?, unique_viewers_month = ? WHERE festival_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<Long> addViewCounts(Map<Long, Long> increments, LocalDateTime updatedAt) {
+        if (increments.isEmpty()) {
+            return Set.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+
+        // ID 순서로 잠가서 여러 인스턴스가 동시에 flush해도 deadlock이 나지 않게
+        List<Object[]> updates = new ArrayList<>(increments.size());
+        new TreeMap<>(increments).forEach((festivalId, count) ->
+            updates.add(new Object[]{count, timestamp, festivalId}));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        List<Object[]> inserts = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            // SUCCESS_NO_INFO는 드라이버가 건수를 모르는 경우 - 반영된 것으로 봄
+            if (updated[i] == 0) {
+                inserts.add(updates.get(i));
+            }
+        }
+        if (inserts.isEmpty()) {
+            return Set.of();
+        }
+
+        int[] inserted = jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        Set<Long> missing = new HashSet<>();
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] == 0) {
+                missing.add((Long) inserts.get(i)[2]);
+            }
+        }
+        return missing;
+    }
+
+    @Override
+    public void updateUniqueViewers(Map<Long, Long> estimates, YearMonth month) {
+        if (estimates.isEmpty()) {
+            return;
+        }
+        int yearMonth = month.getYear() * 100 + month.getMonthValue();
+        List<Object[]> updates = new ArrayList<>(estimates.size());
+        new TreeMap<>(estimates).forEach((festivalId, estimate) ->
+            updates.add(new Object[]{(int) Math.min(estimate, Integer.MAX_VALUE), yearMonth, festivalId}));
+        jdbcTemplate.batchUpdate(UNIQUE_VIEWERS_SQL, updates);
+    }
+}
@@ -3,5 +3,5 @@ package com.swyp10.domain.festival.repository;
 import com.swyp10.domain.festival.entity.FestivalStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface FestivalStatisticsRepository extends JpaRepository<FestivalStatistics, Long> {
+public interface FestivalStatisticsRepository extends JpaRepository<FestivalStatistics, Long>, FestivalStatisticsCustomRepository {
 }
@@ -0,0 +1,59 @@
+package com.swyp10.domain.festival.repository;
+
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import com.swyp10.domain.festival.entity.QFestival;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 목록 카드용 축제 projection
+ * 엔티티 대신 요약 컬럼만 읽어서 overview / detailIntro 같은 TEXT 컬럼을 가져오지 않는다.
+ * createdAt은 응답에는 없지만 커서 생성에 쓴다.
+ */
+public record FestivalSummaryRow(
+    Long festivalId,
+    LocalDateTime createdAt,
+    String thumbnail,
+    FestivalTheme theme,
+    String title,
+    String address,
+    LocalDate startDate,
+    LocalDate endDate,
+    Double mapx,
+    Double mapy
+) {
+
+    public static ConstructorExpression<FestivalSummaryRow> projection(QFestival festival) {
+        return Projections.constructor(FestivalSummaryRow.class,
+            festival.festivalId,
+            festival.createdAt,
+            festival.basicInfo.firstimage2,
+            festival.theme,
+            festival.basicInfo.title,
+            festival.basicInfo.addr1,
+            festival.basicInfo.eventstartdate,
+            festival.basicInfo.eventenddate,
+            festival.basicInfo.mapx,
+            festival.basicInfo.mapy);
+    }
+
+    // FestivalSummaryResponse.from(Festival)과 같은 값
+    public FestivalSummaryResponse toResponse() {
+        return FestivalSummaryResponse.builder()
+            .id(festivalId)
+            .thumbnail(thumbnail)
+            .theme(theme != null ? theme.name() : null)
+            .title(title)
+            .bookmarked(false)
+            .address(address)
+            .startDate(startDate)
+            .endDate(endDate)
+            .map_x(String.valueOf(mapx))
+            .map_y(String.valueOf(mapy))
+            .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.swyp10.domain.festival.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface FestivalViewDailyCustomRepository {
+
+    /**
+     * 축제별 조회수 증가분을 해당 날짜 행에 더함 (행이 없으면 생성, 축제가 없으면 버림)
+     */
+    void addDailyViewCounts(Map<Long, Long> increments, LocalDate viewDate, LocalDateTime updatedAt);
+}
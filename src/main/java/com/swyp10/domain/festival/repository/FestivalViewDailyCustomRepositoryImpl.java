@@ -0,0 +1,58 @@
+package com.swyp10.domain.festival.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class FestivalViewDailyCustomRepositoryImpl implements FestivalViewDailyCustomRepository {
+
+    private static final String UPDATE_SQL =
+        "UPDATE festival_view_daily SET view_count = view_count + ?, updated_at = ? WHERE festival_id = ? AND view_date = ?";
+
+    // 그날 첫 조회인 축제만 (축제가 없으면 0건)
+    private static final String INSERT_SQL =
+        "INSERT INTO festival_view_daily (festival_id, view_date, view_count, updated_at) " +
+        "SELECT f.festival_id, ?, ?, ? FROM festivals f " +
+        "WHERE f.festival_id = ? AND NOT EXISTS " +
+        "(SELECT 1 FROM festival_view_daily d WHERE d.festival_id = f.festival_id AND d.view_date = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addDailyViewCounts(Map<Long, Long> increments, LocalDate viewDate, LocalDateTime updatedAt) {
+        if (increments.isEmpty()) {
+            return;
+        }
+        Date date = Date.valueOf(viewDate);
+        Timestamp timestamp = Timestamp.valueOf(updatedAt);
+
+        // ID 순서로 잠가서 여러 인스턴스가 동시에 flush해도 deadlock이 나지 않게
+        List<Object[]> updates = new ArrayList<>(increments.size());
+        new TreeMap<>(increments).forEach((festivalId, count) ->
+            updates.add(new Object[]{count, timestamp, festivalId, date}));
+        int[] updated = jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+
+        // 새 행은 축제당 하루 한 번뿐이라 한 건씩 넣고, 다른 인스턴스가 먼저 넣었으면 다시 더함
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] != 0) {
+                continue;
+            }
+            Object[] update = updates.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, date, update[0], timestamp, update[2], date);
+            } catch (DuplicateKeyException e) {
+                jdbcTemplate.update(UPDATE_SQL, update);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.domain.festival.entity.FestivalViewDaily;
+import com.swyp10.domain.festival.entity.FestivalViewDailyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FestivalViewDailyRepository extends JpaRepository<FestivalViewDaily, FestivalViewDailyId>,
+    FestivalViewDailyCustomRepository {
+
+    List<FestivalViewDaily> findByIdViewDateGreaterThanEqual(LocalDate from);
+}
@@ -0,0 +1,47 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.event.CatalogChangedEvent;
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.index.FestivalCatalogHolder;
+import com.swyp10.domain.festival.index.FestivalIntervalIndexHolder;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 다른 인스턴스의 축제 동기화 반영
+ *
+ * 동기화한 인스턴스는 축제를 저장할 때마다 해당 캐시를 비우지만, 나머지 인스턴스는 catalog_versions 폴링으로만 알 수 있다.
+ * 어떤 축제가 바뀌었는지 모르므로 축제 캐시(목록 개수, 카탈로그, 기간 인덱스, 상세, ETag 버전)를 전부 버린 뒤
+ * 동기화 완료 이벤트를 그대로 발행해서 메모리 인덱스/스냅샷을 동기화한 인스턴스와 같은 방법으로 다시 만든다.
+ * 식당/여행코스/지역은 아직 메모리 캐시가 없어서 여기서 처리할 것이 없다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FestivalCatalogChangeListener {
+
+    private final FestivalRepository festivalRepository;
+    private final FestivalCatalogHolder catalogHolder;
+    private final FestivalIntervalIndexHolder intervalIndexHolder;
+    private final FestivalDetailCache festivalDetailCache;
+    private final FestivalVersions festivalVersions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @EventListener
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        if (event.getEntityType() != CatalogEntityType.FESTIVAL) {
+            return;
+        }
+        festivalRepository.evictCountCache();
+        catalogHolder.invalidate();
+        intervalIndexHolder.invalidate();
+        festivalDetailCache.clear();
+        festivalVersions.bumpAll();
+        // 다른 인스턴스의 Job이라 실행 ID는 없음
+        eventPublisher.publishEvent(new FestivalSyncCompletedEvent(null, BatchStatus.COMPLETED));
+    }
+}
@@ -0,0 +1,190 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.festival.dto.response.FestivalDetailResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 축제 상세 응답 캐시 (사용자와 무관한 본문만, 북마크 여부는 꺼낸 뒤 덮어씀)
+ *
+ * 상세 내용은 동기화 Job이 축제를 저장할 때만 바뀌므로 그때 해당 축제만 정확히 버린다 (저장 직후 + 커밋 후 두 번).
+ * 개수(max-entries)와 대략적인 크기(max-weight-bytes, 문자열 길이 기준) 둘 다 넘지 않도록 오래 안 쓴 축제부터 버린다(LRU).
+ * 읽는 도중 축제가 저장됐으면 읽은 결과가 이미 오래됐을 수 있으므로 캐시에 넣지 않는다.
+ * 미적중이 몰리면 같은 축제는 한 번만 읽는다 (single-flight 키에 세대를 넣어, 축제가 저장된 뒤 온 요청은 그 전에 시작한 조회에 합류하지 않음).
+ */
+@Component
+public class FestivalDetailCache {
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+    // 축제를 버릴 때마다 증가 (읽기 시작 시점 값과 다르면 읽은 결과를 캐시하지 않음)
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter evictionCounter;
+    private final FestivalSingleFlight singleFlight;
+
+    public FestivalDetailCache(
+        @Value("${festival.detail-cache.enabled:true}") boolean enabled,
+        @Value("${festival.detail-cache.max-entries:2000}") int maxEntries,
+        @Value("${festival.detail-cache.max-weight-bytes:33554432}") long maxWeight,
+        MeterRegistry meterRegistry,
+        FestivalSingleFlight singleFlight
+    ) {
+        this.enabled = enabled;
+        this.singleFlight = singleFlight;
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        Gauge.builder("festival.detail.cache.size", this, FestivalDetailCache::size)
+            .description("캐시된 축제 상세 개수")
+            .register(meterRegistry);
+        Gauge.builder("festival.detail.cache.weight", this, FestivalDetailCache::weight)
+            .description("캐시된 축제 상세 추정 크기(byte)")
+            .register(meterRegistry);
+        this.hitCounter = Counter.builder("festival.detail.cache.hits")
+            .description("축제 상세 캐시 적중")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder("festival.detail.cache.misses")
+            .description("축제 상세 캐시 미적중 (DB 조회)")
+            .register(meterRegistry);
+        this.evictionCounter = Counter.builder("festival.detail.cache.evictions")
+            .description("크기 제한으로 버린 축제 상세")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 상세 본문 (없으면 loader로 만들어서 저장, loader 예외는 캐시하지 않고 그대로 던짐)
+     */
+    public FestivalDetailResponse get(Long festivalId, Supplier<FestivalDetailResponse> loader) {
+        if (!enabled) {
+            return singleFlight.execute("festival-detail:" + festivalId, loader);
+        }
+        synchronized (this) {
+            Entry cached = entries.get(festivalId);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached.response();
+            }
+        }
+        missCounter.increment();
+        long startedGeneration = generation.get();
+        FestivalDetailResponse loaded = singleFlight.execute(
+            "festival-detail:" + festivalId + "@" + startedGeneration, loader);
+        synchronized (this) {
+            if (generation.get() == startedGeneration) {
+                put(festivalId, new Entry(loaded, estimateWeight(loaded)));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 축제 저장/삭제 시 해당 축제만 버림 (트랜잭션 안이면 커밋 후에 한 번 더)
+     */
+    public void evict(Long festivalId) {
+        if (!enabled || festivalId == null) {
+            return;
+        }
+        remove(festivalId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(festivalId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전부 버림 (다른 인스턴스가 동기화해서 어떤 축제가 바뀌었는지 모를 때)
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long weight() {
+        return weight;
+    }
+
+    private synchronized void remove(Long festivalId) {
+        generation.incrementAndGet();
+        Entry removed = entries.remove(festivalId);
+        if (removed != null) {
+            weight -= removed.weight();
+        }
+    }
+
+    private void put(Long festivalId, Entry entry) {
+        Entry previous = entries.put(festivalId, entry);
+        if (previous != null) {
+            weight -= previous.weight();
+        }
+        weight += entry.weight();
+
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            Entry evicted = eldest.next().getValue();
+            eldest.remove();
+            weight -= evicted.weight();
+            evictionCounter.increment();
+        }
+    }
+
+    // 문자열 길이 * 2(UTF-16) + 객체당 고정 오버헤드로 대략 계산 (정확한 크기가 아니라 상한 관리용)
+    static long estimateWeight(FestivalDetailResponse response) {
+        long weight = 256;
+        weight += chars(response.getTitle(), response.getAddress(), response.getTheme(), response.getStartDate(),
+            response.getEndDate(), response.getThumbnail(), response.getMapx(), response.getMapy());
+        if (response.getImages() != null) {
+            for (FestivalDetailResponse.ImageResponse image : response.getImages()) {
+                weight += 64 + chars(image.getContentid(), image.getOriginimgurl(), image.getSmallimageurl());
+            }
+        }
+        FestivalDetailResponse.ContentResponse content = response.getContent();
+        if (content != null) {
+            weight += 64 + chars(content.getTitle(), content.getHomepage(), content.getAddr1(), content.getAddr2(),
+                content.getOverview());
+        }
+        FestivalDetailResponse.InfoResponse info = response.getInfo();
+        if (info != null) {
+            weight += 64 + chars(info.getSponsor1(), info.getSponsor1tel(), info.getEventstartdate(),
+                info.getEventenddate(), info.getPlaytime(), info.getEventplace(), info.getEventhomepage(),
+                info.getUsetimefestival(), info.getDiscountinfofestival(), info.getSpendtimefestival());
+        }
+        return weight;
+    }
+
+    private static long chars(String... values) {
+        long sum = 0;
+        for (String value : values) {
+            if (value != null) {
+                sum += 40 + 2L * value.length();
+            }
+        }
+        return sum;
+    }
+
+    private record Entry(FestivalDetailResponse response, long weight) {
+    }
+}
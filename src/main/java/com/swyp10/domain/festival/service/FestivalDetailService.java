@@ -1,6 +1,6 @@
 package com.swyp10.domain.festival.service;
 
-import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
+import com.swyp10.domain.bookmark.index.UserBookmarkCache;
 import com.swyp10.domain.festival.dto.response.FestivalDetailResponse;
 import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.entity.FestivalBasicInfo;
@@ -10,59 +10,85 @@ import com.swyp10.domain.festival.repository.FestivalRepository;
 import com.swyp10.exception.ApplicationException;
 import com.swyp10.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class FestivalDetailService {
 
     private final FestivalRepository festivalRepository;
-    private final UserBookmarkRepository userBookmarkRepository;
+    private final UserBookmarkCache userBookmarkCache;
+    private final FestivalViewCounter festivalViewCounter;
+    private final FestivalUniqueViewerCounter uniqueViewerCounter;
+    private final FestivalDetailCache festivalDetailCache;
+
+    private static final DateTimeFormatter YYYYMMDD = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter YYYY_MM_DD = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
     /**
      * 축제 상세 조회 (북마크 상태 포함)
      */
     public FestivalDetailResponse getFestivalDetail(Long festivalId, Long userId) {
-        System.out.println("=== 축제 상세 조회 시작 ===");
-        System.out.println("festivalId: " + festivalId + ", userId: " + userId);
-        
-        // festival_id(PK)로 축제 찾기
-        Festival festival = festivalRepository.findById(festivalId)
-            .orElseThrow(() -> new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND, "축제를 찾을 수 없습니다. id=" + festivalId));
-
-        // 조회수 증가
-        incrementViewCountInNewTransaction(festivalId);
-
-        // 북마크 상태 확인
-        boolean isBookmarked = false;
-        if (userId != null) {
-            isBookmarked = userBookmarkRepository.existsByUser_UserIdAndFestival_FestivalIdAndDeletedAtIsNull(userId, festivalId);
-            System.out.println("북마크 상태 확인: userId=" + userId + ", festivalId=" + festivalId + ", isBookmarked=" + isBookmarked);
-        } else {
-            System.out.println("로그인 안됨, bookmarked=false");
+        return getFestivalDetail(festivalId, userId, null);
+    }
+
+    /**
+     * 축제 상세 조회 - clientKey는 비로그인 조회자 구분용 (고유 조회자 수 집계)
+     */
+    public FestivalDetailResponse getFestivalDetail(Long festivalId, Long userId, String clientKey) {
+        return getFestivalDetail(festivalId, userId, clientKey, userId != null && isBookmarked(festivalId, userId));
+    }
+
+    /**
+     * 축제 상세 조회 - 북마크 여부를 이미 확인한 경우 (컨트롤러가 ETag 비교에 쓴 값을 그대로 사용)
+     */
+    public FestivalDetailResponse getFestivalDetail(Long festivalId, Long userId, String clientKey, boolean bookmarked) {
+        // 사용자와 무관한 상세 본문은 캐시에서 (없으면 festival_id(PK)로 축제 찾아서 만듦)
+        FestivalDetailResponse body = festivalDetailCache.get(festivalId, () -> {
+            Festival festival = festivalRepository.findWithDetailByFestivalId(festivalId)
+                .orElseThrow(() -> new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND, "축제를 찾을 수 없습니다. id=" + festivalId));
+            return toDetailResponse(festival);
+        });
+
+        recordView(festivalId, userId, clientKey);
+        log.debug("[Festival Detail] festivalId={}, userId={}, bookmarked={}", festivalId, userId, bookmarked);
+
+        // 캐시된 본문은 공유하므로 북마크 여부만 바꾼 사본을 반환
+        return body.toBuilder()
+            .bookmarked(bookmarked)
+            .build();
+    }
+
+    /**
+     * 조회수 증가 (메모리에 모았다가 주기적으로 DB 반영) - 304 응답에도 조회로 셈 (존재를 확인한 축제만)
+     */
+    public void recordView(Long festivalId, Long userId, String clientKey) {
+        festivalViewCounter.increment(festivalId);
+        if (userId != null || clientKey != null) {
+            uniqueViewerCounter.record(festivalId, FestivalUniqueViewerCounter.viewerKey(userId, clientKey));
         }
-        
-        return toDetailResponse(festival, isBookmarked);
     }
 
-    private FestivalDetailResponse toDetailResponse(Festival festival, boolean isBookmarked) {
+    public boolean isBookmarked(Long festivalId, Long userId) {
+        return userBookmarkCache.findBookmarkedFestivalIds(userId, List.of(festivalId)).contains(festivalId);
+    }
+
+    private FestivalDetailResponse toDetailResponse(Festival festival) {
         FestivalBasicInfo basic = festival.getBasicInfo();
         FestivalDetailIntro intro = festival.getDetailIntro();
 
         // startDate/endDate는 상세의 "yyyy-MM-dd" String으로 노출
-        DateTimeFormatter yyyyMMdd = DateTimeFormatter.ofPattern("yyyyMMdd");
-        DateTimeFormatter yyyy_MM_dd = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
         String startDateStr = (basic != null && basic.getEventstartdate() != null)
-            ? basic.getEventstartdate().format(yyyy_MM_dd) : null;
+            ? basic.getEventstartdate().format(YYYY_MM_DD) : null;
         String endDateStr = (basic != null && basic.getEventenddate() != null)
-            ? basic.getEventenddate().format(yyyy_MM_dd) : null;
+            ? basic.getEventenddate().format(YYYY_MM_DD) : null;
 
         // theme는 Enum → displayName 또는 코드값 등 프로젝트 규칙에 맞춰서
         String theme = festival.getTheme() != null ? festival.getTheme().getDisplayName() : null;
@@ -91,8 +117,8 @@ public class FestivalDetailService {
         FestivalDetailResponse.InfoResponse info = FestivalDetailResponse.InfoResponse.builder()
             .sponsor1(intro != null ? intro.getSponsor1() : null)
             .sponsor1tel(intro != null ? intro.getSponsor1tel() : null)
-            .eventstartdate(basic != null && basic.getEventstartdate() != null ? basic.getEventstartdate().format(yyyyMMdd) : null)
-            .eventenddate(basic != null && basic.getEventenddate() != null ? basic.getEventenddate().format(yyyyMMdd) : null)
+            .eventstartdate(basic != null && basic.getEventstartdate() != null ? basic.getEventstartdate().format(YYYYMMDD) : null)
+            .eventenddate(basic != null && basic.getEventenddate() != null ? basic.getEventenddate().format(YYYYMMDD) : null)
             .playtime(intro != null ? intro.getPlaytime() : null)
             .eventplace(intro != null ? intro.getEventplace() : null)
             .eventhomepage(intro != null ? intro.getEventhomepage() : null)
@@ -114,7 +140,7 @@ public class FestivalDetailService {
             .images(images)
             .content(content)
             .info(info)
-            .bookmarked(isBookmarked)  // 북마크 상태 추가
+            .bookmarked(false)  // 북마크 상태는 캐시 밖에서 덮어씀
             .build();
     }
 
@@ -129,16 +155,4 @@ public class FestivalDetailService {
     private String safeToString(Object o) {
         return o == null ? null : String.valueOf(o);
     }
-
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void incrementViewCountInNewTransaction(Long festivalId) {
-        int updatedRows = festivalRepository.incrementViewCount(festivalId);
-        if (updatedRows == 0) {
-            Festival festival = festivalRepository.findById(festivalId).orElse(null);
-            if (festival != null && festival.getStatistics() == null) {
-                festival.initializeStatistics();
-                festivalRepository.save(festival);
-            }
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.swyp10.domain.festival.service;
 
+import com.swyp10.domain.bookmark.index.UserBookmarkCache;
 import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
 import com.swyp10.domain.festival.dto.request.*;
 import com.swyp10.domain.festival.dto.response.*;
@@ -8,8 +9,28 @@ import com.swyp10.domain.festival.dto.tourapi.DetailImage2Dto;
 import com.swyp10.domain.festival.dto.tourapi.DetailIntro2Dto;
 import com.swyp10.domain.festival.dto.tourapi.SearchFestival2Dto;
 import com.swyp10.domain.festival.entity.Festival;
+import com.swyp10.domain.festival.enums.FestivalPageMode;
+import com.swyp10.domain.festival.enums.FestivalPeriod;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import com.swyp10.domain.festival.index.FestivalCatalog;
+import com.swyp10.domain.festival.index.FestivalCatalogFilter;
+import com.swyp10.domain.festival.index.FestivalCatalogHolder;
+import com.swyp10.domain.festival.index.FestivalClusterIndex;
+import com.swyp10.domain.festival.index.FestivalClusterIndexHolder;
+import com.swyp10.domain.festival.index.FestivalFacetCounter;
+import com.swyp10.domain.festival.index.FestivalCoordinate;
+import com.swyp10.domain.festival.index.FestivalIntervalIndexHolder;
+import com.swyp10.domain.festival.index.FestivalSearchIndexHolder;
+import com.swyp10.domain.festival.index.FestivalTrendingHolder;
+import com.swyp10.domain.festival.index.GeoHash;
 import com.swyp10.domain.festival.mapper.FestivalMapper;
+import com.swyp10.domain.festival.repository.FestivalCursor;
 import com.swyp10.domain.festival.repository.FestivalRepository;
+import com.swyp10.domain.festival.repository.FestivalSlice;
+import com.swyp10.domain.recommendation.service.MonthlyTopFestivalRefresher;
+import com.swyp10.domain.search.service.SearchKeywordRecorder;
 import com.swyp10.exception.ApplicationException;
 import com.swyp10.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -22,7 +43,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +57,22 @@ public class FestivalService {
 
     private final FestivalRepository festivalRepository;
     private final UserBookmarkRepository userBookmarkRepository;
+    private final UserBookmarkCache userBookmarkCache;
+    private final FestivalIntervalIndexHolder intervalIndexHolder;
+    private final FestivalClusterIndexHolder clusterIndexHolder;
+    private final FestivalSearchIndexHolder searchIndexHolder;
+    private final SearchKeywordRecorder searchKeywordRecorder;
+    private final MonthlyTopFestivalRefresher monthlyTopFestivalRefresher;
+    private final FestivalTrendingHolder festivalTrendingHolder;
+    private final FestivalCatalogHolder catalogHolder;
+    private final FestivalDetailCache festivalDetailCache;
+    private final FestivalVersions festivalVersions;
+    private final FestivalSingleFlight singleFlight;
+
+    // interval index 후보가 이보다 많으면 IN 절 대신 DB 범위 조건으로 조회
+    private static final int MAX_PERIOD_CANDIDATES = 1000;
+    // 검색 인덱스 후보가 이보다 많으면(흔한 단어) IN 절 대신 LIKE 조건으로 조회
+    private static final int MAX_SEARCH_CANDIDATES = 1000;
 
     @Transactional
     public Festival saveOrUpdateFestival(
@@ -39,7 +81,7 @@ public class FestivalService {
         DetailIntro2Dto detailIntro2Dto,
         List<DetailImage2Dto> detailImage2DtoList
     ) {
-        return festivalRepository.findByContentId(searchFestival2Dto.getContentid())
+        Festival result = festivalRepository.findByContentId(searchFestival2Dto.getContentid())
             .map(existing -> {
                 existing.clearDetailImages();
                 existing.updateOverview(detailCommon2Dto.getOverview());
@@ -65,6 +107,14 @@ public class FestivalService {
 
                 return festivalRepository.save(savedFestival);
             });
+
+        // 목록 전체 개수 캐시 / 메모리 카탈로그 / 기간 인덱스 / 해당 축제 상세 캐시 무효화, ETag 버전 증가
+        festivalRepository.evictCountCache();
+        catalogHolder.invalidate();
+        intervalIndexHolder.invalidate();
+        festivalDetailCache.evict(result.getFestivalId());
+        festivalVersions.bump(result.getFestivalId());
+        return result;
     }
 
     public Festival findByFestivalId(Long festivalId) {
@@ -89,28 +139,126 @@ public class FestivalService {
         return festivalRepository.count();
     }
 
+    /**
+     * geohash가 비어 있는 기존 축제 좌표에 geohash 채우기 (기동 시 백필용)
+     */
+    @Transactional
+    public void updateGeohashes(List<FestivalCoordinate> coordinates) {
+        for (FestivalCoordinate coordinate : coordinates) {
+            String geohash = GeoHash.encode(coordinate.lat(), coordinate.lng());
+            if (geohash != null) {
+                festivalRepository.updateGeohash(coordinate.festivalId(), geohash);
+            }
+        }
+    }
+
     @Transactional
     public void deleteByFestivalId(Long festivalId) {
         festivalRepository.deleteById(festivalId);
+        festivalRepository.evictCountCache();
+        catalogHolder.invalidate();
+        intervalIndexHolder.invalidate();
+        festivalDetailCache.evict(festivalId);
+        festivalVersions.removed(festivalId);
     }
 
     public FestivalListResponse getFestivalsForMap(Long userId, FestivalMapRequest request) {
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
-        Page<FestivalSummaryResponse> result = festivalRepository.findFestivalsForMap(request, pageRequest);
+        List<Long> candidateIds = null;
+        FestivalPeriod period = request.getPeriod();
+        if (period != null && !period.isAll()) {
+            LocalDate now = LocalDate.now();
+            candidateIds = periodCandidates(period.startDate(now), period.endDate(now));
+        }
+        if (isSliceRequest(request)) {
+            FestivalSlice slice = festivalRepository.findFestivalsForMapSlice(
+                request, candidateIds, FestivalCursor.decode(request.getCursor()), pageRequest);
+            return buildSliceResponseWithBookmarks(userId, request, slice);
+        }
+        Optional<FestivalCatalog> catalog = catalogHolder.current();
+        Page<FestivalSummaryResponse> result = catalog.isPresent()
+            ? catalog.get().find(FestivalCatalogFilter.forMap(request, LocalDate.now()), FestivalCatalog.Order.CREATED_DESC, pageRequest)
+            : festivalRepository.findFestivalsForMap(request, candidateIds, pageRequest);
 
         return buildListResponseWithBookmarks(userId, result);
     }
 
+    public FestivalMapClusterResponse getFestivalMapClusters(FestivalMapClusterRequest request) {
+        int zoom = request.getZoom() != null ? request.getZoom() : 7;
+        int precision = FestivalClusterIndex.precisionForZoom(zoom);
+
+        // 클러스터 계층이 아직 없으면 요청 영역/필터의 좌표만 읽어서 즉석으로 집계
+        FestivalClusterIndex index = clusterIndexHolder.current()
+            .orElseGet(() -> FestivalClusterIndex.build(festivalRepository.findClusterPoints(request)));
+
+        List<FestivalMapClusterResponse.Cluster> clusters = index.query(
+            request.getStatus(), request.getTheme(),
+            request.getLatBottomRight(), request.getLatTopLeft(),
+            request.getLngTopLeft(), request.getLngBottomRight(),
+            precision);
+
+        return FestivalMapClusterResponse.builder()
+            .zoom(zoom)
+            .precision(precision)
+            .clusters(clusters)
+            .build();
+    }
+
     public FestivalListResponse getFestivalsForCalendar(Long userId, FestivalCalendarRequest request) {
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
-        Page<FestivalSummaryResponse> result = festivalRepository.findFestivalsForCalendar(request, pageRequest);
+        List<Long> candidateIds = request.getDate() != null
+            ? periodCandidates(request.getDate(), request.getDate())
+            : null;
+        // DB 조회는 같은 조건 동시 요청끼리 합침 (결과를 같이 받으므로 북마크를 덮어쓰기 전에 복사)
+        String flightKey = "calendar:" + festivalVersions.catalogTag() + ":" + calendarKey(request);
+        if (isSliceRequest(request)) {
+            FestivalSlice slice = singleFlight.execute(flightKey, () -> festivalRepository.findFestivalsForCalendarSlice(
+                request, candidateIds, FestivalCursor.decode(request.getCursor()), pageRequest));
+            return buildSliceResponseWithBookmarks(userId, request,
+                new FestivalSlice(copySummaries(slice.getContent()), slice.isHasNext(), slice.getNextCursor()));
+        }
+        Optional<FestivalCatalog> catalog = catalogHolder.current();
+        Page<FestivalSummaryResponse> result = catalog.isPresent()
+            ? catalog.get().find(FestivalCatalogFilter.forCalendar(request), FestivalCatalog.Order.START_DATE_ASC, pageRequest)
+            : singleFlight.execute(flightKey, () -> festivalRepository.findFestivalsForCalendar(request, candidateIds, pageRequest))
+                .map(summary -> summary.toBuilder().build());
 
         return buildListResponseWithBookmarks(userId, result);
     }
 
+    /**
+     * 검색어 집계 (다음 페이지 조회는 같은 검색이므로 첫 페이지에서만) - 304 응답에도 검색으로 셈
+     */
+    public void recordSearchKeyword(FestivalSearchRequest request) {
+        if (isFirstPage(request)) {
+            searchKeywordRecorder.record(request.getSearchParam());
+        }
+    }
+
+    /**
+     * 필터별 축제 개수 (facet) - 카탈로그가 있으면 메모리에서, 없으면 필터 값 조합별 개수 한 번 조회로 집계
+     */
+    public FestivalFacetResponse getFestivalFacets(FestivalFacetRequest request) {
+        FestivalCatalogFilter filter = FestivalCatalogFilter.forFacets(request, LocalDate.now());
+        return catalogHolder.current()
+            .map(catalog -> catalog.facets(filter))
+            .orElseGet(() -> {
+                FestivalFacetCounter counter = new FestivalFacetCounter(filter);
+                festivalRepository.findFacetGroups(filter).forEach(group ->
+                    counter.add(group.status(), group.theme(), group.withWhom(), group.region(), group.count()));
+                return counter.toResponse();
+            });
+    }
+
     public FestivalDailyCountResponse getDailyFestivalCount(LocalDate startDate, LocalDate endDate) {
+        return getDailyFestivalCount(startDate, endDate, null, null, null);
+    }
+
+    public FestivalDailyCountResponse getDailyFestivalCount(LocalDate startDate, LocalDate endDate,
+                                                            RegionFilter region, FestivalTheme theme,
+                                                            FestivalWithWhom withWhom) {
         List<FestivalDailyCountResponse.DailyCount> dailyCounts =
-            festivalRepository.findDailyFestivalCounts(startDate, endDate);
+            festivalRepository.findDailyFestivalCounts(startDate, endDate, region, theme, withWhom);
 
         return FestivalDailyCountResponse.builder()
             .startDate(startDate)
@@ -119,12 +267,49 @@ public class FestivalService {
             .build();
     }
 
+    /**
+     * 급상승 축제 - 최근 조회에 가중치를 둔 감쇠 점수 순위 (미리 정렬된 배열에서 앞부분만 읽음)
+     */
+    public FestivalListResponse getTrendingFestivals(Long userId, int limit) {
+        if (limit < 1 || limit > FestivalTrendingHolder.MAX_RANKING) {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST,
+                "limit은 1 이상 " + FestivalTrendingHolder.MAX_RANKING + " 이하여야 합니다.");
+        }
+        List<Long> festivalIds = festivalTrendingHolder.top(limit);
+        Map<Long, FestivalSummaryResponse> summaries = festivalRepository.findSummariesByIds(festivalIds).stream()
+            .collect(Collectors.toMap(FestivalSummaryResponse::getId, Function.identity()));
+        List<FestivalSummaryResponse> festivals = festivalIds.stream()
+            .map(summaries::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        applyBookmarks(userId, festivals);
+
+        return FestivalListResponse.builder()
+            .content(festivals)
+            .page(0)
+            .size(limit)
+            .totalElements((long) festivals.size())
+            .totalPages(1)
+            .first(true)
+            .last(true)
+            .empty(festivals.isEmpty())
+            .build();
+    }
+
     public FestivalMonthlyTopListResponse getMonthlyTopFestivals(Long userId) {
         LocalDate now = LocalDate.now();
         LocalDate startOfMonth = now.withDayOfMonth(1);
         LocalDate endOfMonth = now.withDayOfMonth(now.lengthOfMonth());
 
-        List<FestivalMonthlyTopResponse> topFestivals = festivalRepository.findTop5ByViewCountInCurrentMonth(startOfMonth, endOfMonth);
+        // 집계 Job이 만든 스냅샷을 복사해서 사용 (스냅샷이 없거나 비었으면 DB에서 바로 집계, 동시 요청끼리는 한 번만)
+        List<FestivalMonthlyTopResponse> topFestivals = monthlyTopFestivalRefresher.current()
+            .filter(festivals -> !festivals.isEmpty())
+            .orElseGet(() -> singleFlight.execute("monthly-top:" + startOfMonth,
+                () -> festivalRepository.findTop5ByViewCountInCurrentMonth(
+                    startOfMonth, endOfMonth, periodCandidates(startOfMonth, endOfMonth))))
+            .stream()
+            .map(FestivalMonthlyTopResponse::copy)
+            .collect(Collectors.toList());
 
         // 로그인한 사용자인 경우에만 북마크 상태 확인
         if (userId != null && !topFestivals.isEmpty()) {
@@ -132,7 +317,7 @@ public class FestivalService {
                 .map(FestivalMonthlyTopResponse::getId)
                 .toList();
 
-            Set<Long> bookmarkedIds = userBookmarkRepository.findBookmarkedFestivalIds(userId, festivalIds);
+            Set<Long> bookmarkedIds = userBookmarkCache.findBookmarkedFestivalIds(userId, festivalIds);
 
             topFestivals.forEach(festival -> {
                 boolean isBookmarked = bookmarkedIds.contains(festival.getId());
@@ -157,15 +342,30 @@ public class FestivalService {
 
     public FestivalListResponse getFestivalsForPersonalTest(Long userId, FestivalPersonalTestRequest request) {
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
+        if (isSliceRequest(request)) {
+            FestivalSlice slice = festivalRepository.findFestivalsForPersonalTestSlice(
+                request, FestivalCursor.decode(request.getCursor()), pageRequest);
+            return buildSliceResponseWithBookmarks(userId, request, slice);
+        }
 
-        Page<FestivalSummaryResponse> result = festivalRepository.findFestivalsForPersonalTest(request, pageRequest);
+        Optional<FestivalCatalog> catalog = catalogHolder.current();
+        Page<FestivalSummaryResponse> result = catalog.isPresent()
+            ? catalog.get().find(FestivalCatalogFilter.forPersonalTest(request), FestivalCatalog.Order.CREATED_DESC, pageRequest)
+            : festivalRepository.findFestivalsForPersonalTest(request, pageRequest);
 
         return buildListResponseWithBookmarks(userId, result);
     }
 
     public FestivalListResponse searchFestivals(Long userId, FestivalSearchRequest request) {
+        recordSearchKeyword(request);
         PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
-        Page<FestivalSummaryResponse> result = festivalRepository.searchFestivals(request, pageRequest);
+        List<Long> candidateIds = searchCandidates(request.getSearchParam());
+        if (isSliceRequest(request)) {
+            FestivalSlice slice = festivalRepository.searchFestivalsSlice(
+                request, candidateIds, FestivalCursor.decode(request.getCursor()), pageRequest);
+            return buildSliceResponseWithBookmarks(userId, request, slice);
+        }
+        Page<FestivalSummaryResponse> result = festivalRepository.searchFestivals(request, candidateIds, pageRequest);
 
         return buildListResponseWithBookmarks(userId, result);
     }
@@ -183,23 +383,46 @@ public class FestivalService {
         return buildListResponseWithBookmarks(userId, page);
     }
 
-    private FestivalListResponse buildListResponseWithBookmarks(Long userId, Page<FestivalSummaryResponse> page) {
-        // 북마크 상태 설정
-        if (userId != null && !page.getContent().isEmpty()) {
-            List<Long> festivalIds = page.getContent().stream()
-                .map(FestivalSummaryResponse::getId)
-                .toList();
-
-            Set<Long> bookmarkedIds = userBookmarkRepository.findBookmarkedFestivalIds(userId, festivalIds);
+    /**
+     * interval index에서 [from, to]와 기간이 겹치는 축제 ID 조회
+     * 인덱스가 아직 없거나 후보가 너무 많으면 null (DB 범위 조건으로 처리)
+     */
+    private List<Long> periodCandidates(LocalDate from, LocalDate to) {
+        return intervalIndexHolder.current()
+            .map(index -> index.overlap(from, to))
+            .filter(ids -> ids.size() <= MAX_PERIOD_CANDIDATES)
+            .orElse(null);
+    }
 
-            page.getContent().forEach(festival -> {
-                boolean isBookmarked = bookmarkedIds.contains(festival.getId());
-                festival.setBookmarked(isBookmarked);
-            });
-        } else {
-            // userId가 null이면 모든 북마크를 false로 설정
-            page.getContent().forEach(festival -> festival.setBookmarked(false));
+    /**
+     * 검색 n-gram 인덱스에서 검색어를 포함할 수 있는 축제 ID 조회
+     * 인덱스가 아직 없거나, 검색어가 비었거나 1글자이거나, 후보가 너무 많으면 null (DB LIKE 조건으로 처리)
+     */
+    private List<Long> searchCandidates(String searchParam) {
+        if (searchParam == null || searchParam.isBlank()) {
+            return null;
         }
+        return searchIndexHolder.search(searchParam)
+            .filter(ids -> ids.size() <= MAX_SEARCH_CANDIDATES)
+            .orElse(null);
+    }
+
+    // 달력 조회 조건 (같은 조건이면 같은 키)
+    private static String calendarKey(FestivalCalendarRequest request) {
+        return String.join("|", String.valueOf(request.getDate()), String.valueOf(request.getRegion()),
+            String.valueOf(request.getWithWhom()), String.valueOf(request.getTheme()), String.valueOf(request.getSort()),
+            String.valueOf(request.getMode()), String.valueOf(request.getCursor()),
+            request.getPage() + "x" + request.getSize());
+    }
+
+    private static List<FestivalSummaryResponse> copySummaries(List<FestivalSummaryResponse> summaries) {
+        return summaries.stream()
+            .map(summary -> summary.toBuilder().build())
+            .collect(Collectors.toList());
+    }
+
+    private FestivalListResponse buildListResponseWithBookmarks(Long userId, Page<FestivalSummaryResponse> page) {
+        applyBookmarks(userId, page.getContent());
 
         return FestivalListResponse.builder()
             .content(page.getContent())
@@ -213,5 +436,56 @@ public class FestivalService {
             .build();
     }
 
+    /**
+     * 커서 방식이거나 SLICE 모드면 count 없이 size + 1건으로 조회
+     */
+    private boolean isSliceRequest(FestivalCursorPageRequest request) {
+        return request.getCursor() != null || request.getMode() == FestivalPageMode.SLICE;
+    }
 
+    private boolean isFirstPage(FestivalCursorPageRequest request) {
+        if (request.getCursor() != null) {
+            return request.getCursor().isBlank();
+        }
+        return request.getPage() == 0;
+    }
+
+    /**
+     * count 없는 응답 - 전체 개수/페이지 수 없이 hasNext와 nextCursor로 이어서 조회
+     * 커서 방식이면 페이지 번호도 생략
+     */
+    private FestivalListResponse buildSliceResponseWithBookmarks(Long userId, FestivalCursorPageRequest request, FestivalSlice slice) {
+        applyBookmarks(userId, slice.getContent());
+
+        boolean cursorMode = request.getCursor() != null;
+        return FestivalListResponse.builder()
+            .content(slice.getContent())
+            .page(cursorMode ? null : request.getPage())
+            .size(request.getSize())
+            .first(cursorMode ? request.getCursor().isBlank() : request.getPage() == 0)
+            .last(!slice.isHasNext())
+            .empty(slice.getContent().isEmpty())
+            .hasNext(slice.isHasNext())
+            .nextCursor(slice.getNextCursor())
+            .build();
+    }
+
+    private void applyBookmarks(Long userId, List<FestivalSummaryResponse> festivals) {
+        // 북마크 상태 설정
+        if (userId != null && !festivals.isEmpty()) {
+            List<Long> festivalIds = festivals.stream()
+                .map(FestivalSummaryResponse::getId)
+                .toList();
+
+            Set<Long> bookmarkedIds = userBookmarkCache.findBookmarkedFestivalIds(userId, festivalIds);
+
+            festivals.forEach(festival -> {
+                boolean isBookmarked = bookmarkedIds.contains(festival.getId());
+                festival.setBookmarked(isBookmarked);
+            });
+        } else {
+            // userId가 null이면 모든 북마크를 false로 설정
+            festivals.forEach(festival -> festival.setBookmarked(false));
+        }
+    }
 }
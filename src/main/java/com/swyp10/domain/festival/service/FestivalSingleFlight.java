@@ -0,0 +1,107 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 조회를 하나로 합침 (single-flight)
+ *
+ * 동기화 직후 캐시가 비었거나 기동 직후처럼 같은 조회가 한꺼번에 몰리면, 먼저 온 요청 하나만 loader를 실행하고
+ * 나머지는 그 결과를 기다렸다가 같이 받는다. 끝나면 바로 지우므로 결과(성공/실패 모두)를 캐시하지 않는다.
+ * 기다리는 쪽은 timeout까지만 기다리고 넘으면 SERVICE_BUSY로 끝낸다 (실행 중인 조회는 취소하지 않음).
+ * 결과 객체를 여러 요청이 같이 받으므로, 받은 쪽에서 고칠 값이 있으면 복사해서 써야 한다.
+ */
+@Slf4j
+@Component
+public class FestivalSingleFlight {
+
+    private final boolean enabled;
+    private final long timeoutMs;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter sharedCounter;
+    private final Counter timeoutCounter;
+
+    public FestivalSingleFlight(
+        @Value("${festival.single-flight.enabled:true}") boolean enabled,
+        @Value("${festival.single-flight.timeout-ms:3000}") long timeoutMs,
+        MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.timeoutMs = timeoutMs;
+        Gauge.builder("festival.single-flight.in-flight", inFlight, Map::size)
+            .description("실행 중인 합친 조회 수")
+            .register(meterRegistry);
+        this.sharedCounter = Counter.builder("festival.single-flight.shared")
+            .description("다른 요청의 조회 결과를 기다려서 받은 요청 수")
+            .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("festival.single-flight.timeouts")
+            .description("기다리다 시간이 넘어 실패한 요청 수")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 같은 키로 실행 중인 조회가 있으면 그 결과를, 없으면 loader를 직접 실행한 결과를 반환
+     * (loader 예외는 그때 기다리던 요청 모두에게 그대로 던지고, 다음 요청은 다시 실행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            return (T) await(key, running);
+        }
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(String key, CompletableFuture<Object> running) {
+        sharedCounter.increment();
+        try {
+            return running.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            timeoutCounter.increment();
+            log.warn("[Festival SingleFlight] waited {}ms for '{}', giving up", timeoutMs, key);
+            throw new ApplicationException(ErrorCode.SERVICE_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApplicationException(ErrorCode.SERVICE_BUSY);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.festival.entity.FestivalDailyViewers;
+import com.swyp10.domain.festival.index.HyperLogLog;
+import com.swyp10.domain.festival.repository.FestivalDailyViewersRepository;
+import com.swyp10.domain.festival.repository.FestivalStatisticsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 축제별 고유 조회자 수 (HyperLogLog)
+ *
+ * 조회자(로그인 사용자 ID 또는 클라이언트 키)를 축제별 오늘 sketch와 이번 달 sketch에 넣는다. 축제당 8KB로 고정.
+ * 주기적으로 오늘 sketch를 festival_daily_viewers에 합쳐 저장하고(다른 인스턴스가 저장한 내용과 행을 잠근 채 레지스터 최댓값으로 병합),
+ * 이번 달 추정치를 festival_statistics.unique_viewers에 반영해서 이달의 축제 순위에 쓴다.
+ * 기동 직후 이번 달 일별 sketch를 합쳐서 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FestivalUniqueViewerCounter {
+
+    private final FestivalDailyViewersRepository dailyViewersRepository;
+    private final FestivalStatisticsRepository festivalStatisticsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<Long, Sketches> sketches = new ConcurrentHashMap<>();
+    // 날짜가 바뀌면서 교체된 지난 날 sketch (다음 flush에 저장)
+    private final ConcurrentLinkedQueue<DaySketch> retired = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 로그인 사용자는 사용자 ID, 아니면 클라이언트 키로 구분
+     */
+    public static String viewerKey(Long userId, String clientKey) {
+        if (userId != null) {
+            return "u:" + userId;
+        }
+        return "c:" + (clientKey != null ? clientKey : "");
+    }
+
+    public void record(Long festivalId, String viewerKey) {
+        record(festivalId, viewerKey, LocalDate.now());
+    }
+
+    void record(Long festivalId, String viewerKey, LocalDate today) {
+        Sketches festivalSketches = sketches.computeIfAbsent(festivalId, id -> new Sketches(today));
+        synchronized (festivalSketches) {
+            festivalSketches.rollOver(festivalId, today, retired);
+            festivalSketches.day.offer(viewerKey);
+            festivalSketches.month.offer(viewerKey);
+            festivalSketches.dirty = true;
+        }
+    }
+
+    /**
+     * 이번 달 고유 조회자 수 추정치 (이 인스턴스가 본 조회 + 마지막 저장 때 합친 다른 인스턴스 조회)
+     */
+    public long uniqueViewers(Long festivalId) {
+        Sketches festivalSketches = sketches.get(festivalId);
+        if (festivalSketches == null) {
+            return 0;
+        }
+        synchronized (festivalSketches) {
+            return YearMonth.from(festivalSketches.date).equals(YearMonth.now()) ? festivalSketches.month.estimate() : 0;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            LocalDate today = LocalDate.now();
+            List<FestivalDailyViewers> rows = dailyViewersRepository.findByIdViewDateBetween(
+                YearMonth.from(today).atDay(1), today);
+            for (FestivalDailyViewers row : rows) {
+                HyperLogLog sketch = HyperLogLog.fromBytes(row.getSketch());
+                Sketches festivalSketches = sketches.computeIfAbsent(row.getId().getFestivalId(), id -> new Sketches(today));
+                synchronized (festivalSketches) {
+                    festivalSketches.month.merge(sketch);
+                    if (row.getId().getViewDate().equals(today)) {
+                        festivalSketches.day.merge(sketch);
+                    }
+                }
+            }
+            log.info("[Festival Viewers] restored {} daily sketches", rows.size());
+        } catch (Exception e) {
+            log.warn("[Festival Viewers] restore failed, starting with empty sketches: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${festival.unique-viewers.flush-interval-ms:60000}",
+        initialDelayString = "${festival.unique-viewers.flush-interval-ms:60000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        // 저장할 일별 sketch 복사 (저장 중에도 조회는 계속 반영되도록 잠금은 짧게)
+        List<DaySketch> pending = new ArrayList<>();
+        for (DaySketch day; (day = retired.poll()) != null; ) {
+            pending.add(day);
+        }
+        sketches.forEach((festivalId, festivalSketches) -> {
+            synchronized (festivalSketches) {
+                if (festivalSketches.dirty) {
+                    pending.add(new DaySketch(festivalId, festivalSketches.date, festivalSketches.day.copy()));
+                    festivalSketches.dirty = false;
+                }
+            }
+        });
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<Long, HyperLogLog> merged = transactionTemplate.execute(status -> saveMerged(pending));
+            YearMonth month = YearMonth.now();
+            Map<Long, Long> estimates = new HashMap<>();
+            merged.forEach((festivalId, monthSketch) -> {
+                Sketches festivalSketches = sketches.get(festivalId);
+                if (festivalSketches == null) {
+                    return;
+                }
+                synchronized (festivalSketches) {
+                    // 다른 인스턴스가 저장한 조회자까지 이번 달 sketch에 합침 (같은 값을 다시 합쳐도 결과는 같음)
+                    if (YearMonth.from(festivalSketches.date).equals(month)) {
+                        festivalSketches.month.merge(monthSketch);
+                        estimates.put(festivalId, festivalSketches.month.estimate());
+                    }
+                }
+            });
+            festivalStatisticsRepository.updateUniqueViewers(estimates, month);
+            log.debug("[Festival Viewers] flushed {} daily sketches", pending.size());
+        } catch (Exception e) {
+            // 지난 날 sketch는 다시 넣고, 오늘 sketch는 다음 flush에 다시 저장
+            pending.forEach(day -> {
+                Sketches festivalSketches = sketches.get(day.festivalId());
+                if (festivalSketches == null) {
+                    return;
+                }
+                synchronized (festivalSketches) {
+                    if (festivalSketches.date.equals(day.date())) {
+                        festivalSketches.dirty = true;
+                    } else {
+                        retired.add(day);
+                    }
+                }
+            });
+            log.warn("[Festival Viewers] flush failed, {} sketches kept for retry: {}", pending.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 저장된 sketch와 레지스터 최댓값으로 합쳐 저장하고, 이번 달 sketch의 병합 결과를 축제별로 돌려줌
+     *
+     * 없는 행은 바로 넣고(다른 인스턴스가 먼저 넣었으면 기존 행으로), 기존 행은 SELECT ... FOR UPDATE로 잠근 뒤 합친다.
+     * 여러 인스턴스가 동시에 저장해도 서로의 레지스터를 덮어쓰지 않는다. 날짜/축제 ID 순서로 처리해서 잠금 순서를 맞춘다.
+     */
+    private Map<Long, HyperLogLog> saveMerged(List<DaySketch> pending) {
+        // 같은 축제/날짜가 여러 번 있으면(저장 실패 후 재시도 등) 먼저 합침
+        Map<LocalDate, Map<Long, HyperLogLog>> byDate = new TreeMap<>();
+        for (DaySketch day : pending) {
+            byDate.computeIfAbsent(day.date(), date -> new TreeMap<>())
+                .merge(day.festivalId(), day.sketch(), (a, b) -> {
+                    a.merge(b);
+                    return a;
+                });
+        }
+
+        YearMonth thisMonth = YearMonth.now();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, HyperLogLog> mergedThisMonth = new HashMap<>();
+        byDate.forEach((date, daySketches) -> {
+            Set<Long> stored = new HashSet<>(dailyViewersRepository.findFestivalIds(date, daySketches.keySet()));
+            List<Long> toMerge = new ArrayList<>();
+            daySketches.forEach((festivalId, sketch) -> {
+                if (stored.contains(festivalId)
+                    || !dailyViewersRepository.insertSketch(festivalId, date, sketch.toBytes(), now)) {
+                    toMerge.add(festivalId);
+                }
+            });
+            if (!toMerge.isEmpty()) {
+                for (FestivalDailyViewers row : dailyViewersRepository.findForUpdate(date, toMerge)) {
+                    HyperLogLog merged = daySketches.get(row.getId().getFestivalId());
+                    merged.merge(HyperLogLog.fromBytes(row.getSketch()));
+                    row.updateSketch(merged.toBytes());
+                }
+            }
+            if (YearMonth.from(date).equals(thisMonth)) {
+                daySketches.forEach((festivalId, sketch) ->
+                    mergedThisMonth.merge(festivalId, sketch.copy(), (a, b) -> {
+                        a.merge(b);
+                        return a;
+                    }));
+            }
+        });
+        return mergedThisMonth;
+    }
+
+    private record DaySketch(Long festivalId, LocalDate date, HyperLogLog sketch) {
+    }
+
+    private static final class Sketches {
+        private LocalDate date;
+        private HyperLogLog day = new HyperLogLog();
+        private HyperLogLog month = new HyperLogLog();
+        private boolean dirty;
+
+        Sketches(LocalDate date) {
+            this.date = date;
+        }
+
+        // 날짜가 바뀌면 지난 날 sketch는 저장 대기열로, 달이 바뀌면 월 sketch도 새로
+        void rollOver(Long festivalId, LocalDate today, ConcurrentLinkedQueue<DaySketch> retired) {
+            if (date.equals(today)) {
+                return;
+            }
+            if (dirty) {
+                retired.add(new DaySketch(festivalId, date, day));
+            }
+            if (!YearMonth.from(date).equals(YearMonth.from(today))) {
+                month = new HyperLogLog();
+            }
+            day = new HyperLogLog();
+            date = today;
+            dirty = false;
+        }
+    }
+}
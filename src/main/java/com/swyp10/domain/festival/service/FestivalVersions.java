@@ -0,0 +1,146 @@
+package com.swyp10.domain.festival.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.WebRequest;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 축제 데이터 버전 (조건부 GET용 ETag / Last-Modified)
+ *
+ * 축제를 저장/삭제할 때마다 해당 축제 버전과 전체 카탈로그 버전을 올린다 (저장 직후 + 커밋 후 두 번, 커밋 전 내용에 새 버전이 붙지 않도록).
+ * 버전 번호는 인스턴스마다 따로 세므로 ETag 앞에 기동할 때 정한 임의의 인스턴스 ID를 붙인다
+ * (다른 인스턴스나 재시작 전 인스턴스가 같은 번호로 다른 내용을 가리켜도 ETag는 겹치지 않음).
+ * 다른 인스턴스가 동기화한 경우는 어떤 축제가 바뀌었는지 모르므로 전체를 한 번에 올린다 (bumpAll).
+ * 축제 상세 304는 이 인스턴스가 존재를 확인한(상세를 만들었거나 저장한) 축제에만 준다 - 없는 ID로 조회수를 쌓지 못하게.
+ * 확인 비용은 전체 버전은 필드 하나, 축제 버전은 맵 조회 한 번이라 요청마다 쿼리보다 먼저 확인한다.
+ */
+@Component
+public class FestivalVersions {
+
+    private final String instanceId = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    private final AtomicLong sequence = new AtomicLong();
+    // 존재만 확인하고 저장된 적 없는 축제의 버전 (기동 시각, bumpAll 이후에는 그 시점)
+    private volatile Version base;
+    private volatile Version catalog;
+    // 존재를 확인한 축제만 (없는 ID는 넣지 않음)
+    private final Map<Long, Version> festivals = new ConcurrentHashMap<>();
+
+    public FestivalVersions() {
+        this.base = new Version(sequence.get(), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        this.catalog = base;
+    }
+
+    /**
+     * 축제 저장 반영 (트랜잭션 안이면 커밋 후에 한 번 더)
+     */
+    public void bump(Long festivalId) {
+        bumpNow(festivalId, false);
+        afterCommit(() -> bumpNow(festivalId, false));
+    }
+
+    /**
+     * 축제 삭제 반영 - 전체 버전을 올리고 해당 축제는 더 이상 304로 답하지 않음
+     */
+    public void removed(Long festivalId) {
+        bumpNow(festivalId, true);
+        afterCommit(() -> bumpNow(festivalId, true));
+    }
+
+    /**
+     * 상세를 만들어서 존재를 확인한 축제 (이미 버전이 있으면 그대로)
+     */
+    public void confirmed(Long festivalId) {
+        festivals.putIfAbsent(festivalId, base);
+    }
+
+    public boolean isConfirmed(Long festivalId) {
+        return festivals.containsKey(festivalId);
+    }
+
+    /**
+     * 모든 축제와 전체 카탈로그 버전을 올림 (다른 인스턴스의 동기화 반영)
+     * 삭제된 축제가 있을 수 있으므로 확인한 축제도 비우고 다음 상세 조회에서 다시 확인한다.
+     */
+    public void bumpAll() {
+        Version next = new Version(sequence.incrementAndGet(), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        base = next;
+        festivals.clear();
+        catalog = next;
+    }
+
+    /**
+     * 축제 목록/집계 응답 (사용자 무관) - 변경이 없으면 304 응답을 준비하고 true
+     * 진행 상태/기간 필터가 오늘 날짜 기준이라 날짜가 바뀌어도 ETag가 바뀐다.
+     */
+    public boolean checkCatalogNotModified(WebRequest request) {
+        Version current = catalog;
+        LocalDate today = LocalDate.now();
+        Instant startOfToday = today.atStartOfDay(ZoneId.systemDefault()).toInstant();
+        Instant lastModified = current.modifiedAt().isAfter(startOfToday) ? current.modifiedAt() : startOfToday;
+        return request.checkNotModified(catalogTag(current, today), lastModified.toEpochMilli());
+    }
+
+    /**
+     * 현재 목록 데이터 버전 (목록 ETag 값과 같음, 직렬화 응답 캐시 키에도 사용)
+     */
+    public String catalogTag() {
+        return catalogTag(catalog, LocalDate.now());
+    }
+
+    /**
+     * 축제 상세 응답 - bookmarked가 null이면 사용자 무관, 아니면 북마크 여부까지 ETag에 넣음
+     * (북마크 변경은 Last-Modified에 반영되지 않으므로 로그인 사용자는 ETag로만 비교)
+     * 존재를 확인하지 않은 축제는 ETag도 붙이지 않고 false
+     */
+    public boolean checkFestivalNotModified(WebRequest request, Long festivalId, Boolean bookmarked) {
+        Version current = festivals.get(festivalId);
+        if (current == null) {
+            return false;
+        }
+        String etag = "f" + festivalId + "-" + instanceId + "." + current.number();
+        if (bookmarked == null) {
+            return request.checkNotModified(etag, current.modifiedAt().toEpochMilli());
+        }
+        return request.checkNotModified(etag + (bookmarked ? "-b1" : "-b0"));
+    }
+
+    private String catalogTag(Version version, LocalDate today) {
+        return "c" + instanceId + "." + version.number() + "-" + today.toEpochDay();
+    }
+
+    private void bumpNow(Long festivalId, boolean removed) {
+        Version next = new Version(sequence.incrementAndGet(), Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        if (festivalId != null) {
+            if (removed) {
+                festivals.remove(festivalId);
+            } else {
+                festivals.put(festivalId, next);
+            }
+        }
+        catalog = next;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private record Version(long number, Instant modifiedAt) {
+    }
+}
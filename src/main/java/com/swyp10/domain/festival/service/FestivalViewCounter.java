@@ -0,0 +1,147 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.festival.index.FestivalTrendingHolder;
+import com.swyp10.domain.festival.repository.FestivalStatisticsRepository;
+import com.swyp10.domain.festival.repository.FestivalViewDailyRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 축제 조회수 write-behind 카운터
+ *
+ * 상세 조회마다 UPDATE를 날리지 않고 축제별 LongAdder에 더해 두었다가,
+ * 몇 초마다(그리고 종료 시) 반영 안 된 증가분만 한 번의 batch update로 festival_statistics에 더한다.
+ * 이미 반영한 값을 따로 기억해서 빼므로 flush 도중 들어온 증가분도 빠지지 않는다.
+ * 반영한 증가분은 일별 조회수(festival_view_daily)에도 더하고 급상승 점수(FestivalTrendingHolder)에 넘긴다.
+ */
+@Slf4j
+@Component
+public class FestivalViewCounter {
+
+    private final FestivalStatisticsRepository festivalStatisticsRepository;
+    private final FestivalViewDailyRepository festivalViewDailyRepository;
+    private final FestivalTrendingHolder festivalTrendingHolder;
+    private final Map<Long, ViewCount> counts = new ConcurrentHashMap<>();
+    // 일별 조회수 반영 대기분 (누적 조회수는 이미 반영했으므로 따로 보관, flush 안에서만 접근)
+    private final Map<LocalDate, Map<Long, Long>> dailyPending = new TreeMap<>();
+    private final Counter flushedCounter;
+    private final Counter failureCounter;
+
+    public FestivalViewCounter(FestivalStatisticsRepository festivalStatisticsRepository,
+                               FestivalViewDailyRepository festivalViewDailyRepository,
+                               FestivalTrendingHolder festivalTrendingHolder,
+                               MeterRegistry meterRegistry) {
+        this.festivalStatisticsRepository = festivalStatisticsRepository;
+        this.festivalViewDailyRepository = festivalViewDailyRepository;
+        this.festivalTrendingHolder = festivalTrendingHolder;
+        Gauge.builder("festival.view.pending", this, FestivalViewCounter::pendingCount)
+            .description("DB에 아직 반영되지 않은 축제 조회수")
+            .register(meterRegistry);
+        this.flushedCounter = Counter.builder("festival.view.flushed")
+            .description("DB에 반영한 축제 조회수")
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("festival.view.flush.failures")
+            .description("조회수 반영 실패 횟수")
+            .register(meterRegistry);
+    }
+
+    public void increment(Long festivalId) {
+        counts.computeIfAbsent(festivalId, id -> new ViewCount()).adder.increment();
+    }
+
+    public long pendingCount() {
+        long pending = 0;
+        for (ViewCount count : counts.values()) {
+            pending += count.pending();
+        }
+        return pending;
+    }
+
+    @Scheduled(fixedDelayString = "${festival.view-count.flush-interval-ms:3000}",
+        initialDelayString = "${festival.view-count.flush-interval-ms:3000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        Map<Long, Long> increments = new HashMap<>();
+        Map<Long, Long> totals = new HashMap<>();
+        counts.forEach((festivalId, count) -> {
+            long total = count.adder.sum();
+            if (total > count.flushed) {
+                increments.put(festivalId, total - count.flushed);
+                totals.put(festivalId, total);
+            }
+        });
+        if (increments.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            Set<Long> missing = festivalStatisticsRepository.addViewCounts(increments, now);
+            // 반영했거나 축제가 없어서 버린 증가분 모두 flushed로 넘김 (실패하면 그대로 두고 다음에 다시 시도)
+            totals.forEach((festivalId, total) -> counts.get(festivalId).flushed = total);
+            flushedCounter.increment(increments.values().stream().mapToLong(Long::longValue).sum());
+            if (!missing.isEmpty()) {
+                missing.forEach(counts::remove);
+                missing.forEach(increments::remove);
+                log.debug("[Festival View] dropped views of missing festivals: {}", missing);
+            }
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("[Festival View] flush failed, {} festivals kept for retry: {}", increments.size(), e.getMessage());
+            return;
+        }
+
+        increments.forEach((festivalId, count) ->
+            dailyPending.computeIfAbsent(now.toLocalDate(), date -> new HashMap<>()).merge(festivalId, count, Long::sum));
+        flushDaily(now);
+        festivalTrendingHolder.record(increments, now);
+    }
+
+    // 일별 조회수 반영 (실패한 날짜는 남겨 두고 다음 flush에 다시 시도)
+    private void flushDaily(LocalDateTime now) {
+        Iterator<Map.Entry<LocalDate, Map<Long, Long>>> iterator = dailyPending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, Map<Long, Long>> entry = iterator.next();
+            try {
+                festivalViewDailyRepository.addDailyViewCounts(entry.getValue(), entry.getKey(), now);
+                iterator.remove();
+            } catch (Exception e) {
+                log.warn("[Festival View] daily flush failed for {}, kept for retry: {}", entry.getKey(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private static final class ViewCount {
+        private final LongAdder adder = new LongAdder();
+        // flush 스레드만 쓰고 gauge가 읽음
+        private volatile long flushed;
+
+        long pending() {
+            return adder.sum() - flushed;
+        }
+    }
+}
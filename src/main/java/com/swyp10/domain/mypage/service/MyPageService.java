@@ -3,6 +3,7 @@ package com.swyp10.domain.mypage.service;
 import com.swyp10.domain.auth.entity.User;
 import com.swyp10.domain.auth.repository.UserRepository;
 import com.swyp10.domain.bookmark.entity.UserBookmark;
+import com.swyp10.domain.bookmark.index.UserBookmarkCache;
 import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
 import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.mypage.dto.request.MyInfoUpdateRequest;
@@ -31,6 +32,7 @@ public class MyPageService {
     private final UserReviewRepository userReviewRepository;
     private final UserRepository userRepository;
     private final UserBookmarkRepository userBookmarkRepository;
+    private final UserBookmarkCache userBookmarkCache;
 
     /**
      * 북마크 취소(Soft Delete)
@@ -46,6 +48,7 @@ public class MyPageService {
 
         // soft delete
         bookmark.markDeleted();
+        userBookmarkCache.removed(userId, festivalId);
     }
 
     /**
@@ -3,7 +3,9 @@ package com.swyp10.domain.recommendation.entity;
 import com.swyp10.domain.festival.entity.Festival;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
@@ -24,9 +26,22 @@ public class MonthlyRecommendation {
     @JoinColumn(name = "festival_id")
     private Festival festival;
 
+    // 노출 순서 (1부터). 운영자가 지정한 행(curated)은 그 자리에 고정되고, 나머지 자리는 집계 순위로 채워진다
     @Column(name = "sort_sq")
     private Long sortSq;
 
+    // 운영자가 직접 지정한 추천 여부 (false면 이달의 축제 집계 Job이 매번 다시 쓰는 행)
+    // 컬럼 추가 이전에 넣은 행은 운영자가 넣은 것이므로 기본값 true (ddl-auto: update가 기존 행을 true로 채움)
+    @Column(name = "curated", nullable = false)
+    @ColumnDefault("true")
+    @Builder.Default
+    private boolean curated = true;
+
+    // 적용할 달 (그 달 1일). 운영자 지정 행은 이 달에만 고정되고, 집계 행은 계산한 달로 저장된다
+    // 컬럼 추가 이전의 행(null)은 집계 Job이 처음 돌 때 그 달로 채운다
+    @Column(name = "target_month")
+    private LocalDate targetMonth;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -2,6 +2,26 @@ package com.swyp10.domain.recommendation.repository;
 
 import com.swyp10.domain.recommendation.entity.MonthlyRecommendation;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
 
 public interface MonthlyRecommendationRepository extends JpaRepository<MonthlyRecommendation, Long> {
+
+    List<MonthlyRecommendation> findByTargetMonthOrderBySortSqAsc(LocalDate targetMonth);
+
+    List<MonthlyRecommendation> findByCuratedTrue();
+
+    // 집계 Job이 쓴 행만 (달이 없는 행은 컬럼 추가 이전에 운영자가 넣은 행)
+    @Modifying
+    @Query("DELETE FROM MonthlyRecommendation m WHERE m.curated = false AND m.targetMonth IS NOT NULL")
+    int deleteNotCurated();
+
+    // 컬럼 추가 이전에 넣은 행은 처음 집계하는 달에 적용
+    @Modifying
+    @Query("UPDATE MonthlyRecommendation m SET m.targetMonth = :month WHERE m.targetMonth IS NULL")
+    int assignTargetMonth(@Param("month") LocalDate month);
 }
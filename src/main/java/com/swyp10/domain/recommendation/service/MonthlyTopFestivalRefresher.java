@@ -0,0 +1,198 @@
+package com.swyp10.domain.recommendation.service;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopResponse;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import com.swyp10.domain.recommendation.entity.MonthlyRecommendation;
+import com.swyp10.domain.recommendation.repository.MonthlyRecommendationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 이달의 축제 집계 Job + 메모리 스냅샷
+ *
+ * 주기적으로(그리고 기동 직후, 동기화 Job이 끝날 때) 이번 달 순위를 계산해서 monthly_recommendations에 다시 쓴다.
+ * 운영자가 지정한 행(curated)은 지정한 달(targetMonth)에만 sortSq 자리에 고정하고, 남은 자리를 집계 순위로 채운다.
+ * 저장한 목록으로 카드 스냅샷을 만들어 참조를 통째로 교체하므로 요청은 DB 없이 스냅샷 복사만 한다.
+ * 여러 인스턴스가 동시에 쓰다 실패해도 테이블에 남은 목록으로 스냅샷을 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class MonthlyTopFestivalRefresher {
+
+    static final int SIZE = 5;
+
+    private final MonthlyRecommendationRepository recommendationRepository;
+    private final FestivalRepository festivalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public MonthlyTopFestivalRefresher(
+        MonthlyRecommendationRepository recommendationRepository,
+        FestivalRepository festivalRepository,
+        TransactionTemplate transactionTemplate,
+        @Value("${festival.monthly-top.enabled:true}") boolean enabled
+    ) {
+        this.recommendationRepository = recommendationRepository;
+        this.festivalRepository = festivalRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 이번 달 스냅샷 (비활성화했거나 아직 만들지 못했거나 달이 바뀌었으면 비어 있음 → 서비스는 DB 집계 쿼리로 처리)
+     */
+    public Optional<List<FestivalMonthlyTopResponse>> current() {
+        Snapshot current = snapshot.get();
+        if (current == null || !current.month().equals(YearMonth.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(current.festivals());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refresh();
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${festival.monthly-top.refresh-interval-ms:300000}",
+        initialDelayString = "${festival.monthly-top.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> materialize(LocalDate.now()));
+        } catch (Exception e) {
+            // 다른 인스턴스가 먼저 썼거나 DB 오류 → 테이블에 남은 목록으로 스냅샷만 갱신
+            log.warn("[Monthly Top] materialize failed, reloading stored list: {}", e.getMessage());
+        }
+        try {
+            List<FestivalMonthlyTopResponse> festivals = load(YearMonth.now().atDay(1));
+            snapshot.set(new Snapshot(YearMonth.now(), festivals));
+            log.info("[Monthly Top] refreshed - size: {}, elapsed: {}ms",
+                festivals.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // 읽기 실패 시 이전 스냅샷 유지
+            log.warn("[Monthly Top] reload failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    // 집계 순위를 다시 계산해서 curated가 아닌 행을 교체
+    private void materialize(LocalDate today) {
+        if (recommendationRepository.assignTargetMonth(today.withDayOfMonth(1)) > 0) {
+            log.info("[Monthly Top] assigned {} to recommendations stored without a target month", YearMonth.from(today));
+        }
+        List<MonthlyRecommendation> curated = recommendationRepository.findByCuratedTrue();
+        List<Long> ranked = festivalRepository.findMonthlyTopFestivals(
+                today.withDayOfMonth(1), today.withDayOfMonth(today.lengthOfMonth()), null, SIZE + curated.size())
+            .stream()
+            .map(FestivalMonthlyTopResponse::getId)
+            .toList();
+        LocalDate month = today.withDayOfMonth(1);
+        List<Long> arranged = arrange(curated, month, ranked, SIZE);
+
+        Set<Long> curatedIds = curated.stream()
+            .map(MonthlyRecommendation::getFestivalId)
+            .collect(Collectors.toSet());
+        List<MonthlyRecommendation> rows = new ArrayList<>();
+        for (int i = 0; i < arranged.size(); i++) {
+            Long festivalId = arranged.get(i);
+            if (festivalId == null || curatedIds.contains(festivalId)) {
+                continue;
+            }
+            rows.add(MonthlyRecommendation.builder()
+                .festival(festivalRepository.getReferenceById(festivalId))
+                .sortSq((long) i + 1)
+                .curated(false)
+                .targetMonth(month)
+                .of());
+        }
+        recommendationRepository.deleteNotCurated();
+        recommendationRepository.saveAll(rows);
+    }
+
+    // 이번 달 목록을 sortSq 순서대로 카드로 변환 (노출 자리 밖의 curated 행, 다른 달 행은 제외)
+    private List<FestivalMonthlyTopResponse> load(LocalDate month) {
+        List<Long> festivalIds = recommendationRepository.findByTargetMonthOrderBySortSqAsc(month).stream()
+            .filter(row -> row.getSortSq() != null && row.getSortSq() >= 1 && row.getSortSq() <= SIZE)
+            .map(MonthlyRecommendation::getFestivalId)
+            .toList();
+        Map<Long, FestivalMonthlyTopResponse> cards = festivalRepository.findMonthlyTopCardsByIds(festivalIds).stream()
+            .collect(Collectors.toMap(FestivalMonthlyTopResponse::getId, Function.identity()));
+        return festivalIds.stream()
+            .map(cards::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    /**
+     * month에 지정된 curated 행은 sortSq 자리(1부터)에 고정하고, 남은 자리를 집계 순위 순서대로 채운다 (이미 고정된 축제는 건너뜀).
+     * 다른 달에 지정된 축제는 그 행이 자리를 차지하고 있어(축제당 한 행) 집계 순위에서도 뺀다.
+     * 채울 축제가 모자란 자리는 null로 남긴다.
+     */
+    static List<Long> arrange(List<MonthlyRecommendation> curated, LocalDate month, List<Long> ranked, int size) {
+        Long[] slots = new Long[size];
+        Set<Long> placed = new HashSet<>();
+        for (MonthlyRecommendation row : curated) {
+            if (!month.equals(row.getTargetMonth())) {
+                placed.add(row.getFestivalId());
+                continue;
+            }
+            Long sortSq = row.getSortSq();
+            if (sortSq == null || sortSq < 1 || sortSq > size || slots[(int) (sortSq - 1)] != null) {
+                continue;
+            }
+            slots[(int) (sortSq - 1)] = row.getFestivalId();
+            placed.add(row.getFestivalId());
+        }
+        int next = 0;
+        for (Long festivalId : ranked) {
+            if (placed.contains(festivalId)) {
+                continue;
+            }
+            while (next < size && slots[next] != null) {
+                next++;
+            }
+            if (next == size) {
+                break;
+            }
+            slots[next] = festivalId;
+            placed.add(festivalId);
+        }
+        return Arrays.asList(slots);
+    }
+
+    private record Snapshot(YearMonth month, List<FestivalMonthlyTopResponse> festivals) {
+    }
+}
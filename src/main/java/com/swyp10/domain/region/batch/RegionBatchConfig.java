@@ -1,6 +1,9 @@
 package com.swyp10.domain.region.batch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.domain.catalog.batch.CatalogVersionJobListener;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.service.CatalogVersionService;
 import com.swyp10.domain.region.entity.AreaCode;
 import com.swyp10.domain.region.entity.LdongCode;
 import com.swyp10.domain.region.service.AreaCodeService;
@@ -38,6 +41,7 @@ public class RegionBatchConfig {
     private final TourApiClient tourApiClient;
     private final AreaCodeService areaCodeService;
     private final LdongCodeService ldongCodeService;
+    private final CatalogVersionService catalogVersionService;
     private final ObjectMapper objectMapper;
 
     @Value("${tourapi.service-key}")
@@ -47,6 +51,7 @@ public class RegionBatchConfig {
     public Job regionSyncJob(Step regionSyncStep) {
         return new JobBuilder("regionSyncJob", jobRepository)
             .incrementer(new RunIdIncrementer())
+            .listener(new CatalogVersionJobListener(catalogVersionService, CatalogEntityType.REGION))
             .flow(regionSyncStep)
             .end()
             .build();
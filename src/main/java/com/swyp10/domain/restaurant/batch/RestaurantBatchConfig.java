@@ -1,6 +1,9 @@
 package com.swyp10.domain.restaurant.batch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.domain.catalog.batch.CatalogVersionJobListener;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.service.CatalogVersionService;
 import com.swyp10.domain.festival.batch.BatchResult;
 import com.swyp10.domain.festival.client.TourApiClient;
 import com.swyp10.domain.restaurant.service.RestaurantService;
@@ -33,6 +36,7 @@ public class RestaurantBatchConfig {
     @Qualifier("com.swyp10.domain.festival.client.TourApiClient")
     private final TourApiClient tourApiClient;
     private final ObjectMapper objectMapper;
+    private final CatalogVersionService catalogVersionService;
 
     @Value("${tourapi.batch.restaurant.skip-if-data-exists:true}")
     private boolean skipIfDataExists;
@@ -56,6 +60,7 @@ public class RestaurantBatchConfig {
     public Job restaurantSyncJob(Step restaurantSyncStep) {
         return new JobBuilder("restaurantSyncJob", jobRepository)
             .incrementer(new RunIdIncrementer())
+            .listener(new CatalogVersionJobListener(catalogVersionService, CatalogEntityType.RESTAURANT))
             .start(restaurantSyncStep)
             .build();
     }
@@ -2,8 +2,10 @@ package com.swyp10.domain.search.controller;
 
 import com.swyp10.domain.search.dto.request.SearchKeywordPageRequest;
 import com.swyp10.domain.search.dto.response.SearchKeywordListResponse;
+import com.swyp10.domain.search.dto.response.SearchSuggestResponse;
 import com.swyp10.domain.search.service.SearchKeywordService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -16,11 +18,25 @@ public class SearchKeywordController {
 
     private final SearchKeywordService searchKeywordService;
 
-    @Operation(summary = "인기 검색어 조회", description = "인기 검색어 조회 - Top10")
+    @Operation(summary = "인기 검색어 조회", description = "인기 검색어 조회 - Top10 (window를 주면 해당 기간 실시간 검색어, 최대 50개)")
     @GetMapping("/keywords/top")
     public SearchKeywordListResponse getTopKeywords(
+        @RequestParam(defaultValue = "10") int limit,
+        @Parameter(description = "실시간 검색어 기간 (1h | 24h | 7d), 생략하면 누적 검색 횟수 순", example = "24h")
+        @RequestParam(required = false) String window
+    ) {
+        if (window == null || window.isBlank()) {
+            return searchKeywordService.getTopKeywords(limit);
+        }
+        return searchKeywordService.getTrendingKeywords(limit, window);
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 축제명/지역명/인기 검색어 후보 조회 - 최대 10개")
+    @GetMapping("/suggest")
+    public SearchSuggestResponse getSuggestions(
+        @RequestParam(defaultValue = "") String q,
         @RequestParam(defaultValue = "10") int limit
     ) {
-        return searchKeywordService.getTopKeywords(limit);
+        return searchKeywordService.getSuggestions(q, limit);
     }
 }
@@ -0,0 +1,31 @@
+package com.swyp10.domain.search.dto.response;
+
+import com.swyp10.domain.search.enums.SearchSuggestType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "검색어 자동완성 응답")
+public class SearchSuggestResponse {
+    @Schema(description = "입력한 검색어", example = "불꽃")
+    private String query;
+
+    @Schema(description = "자동완성 후보 리스트 (가중치 순)")
+    private List<Suggestion> suggestions;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Suggestion {
+        @Schema(description = "후보 문자열", example = "부산 불꽃축제")
+        private String text;
+        @Schema(description = "후보 종류 (FESTIVAL | REGION | KEYWORD)", example = "FESTIVAL")
+        private SearchSuggestType type;
+        @Schema(description = "축제 ID (축제 제목 후보일 때만)", nullable = true, example = "1234")
+        private Long festivalId;
+    }
+}
@@ -0,0 +1,48 @@
+package com.swyp10.domain.search.entity;
+
+import com.swyp10.domain.search.enums.TrendBucketUnit;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 검색어 버킷 요약 (인스턴스 간 순위 합산 + 재시작 시 순위 복구용)
+ * 인스턴스별 버킷 칸(단위 + 원형 배열 위치)마다 한 행만 두고 덮어쓰므로 행 수는 인스턴스당 최대 228개
+ */
+@Entity
+@Table(name = "search_keyword_trend_buckets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SearchKeywordTrendBucket {
+
+    // "k3x9a0:MINUTE:17" 형태 (인스턴스:단위:칸 번호)
+    @Id
+    @Column(name = "bucket_key", length = 40)
+    private String bucketKey;
+
+    // 저장한 인스턴스 (기동마다 새로 정해짐)
+    @Column(name = "instance_id", nullable = false, length = 20)
+    private String instanceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TrendBucketUnit unit;
+
+    // 버킷 시작 시각 / 단위 길이
+    @Column(name = "bucket_epoch", nullable = false)
+    private Long bucketEpoch;
+
+    // 상위 검색어별 횟수 JSON ({"불꽃축제": 12, ...})
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String counts;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public static String keyOf(String instanceId, TrendBucketUnit unit, int slot) {
+        return instanceId + ":" + unit.name() + ":" + slot;
+    }
+}
@@ -0,0 +1,13 @@
+package com.swyp10.domain.search.enums;
+
+public enum SearchSuggestType {
+    FESTIVAL("축제"),
+    REGION("지역"),
+    KEYWORD("검색어");
+
+    private final String displayName;
+
+    SearchSuggestType(String value) { this.displayName = value; }
+
+    public String getDisplayName() { return displayName; }
+}
@@ -0,0 +1,25 @@
+package com.swyp10.domain.search.enums;
+
+/**
+ * 실시간 검색어 집계 버킷 단위 - 1분 버킷은 최근 1시간, 1시간 버킷은 최근 7일치만 보관
+ */
+public enum TrendBucketUnit {
+    MINUTE(60_000L, 60),
+    HOUR(3_600_000L, 168);
+
+    private final long millis;
+    private final int retained;
+
+    TrendBucketUnit(long millis, int retained) {
+        this.millis = millis;
+        this.retained = retained;
+    }
+
+    public long getMillis() { return millis; }
+
+    public int getRetained() { return retained; }
+
+    public long epochOf(long epochMillis) {
+        return Math.floorDiv(epochMillis, millis);
+    }
+}
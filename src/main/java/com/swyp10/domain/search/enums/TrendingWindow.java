@@ -0,0 +1,35 @@
+package com.swyp10.domain.search.enums;
+
+/**
+ * 실시간 검색어 순위 기간 (?window=1h|24h|7d)
+ */
+public enum TrendingWindow {
+    HOUR("1h", TrendBucketUnit.MINUTE, 60),
+    DAY("24h", TrendBucketUnit.HOUR, 24),
+    WEEK("7d", TrendBucketUnit.HOUR, 168);
+
+    private final String code;
+    private final TrendBucketUnit unit;
+    private final int buckets;
+
+    TrendingWindow(String code, TrendBucketUnit unit, int buckets) {
+        this.code = code;
+        this.unit = unit;
+        this.buckets = buckets;
+    }
+
+    public String getCode() { return code; }
+
+    public TrendBucketUnit getUnit() { return unit; }
+
+    public int getBuckets() { return buckets; }
+
+    public static TrendingWindow from(String value) {
+        for (TrendingWindow window : values()) {
+            if (window.code.equalsIgnoreCase(value) || window.name().equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Invalid TrendingWindow: " + value);
+    }
+}
@@ -0,0 +1,80 @@
+package com.swyp10.domain.search.index;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min sketch - 고정 크기(depth x width) 카운터로 문자열별 누적 횟수를 근사
+ *
+ * 추정값은 실제 횟수보다 작지 않고, 초과분은 높은 확률로 전체 합의 e/width 이내.
+ * 같은 크기끼리는 칸별로 더해서 합칠 수 있어 여러 시간 버킷의 합을 구할 때 쓴다.
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final long[][] counters;
+
+    public CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.counters = new long[depth][width];
+    }
+
+    public void add(String key, long count) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters[row][index(h1, h2, row)] += count;
+        }
+    }
+
+    public long estimate(String key) {
+        long hash = hash(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters[row][index(h1, h2, row)]);
+        }
+        return min;
+    }
+
+    /**
+     * other의 카운터를 더함 (크기가 같아야 함)
+     */
+    public void merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("크기가 다른 sketch는 합칠 수 없습니다.");
+        }
+        for (int row = 0; row < depth; row++) {
+            long[] target = counters[row];
+            long[] source = other.counters[row];
+            for (int i = 0; i < width; i++) {
+                target[i] += source[i];
+            }
+        }
+    }
+
+    public void clear() {
+        for (long[] row : counters) {
+            Arrays.fill(row, 0L);
+        }
+    }
+
+    // 행마다 h1 + row * h2 (double hashing)
+    private int index(int h1, int h2, int row) {
+        return Math.floorMod(h1 + row * h2, width);
+    }
+
+    // String.hashCode를 64비트로 섞어서 상위/하위를 두 해시로 사용
+    private static long hash(String key) {
+        long h = key.hashCode() * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
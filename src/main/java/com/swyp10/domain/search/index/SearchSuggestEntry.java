@@ -0,0 +1,10 @@
+package com.swyp10.domain.search.index;
+
+import com.swyp10.domain.search.enums.SearchSuggestType;
+
+/**
+ * 자동완성 후보 - 축제 제목이면 festivalId, 지역/검색어면 null
+ * weight: 축제는 조회수, 지역은 소속 축제 조회수 합, 검색어는 검색 횟수
+ */
+public record SearchSuggestEntry(String text, SearchSuggestType type, Long festivalId, long weight) {
+}
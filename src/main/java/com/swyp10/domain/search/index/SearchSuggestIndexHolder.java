@@ -0,0 +1,88 @@
+package com.swyp10.domain.search.index;
+
+import com.swyp10.domain.festival.batch.FestivalSyncCompletedEvent;
+import com.swyp10.domain.festival.index.FestivalSuggestSource;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import com.swyp10.domain.search.entity.SearchKeyword;
+import com.swyp10.domain.search.enums.SearchSuggestType;
+import com.swyp10.domain.search.repository.SearchKeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색어 자동완성 trie 보관소
+ * 기동 직후, 축제 동기화 Job 종료 시, 그리고 검색어 순위 반영을 위해 주기적으로 다시 빌드해서 교체한다.
+ * 조회는 스냅샷만 읽고 DB에 가지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchSuggestIndexHolder {
+
+    private final FestivalRepository festivalRepository;
+    private final SearchKeywordRepository searchKeywordRepository;
+    private final AtomicReference<SearchSuggestTrie> trie = new AtomicReference<>();
+
+    public Optional<SearchSuggestTrie> current() {
+        return Optional.ofNullable(trie.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @EventListener
+    public void onSyncCompleted(FestivalSyncCompletedEvent event) {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${search.suggest.refresh-interval-ms:600000}",
+        initialDelayString = "${search.suggest.refresh-interval-ms:600000}")
+    public void refresh() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            List<SearchSuggestEntry> entries = new ArrayList<>();
+
+            // 축제 제목(조회수) + 지역명(소속 축제 조회수 합)
+            Map<String, Long> regionWeights = new HashMap<>();
+            for (FestivalSuggestSource source : festivalRepository.findAllSuggestSources()) {
+                long views = source.viewCount() != null ? source.viewCount() : 0;
+                entries.add(new SearchSuggestEntry(source.title(), SearchSuggestType.FESTIVAL, source.festivalId(), views));
+                if (source.areacodeName() != null && !source.areacodeName().isBlank()) {
+                    regionWeights.merge(source.areacodeName(), views, Long::sum);
+                }
+            }
+            regionWeights.forEach((region, weight) ->
+                entries.add(new SearchSuggestEntry(region, SearchSuggestType.REGION, null, weight)));
+
+            // 검색어(검색 횟수)
+            for (SearchKeyword keyword : searchKeywordRepository.findTop1000ByOrderByCountDesc()) {
+                entries.add(new SearchSuggestEntry(keyword.getKeyword(), SearchSuggestType.KEYWORD, null,
+                    keyword.getCount() != null ? keyword.getCount() : 0));
+            }
+
+            SearchSuggestTrie built = SearchSuggestTrie.build(entries);
+            trie.set(built);
+            log.info("[Search Index] suggest trie rebuilt - entries: {}, elapsed: {}ms",
+                built.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.warn("[Search Index] suggest trie rebuild failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+}
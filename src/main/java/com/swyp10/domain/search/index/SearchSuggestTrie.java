@@ -0,0 +1,124 @@
+package com.swyp10.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 검색어 자동완성 prefix trie
+ *
+ * 후보 문자열 전체와 단어 시작 위치부터의 접미사("부산 불꽃축제" -> "불꽃축제")를 넣고,
+ * 노드마다 그 prefix로 시작하는 후보 중 가중치 상위 MAX_SUGGESTIONS개를 미리 담아 둔다.
+ * 조회는 prefix 길이만큼 내려가서 목록을 읽기만 하므로 O(|prefix| + K).
+ */
+public final class SearchSuggestTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // 가중치 내림차순, 같으면 축제 > 지역 > 검색어, 문자열 순
+    private static final Comparator<SearchSuggestEntry> RANKING = Comparator
+        .comparingLong(SearchSuggestEntry::weight).reversed()
+        .thenComparing(SearchSuggestEntry::type)
+        .thenComparing(SearchSuggestEntry::text);
+
+    private final List<SearchSuggestEntry> entries;
+    private final Node root;
+
+    private SearchSuggestTrie(List<SearchSuggestEntry> entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    public static SearchSuggestTrie build(Collection<SearchSuggestEntry> candidates) {
+        // 같은 문자열은 가중치가 큰 후보 하나만 (같으면 축제 > 지역 > 검색어)
+        Map<String, SearchSuggestEntry> unique = new LinkedHashMap<>();
+        for (SearchSuggestEntry candidate : candidates) {
+            if (candidate.text() == null) {
+                continue;
+            }
+            String key = normalize(candidate.text());
+            if (key.isEmpty()) {
+                continue;
+            }
+            unique.merge(key, candidate, (a, b) -> RANKING.compare(a, b) <= 0 ? a : b);
+        }
+
+        // 가중치 내림차순으로 넣으면 노드 목록이 자동으로 상위 K개가 된다
+        List<SearchSuggestEntry> ranked = new ArrayList<>(unique.values());
+        ranked.sort(RANKING);
+
+        Node root = new Node();
+        for (int id = 0; id < ranked.size(); id++) {
+            String key = normalize(ranked.get(id).text());
+            for (int start = 0; start < key.length(); start++) {
+                if (start == 0 || key.charAt(start - 1) == ' ') {
+                    insert(root, key, start, id);
+                }
+            }
+        }
+        return new SearchSuggestTrie(List.copyOf(ranked), root);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * prefix로 시작하는 후보를 가중치 순으로 최대 limit개
+     */
+    public List<SearchSuggestEntry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+        int count = Math.min(Math.min(limit, MAX_SUGGESTIONS), node.size);
+        List<SearchSuggestEntry> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries.get(node.top[i]));
+        }
+        return result;
+    }
+
+    // 소문자 + 앞뒤 공백 제거 + 연속 공백 하나로
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static void insert(Node root, String key, int start, int id) {
+        Node node = root;
+        for (int i = start; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+            node.add(id);
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private int[] top = new int[2];
+        private int size;
+
+        void add(int id) {
+            // 같은 후보가 여러 접미사로 같은 노드를 지나도 한 번만
+            if (size == MAX_SUGGESTIONS || (size > 0 && top[size - 1] == id)) {
+                return;
+            }
+            if (size == top.length) {
+                top = Arrays.copyOf(top, Math.min(MAX_SUGGESTIONS, size * 2));
+            }
+            top[size++] = id;
+        }
+    }
+}
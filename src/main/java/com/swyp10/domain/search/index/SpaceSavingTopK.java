@@ -0,0 +1,93 @@
+package com.swyp10.domain.search.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 K 요약 - 카운터 capacity개만 유지
+ *
+ * 자리가 없으면 가장 작은 카운터를 새 키에 넘겨주고(횟수는 이어받음) 이어받은 만큼을 error로 기록한다.
+ * 실제 횟수가 전체 합 / capacity보다 큰 키는 반드시 남는다.
+ */
+public final class SpaceSavingTopK {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator
+        .comparingLong(Counter::getCount).reversed()
+        .thenComparing(Counter::getKey);
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+
+    public SpaceSavingTopK(int capacity) {
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(String key, long count, long seenAt) {
+        Counter counter = counters.get(key);
+        if (counter == null) {
+            if (counters.size() < capacity) {
+                counter = new Counter(key, 0, 0);
+            } else {
+                Counter min = minCounter();
+                counters.remove(min.key);
+                counter = new Counter(key, min.count, min.count);
+            }
+            counters.put(key, counter);
+        }
+        counter.count += count;
+        counter.lastSeenAt = Math.max(counter.lastSeenAt, seenAt);
+    }
+
+    /**
+     * 횟수 내림차순 전체 목록
+     */
+    public List<Counter> top() {
+        List<Counter> result = new ArrayList<>(counters.values());
+        result.sort(BY_COUNT);
+        return result;
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+
+    // capacity가 작아서(수백 개) 선형 탐색으로 충분
+    private Counter minCounter() {
+        Counter min = null;
+        for (Counter counter : counters.values()) {
+            if (min == null || counter.count < min.count) {
+                min = counter;
+            }
+        }
+        return min;
+    }
+
+    public static final class Counter {
+        private final String key;
+        private long count;
+        private final long error;
+        private long lastSeenAt;
+
+        private Counter(String key, long count, long error) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getKey() { return key; }
+
+        public long getCount() { return count; }
+
+        public long getError() { return error; }
+
+        public long getLastSeenAt() { return lastSeenAt; }
+    }
+}
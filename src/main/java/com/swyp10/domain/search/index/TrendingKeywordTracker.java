@@ -0,0 +1,120 @@
+package com.swyp10.domain.search.index;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.domain.search.entity.SearchKeywordTrendBucket;
+import com.swyp10.domain.search.enums.TrendBucketUnit;
+import com.swyp10.domain.search.enums.TrendingWindow;
+import com.swyp10.domain.search.repository.SearchKeywordTrendBucketRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실시간 검색어 집계 보관소
+ *
+ * SearchKeywordRecorder가 flush할 때 모은 횟수를 넘겨받아 기간별 버킷에 더한다.
+ * 바뀐 버킷의 상위 K 요약만 주기적으로(그리고 종료 시) 인스턴스별 행에 저장하고, 그때마다 다른 인스턴스(종료된 인스턴스 포함)의
+ * 요약을 읽어 순위에 더한다. 그래서 순위는 모든 인스턴스 합산이고(다른 인스턴스 반영은 저장 주기만큼 늦음), 재시작해도 이어진다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingKeywordTracker {
+
+    private static final TypeReference<Map<String, Long>> COUNTS_TYPE = new TypeReference<>() {};
+
+    private final SearchKeywordTrendBucketRepository trendBucketRepository;
+    private final ObjectMapper objectMapper;
+    private final TrendingKeywordWindows windows = new TrendingKeywordWindows();
+    // 기동마다 새로 정함 (이전 실행이 저장한 행은 다른 인스턴스 요약으로 읽힘)
+    private final String instanceId = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+
+    public synchronized void record(Map<String, Long> counts) {
+        long now = System.currentTimeMillis();
+        counts.forEach((keyword, count) -> windows.add(keyword, count, now));
+    }
+
+    public synchronized List<TrendingKeywordWindows.TrendingKeyword> top(TrendingWindow window, int limit) {
+        return windows.top(window, limit, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        refreshPeers();
+    }
+
+    @Scheduled(fixedDelayString = "${search.keyword.trending.snapshot-interval-ms:300000}",
+        initialDelayString = "${search.keyword.trending.snapshot-interval-ms:300000}")
+    public void scheduledPersist() {
+        persist();
+        refreshPeers();
+    }
+
+    /**
+     * 다른 인스턴스가 저장한 버킷 요약을 다시 읽어 순위에 반영하고, 보관 기간이 지난 행은 지움
+     */
+    public void refreshPeers() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            trendBucketRepository.deleteUpdatedBefore(now.minusHours(TrendBucketUnit.HOUR.getRetained() + 1L));
+            List<SearchKeywordTrendBucket> buckets = trendBucketRepository.findByInstanceIdNot(instanceId);
+            List<TrendingKeywordWindows.BucketSnapshot> snapshots = new ArrayList<>(buckets.size());
+            for (SearchKeywordTrendBucket bucket : buckets) {
+                snapshots.add(new TrendingKeywordWindows.BucketSnapshot(bucket.getUnit(), -1, bucket.getBucketEpoch(),
+                    objectMapper.readValue(bucket.getCounts(), COUNTS_TYPE)));
+            }
+            synchronized (this) {
+                windows.replacePeers(snapshots, System.currentTimeMillis());
+            }
+            log.debug("[Search Trend] loaded {} buckets from other instances", buckets.size());
+        } catch (Exception e) {
+            // 이전에 읽은 요약 유지
+            log.warn("[Search Trend] loading other instances' buckets failed: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persist();
+    }
+
+    public void persist() {
+        List<TrendingKeywordWindows.BucketSnapshot> snapshots;
+        synchronized (this) {
+            snapshots = windows.drainDirty();
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<SearchKeywordTrendBucket> rows = new ArrayList<>(snapshots.size());
+            for (TrendingKeywordWindows.BucketSnapshot snapshot : snapshots) {
+                rows.add(SearchKeywordTrendBucket.builder()
+                    .bucketKey(SearchKeywordTrendBucket.keyOf(instanceId, snapshot.unit(), snapshot.slot()))
+                    .instanceId(instanceId)
+                    .unit(snapshot.unit())
+                    .bucketEpoch(snapshot.epoch())
+                    .counts(objectMapper.writeValueAsString(snapshot.counts()))
+                    .updatedAt(now)
+                    .build());
+            }
+            trendBucketRepository.saveAll(rows);
+            log.debug("[Search Trend] persisted {} buckets", rows.size());
+        } catch (Exception e) {
+            // 다음 저장 때 같은 버킷이 다시 바뀌면 그때 함께 저장됨
+            log.warn("[Search Trend] persist failed: {}", e.getMessage());
+        }
+    }
+}
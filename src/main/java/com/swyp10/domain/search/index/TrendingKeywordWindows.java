@@ -0,0 +1,180 @@
+package com.swyp10.domain.search.index;
+
+import com.swyp10.domain.search.enums.TrendBucketUnit;
+import com.swyp10.domain.search.enums.TrendingWindow;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기간별 실시간 검색어 집계 (1h / 24h / 7d)
+ *
+ * 1분 버킷(최근 60개)과 1시간 버킷(최근 168개)을 원형 배열로 두고, 버킷마다 Count-Min sketch와 Space-Saving 상위 K를 둔다.
+ * 순위는 기간에 걸친 버킷의 상위 K 키를 후보로, 버킷 sketch를 합친 값으로 횟수를 추정해서 만든다.
+ * 다른 인스턴스가 저장한 버킷 상위 K 요약(peers)이 있으면 그 횟수도 후보와 횟수에 더한다.
+ * 만든 순위는 1분 동안 재사용하므로 조회는 O(K). 이 클래스는 thread-safe 하지 않다 (TrendingKeywordTracker가 동기화).
+ */
+public final class TrendingKeywordWindows {
+
+    public static final int MAX_RANKING = 50;
+    static final int BUCKET_TOP_K = 100;
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 1024;
+
+    private static final Comparator<TrendingKeyword> RANKING = Comparator
+        .comparingLong(TrendingKeyword::count).reversed()
+        .thenComparing(Comparator.comparingLong(TrendingKeyword::lastSearchedAt).reversed())
+        .thenComparing(TrendingKeyword::keyword);
+
+    private final Map<TrendBucketUnit, Bucket[]> rings = new EnumMap<>(TrendBucketUnit.class);
+    private final Map<TrendingWindow, Ranking> rankings = new EnumMap<>(TrendingWindow.class);
+    private final Map<TrendBucketUnit, List<BucketSnapshot>> peers = new EnumMap<>(TrendBucketUnit.class);
+
+    public TrendingKeywordWindows() {
+        for (TrendBucketUnit unit : TrendBucketUnit.values()) {
+            rings.put(unit, new Bucket[unit.getRetained()]);
+        }
+    }
+
+    public void add(String keyword, long count, long epochMillis) {
+        for (TrendBucketUnit unit : TrendBucketUnit.values()) {
+            Bucket bucket = bucket(unit, unit.epochOf(epochMillis));
+            bucket.add(keyword, count, epochMillis);
+            bucket.dirty = true;
+        }
+    }
+
+    /**
+     * 기간 내 검색 횟수 상위 limit개 (최대 MAX_RANKING개)
+     */
+    public List<TrendingKeyword> top(TrendingWindow window, int limit, long nowMillis) {
+        long minute = TrendBucketUnit.MINUTE.epochOf(nowMillis);
+        Ranking ranking = rankings.get(window);
+        if (ranking == null || ranking.minute() != minute) {
+            ranking = new Ranking(minute, rank(window, nowMillis));
+            rankings.put(window, ranking);
+        }
+        return ranking.keywords().subList(0, Math.min(Math.max(limit, 0), ranking.keywords().size()));
+    }
+
+    /**
+     * 마지막 호출 이후 바뀐 버킷의 상위 K 요약 (영속화용)
+     */
+    public List<BucketSnapshot> drainDirty() {
+        List<BucketSnapshot> snapshots = new ArrayList<>();
+        rings.forEach((unit, ring) -> {
+            for (int slot = 0; slot < ring.length; slot++) {
+                Bucket bucket = ring[slot];
+                if (bucket == null || !bucket.dirty) {
+                    continue;
+                }
+                Map<String, Long> counts = new LinkedHashMap<>();
+                bucket.topK.top().forEach(counter -> counts.put(counter.getKey(), counter.getCount()));
+                snapshots.add(new BucketSnapshot(unit, slot, bucket.epoch, counts));
+                bucket.dirty = false;
+            }
+        });
+        return snapshots;
+    }
+
+    /**
+     * 다른 인스턴스가 저장한 버킷 요약으로 통째로 교체 - 보관 기간이 지난 버킷은 무시
+     * (이 인스턴스 버킷과 따로 두므로 같은 요약을 다시 넣어도 두 번 세지 않음)
+     */
+    public void replacePeers(List<BucketSnapshot> snapshots, long nowMillis) {
+        peers.clear();
+        for (BucketSnapshot snapshot : snapshots) {
+            long current = snapshot.unit().epochOf(nowMillis);
+            if (snapshot.epoch() > current || snapshot.epoch() <= current - snapshot.unit().getRetained()) {
+                continue;
+            }
+            peers.computeIfAbsent(snapshot.unit(), unit -> new ArrayList<>()).add(snapshot);
+        }
+        rankings.clear();
+    }
+
+    private List<TrendingKeyword> rank(TrendingWindow window, long nowMillis) {
+        TrendBucketUnit unit = window.getUnit();
+        long current = unit.epochOf(nowMillis);
+        long from = current - window.getBuckets() + 1;
+
+        CountMinSketch merged = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        Map<String, Long> candidates = new HashMap<>();
+        for (Bucket bucket : rings.get(unit)) {
+            if (bucket == null || bucket.epoch < from || bucket.epoch > current) {
+                continue;
+            }
+            merged.merge(bucket.sketch);
+            for (SpaceSavingTopK.Counter counter : bucket.topK.top()) {
+                candidates.merge(counter.getKey(), counter.getLastSeenAt(), Math::max);
+            }
+        }
+        Map<String, Long> peerCounts = new HashMap<>();
+        for (BucketSnapshot peer : peers.getOrDefault(unit, List.of())) {
+            if (peer.epoch() < from || peer.epoch() > current) {
+                continue;
+            }
+            long seenAt = peer.epoch() * unit.getMillis();
+            peer.counts().forEach((keyword, count) -> {
+                peerCounts.merge(keyword, count, Long::sum);
+                candidates.merge(keyword, seenAt, Math::max);
+            });
+        }
+
+        List<TrendingKeyword> ranked = new ArrayList<>(candidates.size());
+        candidates.forEach((keyword, lastSeenAt) -> ranked.add(new TrendingKeyword(
+            keyword, merged.estimate(keyword) + peerCounts.getOrDefault(keyword, 0L), lastSeenAt)));
+        ranked.sort(RANKING);
+        return List.copyOf(ranked.subList(0, Math.min(MAX_RANKING, ranked.size())));
+    }
+
+    // 같은 칸에 지난 기간 버킷이 남아 있으면 비우고 재사용
+    private Bucket bucket(TrendBucketUnit unit, long epoch) {
+        Bucket[] ring = rings.get(unit);
+        int slot = (int) Math.floorMod(epoch, (long) ring.length);
+        Bucket bucket = ring[slot];
+        if (bucket == null) {
+            bucket = new Bucket(epoch);
+            ring[slot] = bucket;
+        } else if (bucket.epoch != epoch) {
+            bucket.reset(epoch);
+        }
+        return bucket;
+    }
+
+    public record TrendingKeyword(String keyword, long count, long lastSearchedAt) {
+    }
+
+    public record BucketSnapshot(TrendBucketUnit unit, int slot, long epoch, Map<String, Long> counts) {
+    }
+
+    private record Ranking(long minute, List<TrendingKeyword> keywords) {
+    }
+
+    private static final class Bucket {
+        private final CountMinSketch sketch = new CountMinSketch(SKETCH_DEPTH, SKETCH_WIDTH);
+        private final SpaceSavingTopK topK = new SpaceSavingTopK(BUCKET_TOP_K);
+        private long epoch;
+        private boolean dirty;
+
+        Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        void add(String keyword, long count, long seenAt) {
+            sketch.add(keyword, count);
+            topK.offer(keyword, count, seenAt);
+        }
+
+        void reset(long epoch) {
+            sketch.clear();
+            topK.clear();
+            this.epoch = epoch;
+        }
+    }
+}
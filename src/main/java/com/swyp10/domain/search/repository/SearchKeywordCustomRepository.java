@@ -0,0 +1,12 @@
+package com.swyp10.domain.search.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public interface SearchKeywordCustomRepository {
+
+    /**
+     * 검색어별 누적 횟수를 한 번의 batch upsert로 반영 (없으면 insert, 있으면 count 증가)
+     */
+    void addCounts(Map<String, Long> counts, LocalDateTime searchedAt);
+}
@@ -0,0 +1,43 @@
+package com.swyp10.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RequiredArgsConstructor
+public class SearchKeywordCustomRepositoryImpl implements SearchKeywordCustomRepository {
+
+    // 한 번에 보내는 행 수 (rewriteBatchedStatements로 multi-row INSERT 하나로 합쳐짐)
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO search_keywords (keyword, count, last_searched_at, created_at) VALUES (?, ?, ?, ?) " +
+        "ON DUPLICATE KEY UPDATE count = count + ?, last_searched_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void addCounts(Map<String, Long> counts, LocalDateTime searchedAt) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(searchedAt);
+
+        // 키 순서를 고정해서 여러 인스턴스가 동시에 flush해도 행 잠금 순서가 같게 (deadlock 방지)
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        new TreeMap<>(counts).forEach((keyword, count) ->
+            rows.add(new Object[]{keyword, count, timestamp, timestamp, count, timestamp}));
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+}
@@ -6,8 +6,11 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import java.util.Optional;
 import java.util.List;
 
-public interface SearchKeywordRepository extends JpaRepository<SearchKeyword, Long> {
+public interface SearchKeywordRepository extends JpaRepository<SearchKeyword, Long>, SearchKeywordCustomRepository {
     Optional<SearchKeyword> findByKeyword(String keyword);
 
     List<SearchKeyword> findTop10ByOrderByCountDescLastSearchedAtDesc();
+
+    // 자동완성 빌드용 - 검색 횟수 상위 검색어
+    List<SearchKeyword> findTop1000ByOrderByCountDesc();
 }
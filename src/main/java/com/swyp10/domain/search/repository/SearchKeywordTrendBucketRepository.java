@@ -0,0 +1,23 @@
+package com.swyp10.domain.search.repository;
+
+import com.swyp10.domain.search.entity.SearchKeywordTrendBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SearchKeywordTrendBucketRepository extends JpaRepository<SearchKeywordTrendBucket, String> {
+
+    // 다른 인스턴스(종료된 인스턴스 포함)가 저장한 버킷
+    List<SearchKeywordTrendBucket> findByInstanceIdNot(String instanceId);
+
+    // 보관 기간이 지나도록 갱신되지 않은 버킷 정리 (종료된 인스턴스의 행)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SearchKeywordTrendBucket b WHERE b.updatedAt < :threshold")
+    int deleteUpdatedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,129 @@
+package com.swyp10.domain.search.service;
+
+import com.swyp10.domain.search.index.TrendingKeywordTracker;
+import com.swyp10.domain.search.repository.SearchKeywordRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검색어 집계 버퍼
+ *
+ * 검색마다 DB에 가지 않고 정규화한 검색어별 횟수를 메모리에 모아 두었다가,
+ * 주기적으로(그리고 종료 시) 한 번의 batch upsert로 search_keywords에 더한다.
+ * ConcurrentHashMap은 bin 단위로 잠그므로 서로 다른 검색어는 경합하지 않고, 같은 검색어 행 잠금도 flush당 한 번뿐이다.
+ * flush마다 모은 횟수를 실시간 검색어 집계(TrendingKeywordTracker)에도 넘긴다.
+ */
+@Slf4j
+@Component
+public class SearchKeywordRecorder {
+
+    static final int MAX_KEYWORD_LENGTH = 100;
+
+    private final SearchKeywordRepository searchKeywordRepository;
+    private final TrendingKeywordTracker trendingKeywordTracker;
+    private final boolean enabled;
+    private final int maxPendingKeywords;
+    private final Map<String, Long> pending = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    // DB 반영에 실패한 횟수 (실시간 집계에는 이미 넘겼으므로 pending과 따로 보관, flush 안에서만 접근)
+    private final Map<String, Long> failed = new HashMap<>();
+
+    public SearchKeywordRecorder(
+        SearchKeywordRepository searchKeywordRepository,
+        TrendingKeywordTracker trendingKeywordTracker,
+        @Value("${search.keyword.recording.enabled:true}") boolean enabled,
+        @Value("${search.keyword.recording.max-pending-keywords:10000}") int maxPendingKeywords
+    ) {
+        this.searchKeywordRepository = searchKeywordRepository;
+        this.trendingKeywordTracker = trendingKeywordTracker;
+        this.enabled = enabled;
+        this.maxPendingKeywords = maxPendingKeywords;
+    }
+
+    /**
+     * 검색어 1회 기록 - 빈 검색어는 무시, 버퍼가 가득 차면 새 검색어는 버림 (이미 있는 검색어는 계속 집계)
+     */
+    public void record(String query) {
+        if (!enabled) {
+            return;
+        }
+        String keyword = normalize(query);
+        if (keyword.isEmpty()) {
+            return;
+        }
+        if (pending.size() >= maxPendingKeywords && !pending.containsKey(keyword)) {
+            dropped.increment();
+            return;
+        }
+        pending.merge(keyword, 1L, Long::sum);
+    }
+
+    @Scheduled(fixedDelayString = "${search.keyword.recording.flush-interval-ms:5000}",
+        initialDelayString = "${search.keyword.recording.flush-interval-ms:5000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    public synchronized void flush() {
+        if (pending.isEmpty() && failed.isEmpty()) {
+            return;
+        }
+        // 키마다 remove로 꺼내서, flush 도중 들어온 증가분은 다음 flush로 넘어가게
+        Map<String, Long> drained = new HashMap<>(pending.size() * 2);
+        for (String keyword : pending.keySet()) {
+            Long count = pending.remove(keyword);
+            if (count != null) {
+                drained.put(keyword, count);
+            }
+        }
+        long droppedCount = dropped.sumThenReset();
+        if (droppedCount > 0) {
+            log.warn("[Search Keyword] buffer full, dropped {} searches", droppedCount);
+        }
+        if (!drained.isEmpty()) {
+            trendingKeywordTracker.record(drained);
+        }
+
+        Map<String, Long> counts = new HashMap<>(drained);
+        failed.forEach((keyword, count) -> counts.merge(keyword, count, Long::sum));
+        try {
+            searchKeywordRepository.addCounts(counts, LocalDateTime.now());
+            failed.clear();
+            log.debug("[Search Keyword] flushed {} keywords", counts.size());
+        } catch (Exception e) {
+            // 실패분은 보관했다가 다음 flush에 다시 시도
+            failed.clear();
+            failed.putAll(counts);
+            log.warn("[Search Keyword] flush failed, {} keywords kept for retry: {}", counts.size(), e.getMessage());
+        }
+    }
+
+    // 앞뒤 공백 제거 + 연속 공백 하나로 + 소문자, 컬럼 길이(100자)로 자름
+    static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        String keyword = query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+        if (keyword.length() > MAX_KEYWORD_LENGTH) {
+            int end = Character.isHighSurrogate(keyword.charAt(MAX_KEYWORD_LENGTH - 1))
+                ? MAX_KEYWORD_LENGTH - 1 : MAX_KEYWORD_LENGTH;
+            keyword = keyword.substring(0, end).trim();
+        }
+        return keyword;
+    }
+}
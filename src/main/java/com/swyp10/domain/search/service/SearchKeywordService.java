@@ -1,7 +1,12 @@
 package com.swyp10.domain.search.service;
 
 import com.swyp10.domain.search.dto.response.SearchKeywordListResponse;
+import com.swyp10.domain.search.dto.response.SearchSuggestResponse;
 
 public interface SearchKeywordService {
     SearchKeywordListResponse getTopKeywords(int limit);
+
+    SearchKeywordListResponse getTrendingKeywords(int limit, String window);
+
+    SearchSuggestResponse getSuggestions(String query, int limit);
 }
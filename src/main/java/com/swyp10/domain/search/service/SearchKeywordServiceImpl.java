@@ -3,11 +3,22 @@ package com.swyp10.domain.search.service;
 import com.swyp10.domain.search.dto.request.SearchKeywordPageRequest;
 import com.swyp10.domain.search.dto.response.SearchKeywordListResponse;
 import com.swyp10.domain.search.dto.response.SearchKeywordResponse;
+import com.swyp10.domain.search.dto.response.SearchSuggestResponse;
+import com.swyp10.domain.search.enums.TrendingWindow;
+import com.swyp10.domain.search.index.SearchSuggestIndexHolder;
+import com.swyp10.domain.search.index.SearchSuggestTrie;
+import com.swyp10.domain.search.index.TrendingKeywordTracker;
+import com.swyp10.domain.search.index.TrendingKeywordWindows;
 import com.swyp10.domain.search.repository.SearchKeywordRepository;
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -17,6 +28,8 @@ import java.util.stream.Collectors;
 public class SearchKeywordServiceImpl implements SearchKeywordService {
 
     private final SearchKeywordRepository searchKeywordRepository;
+    private final SearchSuggestIndexHolder suggestIndexHolder;
+    private final TrendingKeywordTracker trendingKeywordTracker;
 
     @Override
     public SearchKeywordListResponse getTopKeywords(int limit) {
@@ -41,4 +54,63 @@ public class SearchKeywordServiceImpl implements SearchKeywordService {
             .empty(keywords.isEmpty())
             .build();
     }
+
+    /**
+     * 실시간 검색어 - 기간(1h/24h/7d) 내 검색 횟수 순, 메모리 집계에서만 조회 (최대 50개, 1분마다 갱신)
+     */
+    @Override
+    public SearchKeywordListResponse getTrendingKeywords(int limit, String window) {
+        if (limit < 1 || limit > TrendingKeywordWindows.MAX_RANKING) {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST,
+                "limit은 1 이상 " + TrendingKeywordWindows.MAX_RANKING + " 이하여야 합니다.");
+        }
+        TrendingWindow trendingWindow;
+        try {
+            trendingWindow = TrendingWindow.from(window);
+        } catch (IllegalArgumentException e) {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST, "window는 1h, 24h, 7d 중 하나여야 합니다.");
+        }
+
+        List<SearchKeywordResponse> keywords = trendingKeywordTracker.top(trendingWindow, limit)
+            .stream()
+            .map(trending -> SearchKeywordResponse.builder()
+                .keyword(trending.keyword())
+                .count(trending.count())
+                .lastSearchedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(trending.lastSearchedAt()), ZoneId.systemDefault()))
+                .build())
+            .collect(Collectors.toList());
+
+        return SearchKeywordListResponse.builder()
+            .content(keywords)
+            .page(0)
+            .size(limit)
+            .totalElements((long) keywords.size())
+            .totalPages(1)
+            .first(true)
+            .last(true)
+            .empty(keywords.isEmpty())
+            .build();
+    }
+
+    /**
+     * 자동완성 - 메모리 trie 스냅샷에서만 조회 (아직 빌드 전이면 빈 목록)
+     */
+    @Override
+    public SearchSuggestResponse getSuggestions(String query, int limit) {
+        if (limit < 1 || limit > SearchSuggestTrie.MAX_SUGGESTIONS) {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST,
+                "limit은 1 이상 " + SearchSuggestTrie.MAX_SUGGESTIONS + " 이하여야 합니다.");
+        }
+        List<SearchSuggestResponse.Suggestion> suggestions = suggestIndexHolder.current()
+            .map(trie -> trie.suggest(query, limit))
+            .orElse(List.of())
+            .stream()
+            .map(entry -> new SearchSuggestResponse.Suggestion(entry.text(), entry.type(), entry.festivalId()))
+            .collect(Collectors.toList());
+
+        return SearchSuggestResponse.builder()
+            .query(query)
+            .suggestions(suggestions)
+            .build();
+    }
 }
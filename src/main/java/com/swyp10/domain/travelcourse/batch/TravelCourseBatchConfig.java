@@ -1,6 +1,9 @@
 package com.swyp10.domain.travelcourse.batch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.domain.catalog.batch.CatalogVersionJobListener;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.service.CatalogVersionService;
 import com.swyp10.domain.festival.batch.BatchResult;
 import com.swyp10.domain.festival.client.TourApiClient;
 import com.swyp10.domain.travelcourse.service.TravelCourseService;
@@ -33,6 +36,7 @@ public class TravelCourseBatchConfig {
     @Qualifier("com.swyp10.domain.festival.client.TourApiClient")
     private final TourApiClient tourApiClient;
     private final ObjectMapper objectMapper;
+    private final CatalogVersionService catalogVersionService;
 
     @Value("${tourapi.batch.travel-course.skip-if-data-exists:true}")
     private boolean skipIfDataExists;
@@ -56,6 +60,7 @@ public class TravelCourseBatchConfig {
     public Job travelCourseSyncJob(Step travelCourseSyncStep) {
         return new JobBuilder("travelCourseSyncJob", jobRepository)
             .incrementer(new RunIdIncrementer())
+            .listener(new CatalogVersionJobListener(catalogVersionService, CatalogEntityType.TRAVEL_COURSE))
             .start(travelCourseSyncStep)
             .build();
     }
@@ -57,6 +57,7 @@ public enum ErrorCode {
     // 네트워크 및 외부 API 에러
     NETWORK_ERROR(5001, "네트워크 연결에 실패했습니다."),
     EXTERNAL_API_ERROR(5002, "외부 API 호출에 실패했습니다."),
+    SERVICE_BUSY(5003, "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요."),
 
     // 권한 관련 에러
     INSUFFICIENT_PRIVILEGES(4033, "접근 권한이 없습니다."),
@@ -127,6 +127,7 @@ public class GlobalExceptionHandler {
             case 4006, 4007, 4012, 4013, 4034 -> HttpStatus.UNAUTHORIZED;
             case 4033 -> HttpStatus.FORBIDDEN;
             case 5000, 5001, 5002 -> HttpStatus.INTERNAL_SERVER_ERROR;
+            case 5003 -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.BAD_REQUEST;
         };
     }
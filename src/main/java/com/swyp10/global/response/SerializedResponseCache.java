@@ -0,0 +1,131 @@
+package com.swyp10.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 직렬화가 끝난 응답 바이트 캐시 (CommonResponse로 감싼 JSON + gzip 압축본)
+ *
+ * 사용자와 무관하고 같은 조건으로 자주 들어오는 목록 요청은 DTO 생성 / CommonResponse 감싸기 / Jackson 직렬화를
+ * 매번 하지 않고 만들어 둔 바이트를 출력 스트림에 바로 쓴다 (CommonResponseAdvice와 메시지 컨버터를 거치지 않음).
+ * 키는 요청 경로 + 바인딩이 끝난 요청 DTO(기본값까지 채운 값)라서, 핸들러가 쓰지 않는 파라미터를 붙여도 같은 항목을 쓴다.
+ * 호출하는 쪽이 넘긴 데이터 버전이 바뀌면 전부 버린다.
+ * 만드는 도중 버전이 바뀌었거나 만들다 실패하면 캐시에 넣지 않는다.
+ */
+@Component
+public class SerializedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Map<String, Entry> entries;
+    private String version;
+
+    public SerializedResponseCache(
+        ObjectMapper objectMapper,
+        @Value("${festival.list.response-cache.enabled:true}") boolean enabled,
+        @Value("${festival.list.response-cache.max-entries:500}") int maxEntries
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 응답을 쓰고, 없으면 loader 결과를 CommonResponse.success로 감싸 직렬화해서 저장한 뒤 씀
+     * params는 핸들러가 바인딩한 요청 DTO (loader가 실제로 쓰는 조건만 키에 들어감)
+     * (loader 예외는 아무것도 쓰지 않은 상태로 그대로 던지므로 기존 예외 처리를 탄다)
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, Object params, String dataVersion,
+                      Supplier<?> loader) throws IOException {
+        String key = enabled ? key(request, params) : null;
+        Entry entry = enabled ? lookup(key, dataVersion) : null;
+        if (entry == null) {
+            entry = serialize(loader.get());
+            if (enabled) {
+                store(key, dataVersion, entry);
+            }
+        }
+
+        byte[] body = entry.identity();
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptsGzip(request)) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            body = entry.gzip();
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry lookup(String key, String dataVersion) {
+        if (!dataVersion.equals(version)) {
+            entries.clear();
+            version = dataVersion;
+            return null;
+        }
+        return entries.get(key);
+    }
+
+    private synchronized void store(String key, String dataVersion, Entry entry) {
+        if (dataVersion.equals(version)) {
+            entries.put(key, entry);
+        }
+    }
+
+    Entry serialize(Object body) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(CommonResponse.success(body));
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(identity.length / 4 + 64);
+            // 한 번 압축해서 계속 쓰므로 최고 압축률
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed) {{ def.setLevel(Deflater.BEST_COMPRESSION); }}) {
+                gzip.write(identity);
+            }
+            return new Entry(identity, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 경로 + 요청 DTO 필드 (파라미터 순서, 생략한 기본값, 바인딩되지 않는 파라미터와 무관하게 같은 조건이면 같은 키)
+    String key(HttpServletRequest request, Object params) throws IOException {
+        return request.getRequestURI() + "?" + objectMapper.writeValueAsString(params);
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        return Arrays.stream(acceptEncoding.split(","))
+            .map(String::trim)
+            .anyMatch(coding -> coding.equalsIgnoreCase("gzip")
+                || (coding.toLowerCase().startsWith("gzip;") && !coding.replace(" ", "").toLowerCase().endsWith("q=0")));
+    }
+
+    record Entry(byte[] identity, byte[] gzip) {
+    }
+}
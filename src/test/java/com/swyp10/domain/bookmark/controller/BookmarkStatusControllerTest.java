@@ -0,0 +1,63 @@
+package com.swyp10.domain.bookmark.controller;
+
+import com.swyp10.domain.bookmark.dto.response.BookmarkStatusResponse;
+import com.swyp10.domain.bookmark.service.UserBookmarkService;
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BookmarkStatusController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@DisplayName("BookmarkStatusController 테스트")
+class BookmarkStatusControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    UserBookmarkService bookmarkService;
+
+    @Test
+    @DisplayName("북마크 여부 조회 - 성공")
+    void getBookmarkStatus_success() throws Exception {
+        // given
+        when(bookmarkService.getBookmarkStatus(any(), eq(List.of(101L, 102L, 205L))))
+            .thenReturn(BookmarkStatusResponse.builder().bookmarkedIds(List.of(101L, 205L)).build());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/bookmarks/status")
+                .param("ids", "101,102,205"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.bookmarkedIds[0]").value(101))
+            .andExpect(jsonPath("$.data.bookmarkedIds[1]").value(205));
+    }
+
+    @Test
+    @DisplayName("ids 개수 초과 - 실패")
+    void getBookmarkStatus_tooManyIds() throws Exception {
+        // given
+        when(bookmarkService.getBookmarkStatus(any(), any()))
+            .thenThrow(new ApplicationException(ErrorCode.BAD_REQUEST, "ids는 최대 100개까지 조회할 수 있습니다."));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/bookmarks/status")
+                .param("ids", "1,2"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.success").value(false));
+    }
+}
@@ -0,0 +1,128 @@
+package com.swyp10.domain.bookmark.index;
+
+import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBookmarkCache 테스트")
+class UserBookmarkCacheTest {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    @Mock
+    private UserBookmarkRepository userBookmarkRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-08-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("사용자별로 한 번만 읽고 이후 목록은 메모리에서 포함 여부 확인")
+    void findBookmarkedFestivalIds_loadOnce() {
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, true, 100, TTL, clock);
+        given(userBookmarkRepository.findActiveFestivalIds(1L)).willReturn(List.of(30L, 10L, 20L));
+
+        Set<Long> first = cache.findBookmarkedFestivalIds(1L, List.of(10L, 11L, 30L));
+        Set<Long> second = cache.findBookmarkedFestivalIds(1L, List.of(20L, 40L));
+
+        assertThat(first).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(second).containsExactly(20L);
+        verify(userBookmarkRepository, times(1)).findActiveFestivalIds(1L);
+        verify(userBookmarkRepository, never()).findBookmarkedFestivalIds(any(), any());
+    }
+
+    @Test
+    @DisplayName("북마크 추가/취소는 캐시된 집합을 바로 고침")
+    void addedRemoved_updateInPlace() {
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, true, 100, TTL, clock);
+        given(userBookmarkRepository.findActiveFestivalIds(1L)).willReturn(List.of(10L, 20L));
+        cache.findBookmarkedFestivalIds(1L, List.of(10L));
+
+        cache.added(1L, 15L);
+        cache.removed(1L, 10L);
+
+        assertThat(cache.findBookmarkedFestivalIds(1L, List.of(10L, 15L, 20L))).containsExactlyInAnyOrder(15L, 20L);
+        verify(userBookmarkRepository, times(1)).findActiveFestivalIds(1L);
+    }
+
+    @Test
+    @DisplayName("최대 사용자 수를 넘으면 가장 오래 안 쓴 사용자부터 제거")
+    void lruEviction() {
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, true, 2, TTL, clock);
+        given(userBookmarkRepository.findActiveFestivalIds(anyLong())).willReturn(List.of(10L));
+
+        cache.findBookmarkedFestivalIds(1L, List.of(10L));
+        cache.findBookmarkedFestivalIds(2L, List.of(10L));
+        cache.findBookmarkedFestivalIds(1L, List.of(10L)); // 1번 사용자 최근 사용
+        cache.findBookmarkedFestivalIds(3L, List.of(10L)); // 2번 사용자 제거
+        cache.findBookmarkedFestivalIds(1L, List.of(10L));
+        cache.findBookmarkedFestivalIds(2L, List.of(10L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        verify(userBookmarkRepository, times(1)).findActiveFestivalIds(1L);
+        verify(userBookmarkRepository, times(2)).findActiveFestivalIds(2L);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 북마크가 바뀌면 읽은 결과를 캐시하지 않음")
+    void changedWhileLoading_notCached() {
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, true, 100, TTL, clock);
+        given(userBookmarkRepository.findActiveFestivalIds(1L)).willAnswer(invocation -> {
+            cache.added(1L, 20L);
+            return List.of(10L);
+        }).willReturn(List.of(10L, 20L));
+
+        Set<Long> stale = cache.findBookmarkedFestivalIds(1L, List.of(10L, 20L));
+        Set<Long> reloaded = cache.findBookmarkedFestivalIds(1L, List.of(10L, 20L));
+
+        assertThat(stale).containsExactly(10L);
+        assertThat(reloaded).containsExactlyInAnyOrder(10L, 20L);
+        verify(userBookmarkRepository, times(2)).findActiveFestivalIds(1L);
+    }
+
+    @Test
+    @DisplayName("ttl이 지나면 다른 인스턴스 변경을 반영하도록 다시 읽음 (이 인스턴스 변경으로 만료가 늘지 않음)")
+    void expired_reloaded() {
+        Clock ticking = mock(Clock.class);
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, true, 100, TTL, ticking);
+        given(userBookmarkRepository.findActiveFestivalIds(1L))
+            .willReturn(List.of(10L))
+            .willReturn(List.of(10L, 20L, 30L));
+
+        given(ticking.millis()).willReturn(0L);
+        cache.findBookmarkedFestivalIds(1L, List.of(10L));
+        given(ticking.millis()).willReturn(20_000L);
+        cache.added(1L, 30L);
+        Set<Long> cached = cache.findBookmarkedFestivalIds(1L, List.of(10L, 20L, 30L));
+        given(ticking.millis()).willReturn(31_000L);
+        Set<Long> reloaded = cache.findBookmarkedFestivalIds(1L, List.of(10L, 20L, 30L));
+
+        assertThat(cached).containsExactlyInAnyOrder(10L, 30L);
+        assertThat(reloaded).containsExactlyInAnyOrder(10L, 20L, 30L);
+        verify(userBookmarkRepository, times(2)).findActiveFestivalIds(1L);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 페이지마다 DB 조회")
+    void disabled_queriesDb() {
+        UserBookmarkCache cache = new UserBookmarkCache(userBookmarkRepository, false, 100, TTL, clock);
+        given(userBookmarkRepository.findBookmarkedFestivalIds(1L, List.of(10L))).willReturn(Set.of(10L));
+
+        assertThat(cache.findBookmarkedFestivalIds(1L, List.of(10L))).containsExactly(10L);
+        assertThat(cache.findBookmarkedFestivalIds(null, List.of(10L))).isEmpty();
+        verify(userBookmarkRepository, never()).findActiveFestivalIds(any());
+    }
+}
@@ -2,7 +2,9 @@ package com.swyp10.domain.bookmark.service;
 
 import com.swyp10.domain.auth.entity.User;
 import com.swyp10.domain.auth.repository.UserRepository;
+import com.swyp10.domain.bookmark.dto.response.BookmarkStatusResponse;
 import com.swyp10.domain.bookmark.entity.UserBookmark;
+import com.swyp10.domain.bookmark.index.UserBookmarkCache;
 import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
 import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.repository.FestivalRepository;
@@ -15,7 +17,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -28,6 +33,7 @@ class UserBookmarkServiceTest {
     @Mock UserBookmarkRepository bookmarkRepository;
     @Mock FestivalRepository festivalRepository;
     @Mock UserRepository userRepository;
+    @Mock UserBookmarkCache userBookmarkCache;
 
     @InjectMocks UserBookmarkService userBookmarkService;
 
@@ -152,4 +158,34 @@ class UserBookmarkServiceTest {
                 );
         }
     }
+
+    @Nested
+    @DisplayName("getBookmarkStatus 테스트")
+    class GetBookmarkStatus {
+
+        @Test
+        @DisplayName("요청한 축제 중 북마크한 축제 ID를 오름차순으로 반환")
+        void getBookmarkStatus_success() {
+            List<Long> ids = List.of(300L, 100L, 200L);
+            when(userBookmarkCache.findBookmarkedFestivalIds(userId, ids)).thenReturn(Set.of(300L, 100L));
+
+            BookmarkStatusResponse result = userBookmarkService.getBookmarkStatus(userId, ids);
+
+            assertThat(result.getBookmarkedIds()).containsExactly(100L, 300L);
+        }
+
+        @Test
+        @DisplayName("ids 개수 초과 → BAD_REQUEST")
+        void getBookmarkStatus_tooManyIds() {
+            List<Long> ids = LongStream.rangeClosed(1, UserBookmarkService.MAX_STATUS_IDS + 1).boxed().toList();
+
+            assertThatThrownBy(() -> userBookmarkService.getBookmarkStatus(userId, ids))
+                .isInstanceOf(ApplicationException.class)
+                .satisfies(ex ->
+                    assertThat(((ApplicationException) ex).getErrorCode())
+                        .isEqualTo(ErrorCode.BAD_REQUEST)
+                );
+            verifyNoInteractions(userBookmarkCache);
+        }
+    }
 }
@@ -0,0 +1,41 @@
+package com.swyp10.domain.catalog.repository;
+
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.config.TestConfig;
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.swyp10.domain")
+@Import({TestConfig.class, QueryDslConfig.class})
+@DisplayName("CatalogVersionRepository 테스트")
+class CatalogVersionRepositoryTest {
+
+    @Autowired
+    CatalogVersionRepository catalogVersionRepository;
+
+    @Test
+    @DisplayName("처음 올리면 1로 생성, 이후 종류별로 1씩 증가")
+    void bump() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(catalogVersionRepository.bump(CatalogEntityType.FESTIVAL, now)).isEqualTo(1L);
+        assertThat(catalogVersionRepository.bump(CatalogEntityType.FESTIVAL, now)).isEqualTo(2L);
+        assertThat(catalogVersionRepository.bump(CatalogEntityType.REGION, now)).isEqualTo(1L);
+
+        assertThat(catalogVersionRepository.findVersions())
+            .containsExactlyInAnyOrderEntriesOf(Map.of(CatalogEntityType.FESTIVAL, 2L, CatalogEntityType.REGION, 1L));
+    }
+}
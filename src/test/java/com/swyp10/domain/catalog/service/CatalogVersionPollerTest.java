@@ -0,0 +1,84 @@
+package com.swyp10.domain.catalog.service;
+
+import com.swyp10.domain.catalog.enums.CatalogEntityType;
+import com.swyp10.domain.catalog.event.CatalogChangedEvent;
+import com.swyp10.domain.catalog.repository.CatalogVersionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CatalogVersionPoller 테스트")
+class CatalogVersionPollerTest {
+
+    @Mock
+    private CatalogVersionRepository catalogVersionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogVersionPoller poller;
+
+    @BeforeEach
+    void setUp() {
+        poller = new CatalogVersionPoller(catalogVersionRepository, eventPublisher, true);
+    }
+
+    @Test
+    @DisplayName("기동 시점 버전은 기준으로만 쓰고, 올라간 종류만 이벤트 발행")
+    void poll_publishesOnlyChangedTypes() {
+        given(catalogVersionRepository.findVersions())
+            .willReturn(Map.of(CatalogEntityType.FESTIVAL, 3L, CatalogEntityType.REGION, 1L))
+            .willReturn(Map.of(CatalogEntityType.FESTIVAL, 4L, CatalogEntityType.REGION, 1L, CatalogEntityType.RESTAURANT, 1L));
+
+        poller.onReady();
+        poller.poll();
+
+        ArgumentCaptor<CatalogChangedEvent> captor = ArgumentCaptor.forClass(CatalogChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+        assertThat(captor.getAllValues())
+            .extracting(CatalogChangedEvent::getEntityType)
+            .containsExactlyInAnyOrder(CatalogEntityType.FESTIVAL, CatalogEntityType.RESTAURANT);
+    }
+
+    @Test
+    @DisplayName("이 인스턴스가 직접 올린 버전은 다시 알리지 않음")
+    void poll_skipsOwnBump() {
+        given(catalogVersionRepository.findVersions())
+            .willReturn(Map.of(CatalogEntityType.FESTIVAL, 3L))
+            .willReturn(Map.of(CatalogEntityType.FESTIVAL, 4L));
+
+        poller.onReady();
+        poller.markSeen(CatalogEntityType.FESTIVAL, 4L);
+        poller.poll();
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("조회 실패는 다음 폴링에서 다시 확인")
+    void poll_failure_retriedNextTime() {
+        given(catalogVersionRepository.findVersions())
+            .willReturn(Map.of())
+            .willThrow(new IllegalStateException("db down"))
+            .willReturn(Map.of(CatalogEntityType.FESTIVAL, 1L));
+
+        poller.onReady();
+        poller.poll();
+        poller.poll();
+
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
+    }
+}
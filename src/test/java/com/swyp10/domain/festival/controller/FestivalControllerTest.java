@@ -3,13 +3,17 @@ package com.swyp10.domain.festival.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.swyp10.domain.festival.dto.request.*;
 import com.swyp10.domain.festival.dto.response.FestivalListResponse;
+import com.swyp10.domain.festival.dto.response.FestivalMapClusterResponse;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
 import com.swyp10.domain.festival.service.FestivalService;
+import com.swyp10.domain.festival.service.FestivalVersions;
+import com.swyp10.global.response.SerializedResponseCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -18,12 +22,17 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(FestivalController.class)
+@Import({FestivalVersions.class, SerializedResponseCache.class})
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("FestivalController 테스트")
 class FestivalControllerTest {
@@ -78,6 +87,44 @@ class FestivalControllerTest {
             .andExpect(jsonPath("$.data.size").value(20));
     }
 
+    @Test
+    @DisplayName("지도 마커 클러스터 조회 - 성공")
+    void getFestivalMapClusters_success() throws Exception {
+        // given
+        FestivalMapClusterResponse mockResponse = FestivalMapClusterResponse.builder()
+            .zoom(7)
+            .precision(3)
+            .clusters(List.of(new FestivalMapClusterResponse.Cluster("wyd", 37.55, 126.98, 12, 1L)))
+            .build();
+
+        when(festivalService.getFestivalMapClusters(any(FestivalMapClusterRequest.class)))
+            .thenReturn(mockResponse);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/festivals/map/clusters")
+                .param("latTopLeft", "38.0")
+                .param("lngTopLeft", "126.0")
+                .param("latBottomRight", "37.0")
+                .param("lngBottomRight", "128.0")
+                .param("zoom", "7"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.precision").value(3))
+            .andExpect(jsonPath("$.data.clusters[0].count").value(12))
+            .andExpect(jsonPath("$.data.clusters[0].representativeId").value(1));
+    }
+
+    @Test
+    @DisplayName("지도 마커 클러스터 조회 - 줌 레벨 범위 밖이면 400")
+    void getFestivalMapClusters_invalidZoom() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/v1/festivals/map/clusters")
+                .param("zoom", "30"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errorDetail.zoom").exists());
+
+        verify(festivalService, never()).getFestivalMapClusters(any(FestivalMapClusterRequest.class));
+    }
+
     @Test
     @DisplayName("달력 페이지 축제 리스트 조회 - 성공")
     void getFestivalsForCalendar_success() throws Exception {
@@ -265,4 +312,46 @@ class FestivalControllerTest {
             .andExpect(jsonPath("$.data.first").value(false))
             .andExpect(jsonPath("$.data.last").value(false));
     }
+
+    @Test
+    @DisplayName("북마크 분리 요청 - 사용자 없이 조회하고 Vary 헤더 설정")
+    void getFestivalsForCalendar_bookmarkOverlay() throws Exception {
+        // given
+        FestivalListResponse mockResponse = FestivalListResponse.builder()
+            .content(List.of())
+            .page(0)
+            .size(20)
+            .totalElements(0L)
+            .totalPages(0)
+            .first(true)
+            .last(true)
+            .empty(true)
+            .build();
+
+        when(festivalService.getFestivalsForCalendar(isNull(), any(FestivalCalendarRequest.class)))
+            .thenReturn(mockResponse);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/festivals/calendar")
+                .header("X-Bookmark-Overlay", "true")
+                .header("Authorization", "Bearer some-token"))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItem("X-Bookmark-Overlay")))
+            .andExpect(jsonPath("$.data.empty").value(true));
+        verify(festivalService).getFestivalsForCalendar(isNull(), any(FestivalCalendarRequest.class));
+    }
+
+    @Test
+    @DisplayName("분리 요청이 아니면 비로그인 응답도 Authorization별로 구분 (Vary)")
+    void getFestivalsForCalendar_anonymous_varyAuthorization() throws Exception {
+        // given
+        when(festivalService.getFestivalsForCalendar(isNull(), any(FestivalCalendarRequest.class)))
+            .thenReturn(FestivalListResponse.builder().content(List.of()).page(0).size(20).totalElements(0L)
+                .totalPages(0).first(true).last(true).empty(true).build());
+
+        // when & then
+        mockMvc.perform(get("/api/v1/festivals/calendar"))
+            .andExpect(status().isOk())
+            .andExpect(header().stringValues("Vary", org.hamcrest.Matchers.hasItems("X-Bookmark-Overlay", "Authorization")));
+    }
 }
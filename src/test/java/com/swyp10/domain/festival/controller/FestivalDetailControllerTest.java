@@ -2,6 +2,7 @@ package com.swyp10.domain.festival.controller;
 
 import com.swyp10.domain.festival.dto.response.FestivalDetailResponse;
 import com.swyp10.domain.festival.service.FestivalDetailService;
+import com.swyp10.domain.festival.service.FestivalVersions;
 import com.swyp10.exception.ApplicationException;
 import com.swyp10.exception.ErrorCode;
 import org.junit.jupiter.api.DisplayName;
@@ -9,18 +10,30 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(FestivalDetailController.class)
+@Import(FestivalVersions.class)
 @AutoConfigureMockMvc(addFilters = false)
 @DisplayName("FestivalDetailController 테스트")
 class FestivalDetailControllerTest {
@@ -47,7 +60,7 @@ class FestivalDetailControllerTest {
             .info(null)
             .build();
 
-        when(festivalService.getFestivalDetail(anyLong(), anyLong()))
+        when(festivalService.getFestivalDetail(anyLong(), any(), anyString(), anyBoolean()))
             .thenReturn(mockResponse);
 
         // expected
@@ -65,7 +78,7 @@ class FestivalDetailControllerTest {
     @DisplayName("존재하지 않는 축제 상세 조회시 404 반환 - 실패")
     void getFestivalDetail_notFound() throws Exception {
         // given
-        when(festivalService.getFestivalDetail(anyLong(), anyLong()))
+        when(festivalService.getFestivalDetail(anyLong(), any(), anyString(), anyBoolean()))
             .thenThrow(new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND, "축제를 찾을 수 없습니다."));
 
         // expected
@@ -75,4 +88,56 @@ class FestivalDetailControllerTest {
             .andExpect(jsonPath("$.message").value("축제를 찾을 수 없습니다."));
     }
 
+    @Test
+    @DisplayName("If-None-Match가 현재 ETag와 같으면 조회 없이 304, 조회수는 셈")
+    void getFestivalDetail_notModified() throws Exception {
+        // given
+        when(festivalService.getFestivalDetail(eq(1001L), isNull(), anyString(), eq(false)))
+            .thenReturn(FestivalDetailResponse.builder().id(1001L).title("음성명작페스티벌").build());
+        String etag = mockMvc.perform(get("/api/v1/festivals/1001"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        // expected
+        mockMvc.perform(get("/api/v1/festivals/1001").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        verify(festivalService, times(1)).getFestivalDetail(eq(1001L), isNull(), anyString(), eq(false));
+        verify(festivalService, times(1)).recordView(eq(1001L), isNull(), anyString());
+    }
+
+    @Test
+    @DisplayName("존재를 확인하지 않은 축제는 If-None-Match가 있어도 조회하고, 없으면 404 (조회수 안 셈)")
+    void getFestivalDetail_unconfirmed_noNotModified() throws Exception {
+        // given
+        when(festivalService.getFestivalDetail(eq(9999L), isNull(), anyString(), eq(false)))
+            .thenThrow(new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND, "축제를 찾을 수 없습니다."));
+
+        // expected
+        mockMvc.perform(get("/api/v1/festivals/9999").header("If-None-Match", "\"f9999-abc.0\""))
+            .andExpect(status().isNotFound());
+        verify(festivalService, never()).recordView(eq(9999L), any(), any());
+    }
+
+    @Test
+    @DisplayName("조회자 구분은 X-Forwarded-For가 아니라 서버가 정한 주소 기준")
+    void getFestivalDetail_clientKey_ignoresForwardedFor() throws Exception {
+        // given
+        when(festivalService.getFestivalDetail(anyLong(), any(), anyString(), anyBoolean()))
+            .thenReturn(FestivalDetailResponse.builder().id(1001L).build());
+
+        // when
+        mockMvc.perform(get("/api/v1/festivals/1001")
+                .header("X-Forwarded-For", "1.2.3.4")
+                .header("User-Agent", "bot")
+                .with(request -> {
+                    request.setRemoteAddr("10.0.0.7");
+                    return request;
+                }))
+            .andExpect(status().isOk());
+
+        // then
+        verify(festivalService).getFestivalDetail(eq(1001L), isNull(), eq("10.0.0.7|bot"), eq(false));
+    }
 }
@@ -0,0 +1,54 @@
+package com.swyp10.domain.festival.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("DecayedPopularity 테스트")
+class DecayedPopularityTest {
+
+    private static final long DAY = Duration.ofDays(1).toMillis();
+    private static final long HALF_LIFE = 3 * DAY;
+
+    @Test
+    @DisplayName("반감기가 지나면 점수가 절반")
+    void score_halvesEveryHalfLife() {
+        DecayedPopularity popularity = new DecayedPopularity(HALF_LIFE, 0);
+        popularity.add(1L, 100, 0);
+
+        assertThat(popularity.score(1L, 0)).isCloseTo(100, within(1e-9));
+        assertThat(popularity.score(1L, HALF_LIFE)).isCloseTo(50, within(1e-9));
+        assertThat(popularity.score(1L, 2 * HALF_LIFE)).isCloseTo(25, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("누적 조회수가 적어도 최근에 몰리면 순위가 더 높음")
+    void ranking_prefersRecentViews() {
+        DecayedPopularity popularity = new DecayedPopularity(HALF_LIFE, 0);
+        popularity.add(1L, 1000, 0);            // 오래전에 많이
+        popularity.add(2L, 300, 10 * DAY);      // 최근에 적게
+        popularity.add(3L, 10, 10 * DAY);
+
+        assertThat(popularity.ranking(10)).containsExactly(2L, 1L, 3L);
+        assertThat(popularity.ranking(1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("오랜 기간 더해도 기준 시각을 옮겨 점수가 유지되고, 거의 0이 된 축제는 버림")
+    void add_rebasesOverLongPeriods() {
+        DecayedPopularity popularity = new DecayedPopularity(HALF_LIFE, 0);
+        popularity.add(1L, 1, 0);
+        long later = 200 * HALF_LIFE;
+        popularity.add(2L, 5, later);
+        popularity.add(2L, 5, later);
+
+        assertThat(popularity.score(2L, later)).isCloseTo(10, within(1e-9));
+        assertThat(popularity.size()).isEqualTo(1);
+        assertThatThrownBy(() -> new DecayedPopularity(0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,174 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.request.FestivalCalendarRequest;
+import com.swyp10.domain.festival.dto.request.FestivalFacetRequest;
+import com.swyp10.domain.festival.dto.request.FestivalMapRequest;
+import com.swyp10.domain.festival.dto.request.FestivalPersonalTestRequest;
+import com.swyp10.domain.festival.dto.response.FestivalFacetResponse;
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import com.swyp10.domain.festival.enums.FestivalPersonalityType;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalCatalog 테스트")
+class FestivalCatalogTest {
+
+    private static final LocalDate SEP_1 = LocalDate.of(2025, 9, 1);
+
+    // 생성일 내림차순으로 들어온다고 가정 (id 5 → 1)
+    private final FestivalCatalog catalog = FestivalCatalog.build(List.of(
+        row(5L, SEP_1.plusDays(10), SEP_1.plusDays(12), 127.0, 37.5, FestivalStatus.UPCOMING, FestivalTheme.FOOD,
+            FestivalWithWhom.FAMILY, RegionFilter.SEOUL, FestivalPersonalityType.HEALER),
+        row(4L, SEP_1, SEP_1.plusDays(2), null, null, FestivalStatus.ONGOING, FestivalTheme.FOOD,
+            FestivalWithWhom.FAMILY, RegionFilter.SEOUL, FestivalPersonalityType.ENERGIZER),
+        row(3L, SEP_1.plusDays(1), SEP_1.plusDays(5), 129.0, 35.1, FestivalStatus.ONGOING, FestivalTheme.MUSIC,
+            FestivalWithWhom.COUPLE, RegionFilter.GYEONGSANG, FestivalPersonalityType.ENERGIZER),
+        row(2L, SEP_1, SEP_1.plusDays(3), 127.1, 37.6, FestivalStatus.ONGOING, FestivalTheme.FOOD,
+            FestivalWithWhom.FAMILY, RegionFilter.SEOUL, FestivalPersonalityType.ENERGIZER),
+        row(1L, null, null, 127.2, 37.4, null, null, null, null, null)
+    ));
+
+    @Test
+    @DisplayName("지도 - 상태/테마/누구랑 bitmap AND, 생성일 내림차순")
+    void find_map_enumFilters() {
+        FestivalMapRequest request = new FestivalMapRequest();
+        request.setStatus(FestivalStatus.ONGOING);
+        request.setTheme(FestivalTheme.FOOD);
+        request.setWithWhom(FestivalWithWhom.FAMILY);
+
+        Page<FestivalSummaryResponse> page = catalog.find(FestivalCatalogFilter.forMap(request, SEP_1),
+            FestivalCatalog.Order.CREATED_DESC, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(FestivalSummaryResponse::getId).containsExactly(4L, 2L);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("지도 - 영역 밖이거나 좌표가 없는 축제는 제외, 카드 값은 DB 조회와 같음")
+    void find_map_viewport() {
+        FestivalMapRequest request = new FestivalMapRequest();
+        request.setLatTopLeft(38.0);
+        request.setLngTopLeft(126.5);
+        request.setLatBottomRight(37.45);
+        request.setLngBottomRight(127.5);
+
+        Page<FestivalSummaryResponse> page = catalog.find(FestivalCatalogFilter.forMap(request, SEP_1),
+            FestivalCatalog.Order.CREATED_DESC, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).extracting(FestivalSummaryResponse::getId).containsExactly(5L, 2L);
+        FestivalSummaryResponse card = page.getContent().get(1);
+        assertThat(card.getTheme()).isEqualTo("FOOD");
+        assertThat(card.getMap_x()).isEqualTo("127.1");
+        assertThat(card.getStartDate()).isEqualTo(SEP_1);
+        assertThat(card.getBookmarked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("달력 - 날짜가 기간에 포함되는 축제만 시작일 오름차순, 지역 필터")
+    void find_calendar() {
+        FestivalCalendarRequest request = new FestivalCalendarRequest();
+        request.setDate(SEP_1.plusDays(2));
+
+        Page<FestivalSummaryResponse> all = catalog.find(FestivalCatalogFilter.forCalendar(request),
+            FestivalCatalog.Order.START_DATE_ASC, PageRequest.of(0, 10));
+        request.setRegion(RegionFilter.GYEONGSANG);
+        Page<FestivalSummaryResponse> gyeongsang = catalog.find(FestivalCatalogFilter.forCalendar(request),
+            FestivalCatalog.Order.START_DATE_ASC, PageRequest.of(0, 10));
+
+        assertThat(all.getContent()).extracting(FestivalSummaryResponse::getId).containsExactly(2L, 4L, 3L);
+        assertThat(gyeongsang.getContent()).extracting(FestivalSummaryResponse::getId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("맞춤 축제 - 성향 필터와 페이지 구간, 전체 개수")
+    void find_personalTest_paging() {
+        FestivalPersonalTestRequest request = new FestivalPersonalTestRequest();
+        request.setPersonalityType(FestivalPersonalityType.ENERGIZER);
+
+        Page<FestivalSummaryResponse> second = catalog.find(FestivalCatalogFilter.forPersonalTest(request),
+            FestivalCatalog.Order.CREATED_DESC, PageRequest.of(1, 2));
+
+        assertThat(second.getContent()).extracting(FestivalSummaryResponse::getId).containsExactly(2L);
+        assertThat(second.getTotalElements()).isEqualTo(3);
+        assertThat(second.isLast()).isTrue();
+    }
+
+    @Test
+    @DisplayName("없는 enum 값으로 거르면 빈 결과")
+    void find_noBitmapForValue() {
+        FestivalMapRequest request = new FestivalMapRequest();
+        request.setTheme(FestivalTheme.TRADITION);
+
+        Page<FestivalSummaryResponse> page = catalog.find(FestivalCatalogFilter.forMap(request, SEP_1),
+            FestivalCatalog.Order.CREATED_DESC, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isZero();
+    }
+
+    @Test
+    @DisplayName("필터별 개수 - 각 facet은 자기 필터만 빼고 집계, 전체는 모든 필터 적용")
+    void facets_excludeOwnFilter() {
+        FestivalFacetRequest request = new FestivalFacetRequest();
+        request.setStatus(FestivalStatus.ONGOING);
+        request.setTheme(FestivalTheme.FOOD);
+
+        FestivalFacetResponse facets = catalog.facets(FestivalCatalogFilter.forFacets(request, SEP_1));
+
+        assertThat(facets.getTotal()).isEqualTo(2);
+        // 테마 facet은 상태(ONGOING)만 적용: 4, 3, 2
+        assertThat(count(facets.getThemes(), "ALL")).isEqualTo(3);
+        assertThat(count(facets.getThemes(), "FOOD")).isEqualTo(2);
+        assertThat(count(facets.getThemes(), "MUSIC")).isEqualTo(1);
+        // 상태 facet은 테마(FOOD)만 적용: 5, 4, 2
+        assertThat(count(facets.getStatuses(), "ONGOING")).isEqualTo(2);
+        assertThat(count(facets.getStatuses(), "UPCOMING")).isEqualTo(1);
+        // 나머지 facet은 두 필터 모두 적용
+        assertThat(count(facets.getRegions(), "SEOUL")).isEqualTo(2);
+        assertThat(count(facets.getRegions(), "GYEONGSANG")).isZero();
+    }
+
+    @Test
+    @DisplayName("필터별 개수 - 날짜와 영역 조건은 모든 facet에 적용")
+    void facets_dateAndViewport() {
+        FestivalFacetRequest request = new FestivalFacetRequest();
+        request.setDate(SEP_1.plusDays(2));
+        request.setLatTopLeft(38.0);
+        request.setLngTopLeft(126.5);
+        request.setLatBottomRight(35.0);
+        request.setLngBottomRight(130.0);
+
+        FestivalFacetResponse facets = catalog.facets(FestivalCatalogFilter.forFacets(request, SEP_1));
+
+        // 4는 좌표 없음, 5와 1은 기간 밖
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(count(facets.getRegions(), "SEOUL")).isEqualTo(1);
+        assertThat(count(facets.getRegions(), "GYEONGSANG")).isEqualTo(1);
+    }
+
+    private static long count(List<FestivalFacetResponse.FacetCount> counts, String value) {
+        return counts.stream()
+            .filter(count -> count.getValue().equals(value))
+            .findFirst()
+            .map(FestivalFacetResponse.FacetCount::getCount)
+            .orElseThrow();
+    }
+
+    private static FestivalCatalogRow row(Long id, LocalDate start, LocalDate end, Double mapx, Double mapy,
+                                          FestivalStatus status, FestivalTheme theme, FestivalWithWhom withWhom,
+                                          RegionFilter region, FestivalPersonalityType personalityType) {
+        return new FestivalCatalogRow(id, "https://thumb/" + id, "축제" + id, "주소" + id, start, end, mapx, mapy,
+            status, theme, withWhom, region, personalityType);
+    }
+}
@@ -0,0 +1,76 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.dto.response.FestivalMapClusterResponse;
+import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalClusterIndex 테스트")
+class FestivalClusterIndexTest {
+
+    // 서울 2건(근접), 부산 1건
+    private final FestivalClusterIndex index = FestivalClusterIndex.build(List.of(
+        new FestivalClusterPoint(1L, 37.5665, 126.9780, null, FestivalStatus.ONGOING, FestivalTheme.FOOD, 10),
+        new FestivalClusterPoint(2L, 37.5700, 126.9900, null, FestivalStatus.UPCOMING, FestivalTheme.FOOD, 30),
+        new FestivalClusterPoint(3L, 35.1595, 129.0618, null, FestivalStatus.ONGOING, FestivalTheme.CULTURE_ART, 5),
+        new FestivalClusterPoint(4L, null, null, null, FestivalStatus.ONGOING, FestivalTheme.FOOD, 100)
+    ));
+
+    @Nested
+    @DisplayName("query")
+    class Query {
+
+        @Test
+        @DisplayName("낮은 줌 - 가까운 축제끼리 묶이고 대표 축제는 조회수 최다")
+        void query_lowZoom() {
+            List<FestivalMapClusterResponse.Cluster> clusters = index.query(FestivalStatus.ALL, FestivalTheme.ALL,
+                null, null, null, null, FestivalClusterIndex.precisionForZoom(7));
+
+            assertThat(clusters).hasSize(2);
+            FestivalMapClusterResponse.Cluster seoul = clusters.stream().filter(c -> c.getCount() == 2).findFirst().orElseThrow();
+            assertThat(seoul.getRepresentativeId()).isEqualTo(2L);
+            assertThat(seoul.getLat()).isBetween(37.5665, 37.5700);
+        }
+
+        @Test
+        @DisplayName("상태/테마 필터 조합별로 집계")
+        void query_filter() {
+            int precision = FestivalClusterIndex.precisionForZoom(7);
+
+            assertThat(index.query(FestivalStatus.ONGOING, FestivalTheme.ALL, null, null, null, null, precision))
+                .extracting(FestivalMapClusterResponse.Cluster::getRepresentativeId)
+                .containsExactlyInAnyOrder(1L, 3L);
+            assertThat(index.query(FestivalStatus.ONGOING, FestivalTheme.FOOD, null, null, null, null, precision))
+                .extracting(FestivalMapClusterResponse.Cluster::getRepresentativeId)
+                .containsExactly(1L);
+            assertThat(index.query(FestivalStatus.ENDED, FestivalTheme.ALL, null, null, null, null, precision)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("지도 영역과 겹치는 셀만 반환, 뒤집힌 영역은 빈 목록")
+        void query_viewport() {
+            int precision = FestivalClusterIndex.precisionForZoom(12);
+
+            List<FestivalMapClusterResponse.Cluster> clusters = index.query(FestivalStatus.ALL, FestivalTheme.ALL,
+                37.4, 37.7, 126.8, 127.1, precision);
+            assertThat(clusters).extracting(FestivalMapClusterResponse.Cluster::getCount).containsOnly(1, 2);
+            assertThat(clusters.stream().mapToInt(FestivalMapClusterResponse.Cluster::getCount).sum()).isEqualTo(2);
+
+            assertThat(index.query(FestivalStatus.ALL, FestivalTheme.ALL, 37.7, 37.4, 126.8, 127.1, precision)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("줌 레벨이 클수록 정밀도 증가 (1~8)")
+    void precisionForZoom() {
+        assertThat(FestivalClusterIndex.precisionForZoom(0)).isEqualTo(1);
+        assertThat(FestivalClusterIndex.precisionForZoom(7)).isEqualTo(3);
+        assertThat(FestivalClusterIndex.precisionForZoom(21)).isEqualTo(8);
+    }
+}
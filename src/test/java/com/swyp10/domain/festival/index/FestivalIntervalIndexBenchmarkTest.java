@@ -0,0 +1,116 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.domain.festival.dto.request.FestivalCalendarRequest;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * interval index vs 기존 QueryDSL 범위 조건 비교 (10k / 100k 건)
+ * 수동 실행 전용: ./gradlew test --tests '*FestivalIntervalIndexBenchmarkTest' -Dbenchmark=true
+ * H2 인메모리 기준 수치라 운영 DB(MariaDB) 결과와는 차이가 있다. 결과 일치만 검증하고 시간은 로그로만 남긴다.
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("FestivalIntervalIndex 벤치마크")
+class FestivalIntervalIndexBenchmarkTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 1, 1);
+    private static final int QUERIES = 200;
+
+    @Autowired
+    FestivalRepository festivalRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("10,000건")
+    void benchmark_10k() {
+        run(10_000);
+    }
+
+    @Test
+    @DisplayName("100,000건")
+    void benchmark_100k() {
+        run(100_000);
+    }
+
+    private void run(int count) {
+        seed(count);
+
+        long buildStartedAt = System.nanoTime();
+        FestivalIntervalIndex index = FestivalIntervalIndex.build(festivalRepository.findAllEventPeriods());
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+        assertThat(index.size()).isEqualTo(count);
+
+        Random random = new Random(7);
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            dates.add(BASE.plusDays(random.nextInt(3 * 365)));
+        }
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        // 워밍업
+        query(dates.get(0), null, pageable);
+        query(dates.get(0), index.stab(dates.get(0)), pageable);
+
+        long dbNanos = 0;
+        long indexNanos = 0;
+        for (LocalDate date : dates) {
+            long startedAt = System.nanoTime();
+            long dbTotal = query(date, null, pageable);
+            dbNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            long indexTotal = query(date, index.stab(date), pageable);
+            indexNanos += System.nanoTime() - startedAt;
+
+            assertThat(indexTotal).isEqualTo(dbTotal);
+        }
+
+        System.out.printf("[interval index benchmark] rows=%d, build=%dms, queries=%d, db avg=%.2fms, index avg=%.2fms%n",
+            count, buildMillis, QUERIES, dbNanos / 1e6 / QUERIES, indexNanos / 1e6 / QUERIES);
+    }
+
+    private long query(LocalDate date, List<Long> candidateIds, PageRequest pageable) {
+        FestivalCalendarRequest request = new FestivalCalendarRequest();
+        request.setDate(date);
+        return festivalRepository.findFestivalsForCalendar(request, candidateIds, pageable).getTotalElements();
+    }
+
+    // 3년 범위에 1~14일짜리 축제를 흩뿌림 (일자당 약 count/150건)
+    private void seed(int count) {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate start = BASE.plusDays(random.nextInt(3 * 365));
+            LocalDate end = start.plusDays(random.nextInt(14));
+            rows.add(new Object[]{"bench-" + i, Date.valueOf(start), Date.valueOf(end), now, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO festivals (content_id, eventstartdate, eventenddate, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            rows);
+    }
+}
@@ -0,0 +1,53 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FestivalIntervalIndexHolder 테스트")
+class FestivalIntervalIndexHolderTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 8, 15);
+
+    @Mock
+    private FestivalRepository festivalRepository;
+
+    @InjectMocks
+    private FestivalIntervalIndexHolder holder;
+
+    @Test
+    @DisplayName("축제가 저장되면 버려서 다음 빌드까지 DB 범위 조건으로 처리")
+    void invalidate_afterRebuild() {
+        given(festivalRepository.findAllEventPeriods()).willReturn(List.of(new FestivalEventPeriod(1L, DAY, DAY)));
+        holder.rebuild();
+        assertThat(holder.current()).isPresent();
+
+        holder.invalidate();
+
+        assertThat(holder.current()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빌드 도중 버려졌으면 결과를 쓰지 않음")
+    void rebuild_invalidatedWhileBuilding_discarded() {
+        given(festivalRepository.findAllEventPeriods()).willAnswer(invocation -> {
+            holder.invalidate();
+            return List.of(new FestivalEventPeriod(1L, DAY, DAY));
+        });
+
+        holder.rebuild();
+
+        assertThat(holder.current()).isEmpty();
+    }
+}
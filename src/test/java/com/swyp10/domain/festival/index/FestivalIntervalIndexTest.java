@@ -0,0 +1,94 @@
+package com.swyp10.domain.festival.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalIntervalIndex 테스트")
+class FestivalIntervalIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2025, 8, 1);
+
+    @Nested
+    @DisplayName("stab")
+    class Stab {
+
+        @Test
+        @DisplayName("날짜가 기간에 포함되는 축제만 반환 - 시작일/종료일 경계 포함")
+        void stab_success() {
+            FestivalIntervalIndex index = FestivalIntervalIndex.build(List.of(
+                new FestivalEventPeriod(1L, BASE, BASE.plusDays(2)),
+                new FestivalEventPeriod(2L, BASE.plusDays(2), BASE.plusDays(5)),
+                new FestivalEventPeriod(3L, BASE.plusDays(3), BASE.plusDays(3))
+            ));
+
+            assertThat(index.stab(BASE)).containsExactly(1L);
+            assertThat(index.stab(BASE.plusDays(2))).containsExactly(1L, 2L);
+            assertThat(index.stab(BASE.plusDays(3))).containsExactly(2L, 3L);
+            assertThat(index.stab(BASE.plusDays(6))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("기간이 비어 있거나 뒤집힌 항목은 제외")
+        void stab_skipInvalid() {
+            FestivalIntervalIndex index = FestivalIntervalIndex.build(List.of(
+                new FestivalEventPeriod(1L, null, BASE),
+                new FestivalEventPeriod(2L, BASE.plusDays(1), BASE),
+                new FestivalEventPeriod(3L, BASE, BASE)
+            ));
+
+            assertThat(index.size()).isEqualTo(1);
+            assertThat(index.stab(BASE)).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("overlap")
+    class Overlap {
+
+        @Test
+        @DisplayName("조회 구간과 겹치는 축제를 시작일 순으로 반환")
+        void overlap_success() {
+            FestivalIntervalIndex index = FestivalIntervalIndex.build(List.of(
+                new FestivalEventPeriod(10L, BASE.plusDays(10), BASE.plusDays(12)),
+                new FestivalEventPeriod(11L, BASE.minusDays(30), BASE.plusDays(30)),
+                new FestivalEventPeriod(12L, BASE.plusDays(1), BASE.plusDays(1))
+            ));
+
+            assertThat(index.overlap(BASE, BASE.plusDays(5))).containsExactly(11L, 12L);
+            assertThat(index.overlap(BASE.plusDays(12), BASE.plusDays(40))).containsExactly(11L, 10L);
+            assertThat(index.overlap(BASE.plusDays(5), BASE)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("무작위 기간에 대해 전수 비교 결과와 일치")
+        void overlap_matchesBruteForce() {
+            Random random = new Random(42);
+            List<FestivalEventPeriod> periods = new ArrayList<>();
+            for (long id = 1; id <= 2000; id++) {
+                LocalDate start = BASE.plusDays(random.nextInt(365));
+                periods.add(new FestivalEventPeriod(id, start, start.plusDays(random.nextInt(60))));
+            }
+            FestivalIntervalIndex index = FestivalIntervalIndex.build(periods);
+
+            for (int i = 0; i < 200; i++) {
+                LocalDate from = BASE.plusDays(random.nextInt(400) - 20);
+                LocalDate to = from.plusDays(random.nextInt(31));
+
+                List<Long> expected = periods.stream()
+                    .filter(p -> !p.startDate().isAfter(to) && !p.endDate().isBefore(from))
+                    .map(FestivalEventPeriod::festivalId)
+                    .toList();
+
+                assertThat(index.overlap(from, to)).containsExactlyInAnyOrderElementsOf(expected);
+            }
+        }
+    }
+}
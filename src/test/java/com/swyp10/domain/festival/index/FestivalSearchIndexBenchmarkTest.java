@@ -0,0 +1,103 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.domain.festival.dto.request.FestivalSearchRequest;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 n-gram 인덱스 후보 조회 vs 기존 LIKE 조건 비교 (10k 건)
+ * 수동 실행 전용: ./gradlew test --tests '*FestivalSearchIndexBenchmarkTest' -Dbenchmark=true
+ * H2 인메모리 기준 수치라 운영 DB(MariaDB) 결과와는 차이가 있다. 결과 일치만 검증하고 시간은 로그로만 남긴다.
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("FestivalSearchIndex 벤치마크")
+class FestivalSearchIndexBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final List<String> REGIONS = List.of("서울", "부산", "대구", "인천", "광주", "대전", "울산", "강원", "전주", "제주");
+    private static final List<String> TOPICS = List.of("벚꽃", "불꽃", "단풍", "재즈", "막걸리", "한우", "등불", "머드", "연꽃", "눈꽃");
+    private static final List<String> QUERIES = List.of("벚꽃", "부산 불꽃", "막걸리", "제주 한우", "머드축제", "등불", "재즈 페스티벌");
+
+    @Autowired
+    FestivalRepository festivalRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("10,000건")
+    void benchmark_10k() {
+        seed();
+
+        long buildStartedAt = System.nanoTime();
+        FestivalSearchIndex index = FestivalSearchIndex.build(festivalRepository.findAllSearchDocuments());
+        long buildMillis = (System.nanoTime() - buildStartedAt) / 1_000_000;
+        assertThat(index.size()).isEqualTo(ROWS);
+
+        PageRequest pageable = PageRequest.of(0, 20);
+        // 워밍업
+        query(QUERIES.get(0), null, pageable);
+
+        long likeNanos = 0;
+        long indexNanos = 0;
+        for (String q : QUERIES) {
+            long startedAt = System.nanoTime();
+            long likeTotal = query(q, null, pageable);
+            likeNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            List<Long> candidates = Arrays.stream(index.search(q)).mapToObj(id -> (long) id).toList();
+            long indexTotal = query(q, candidates, pageable);
+            indexNanos += System.nanoTime() - startedAt;
+
+            assertThat(indexTotal).isEqualTo(likeTotal);
+        }
+
+        System.out.printf("[search index benchmark] rows=%d, build=%dms, queries=%d, like avg=%.2fms, index avg=%.2fms%n",
+            ROWS, buildMillis, QUERIES.size(), likeNanos / 1e6 / QUERIES.size(), indexNanos / 1e6 / QUERIES.size());
+    }
+
+    private long query(String q, List<Long> candidateIds, PageRequest pageable) {
+        FestivalSearchRequest request = new FestivalSearchRequest();
+        request.setSearchParam(q);
+        return festivalRepository.searchFestivals(request, candidateIds, pageable).getTotalElements();
+    }
+
+    // 지역 x 주제 조합 제목 + 긴 overview
+    private void seed() {
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> festivals = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            String region = REGIONS.get(random.nextInt(REGIONS.size()));
+            String topic = TOPICS.get(random.nextInt(TOPICS.size()));
+            festivals.add(new Object[]{"search-" + i, region + " " + topic + "축제 " + i, region + " 어딘가 " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO festivals (content_id, title, addr1, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            festivals);
+        jdbcTemplate.update(
+            "INSERT INTO festival_details (festival_id, overview) SELECT festival_id, CONCAT(title, ' 소개 ', REPEAT('행사 안내 ', 100)) FROM festivals");
+    }
+}
@@ -0,0 +1,51 @@
+package com.swyp10.domain.festival.index;
+
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FestivalSearchIndexHolder 테스트")
+class FestivalSearchIndexHolderTest {
+
+    @Mock
+    private FestivalRepository festivalRepository;
+
+    @InjectMocks
+    private FestivalSearchIndexHolder holder;
+
+    @Test
+    @DisplayName("빌드 전에는 empty (DB 조건으로 처리)")
+    void search_beforeRebuild() {
+        assertThat(holder.search("축제")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("배치 저장분은 다음 전체 빌드 전에도 바로 검색되고, 이전 내용은 검색되지 않음")
+    void upsert_success() {
+        given(festivalRepository.findAllSearchDocuments()).willReturn(List.of(
+            new FestivalSearchDocument(1L, "봄꽃 축제", null, null),
+            new FestivalSearchDocument(5L, "여름 축제", null, null)
+        ));
+        holder.rebuild();
+
+        holder.upsert(List.of(
+            new FestivalSearchDocument(1L, "가을 단풍 축제", null, null),
+            new FestivalSearchDocument(3L, "겨울 축제", null, null)
+        ));
+
+        assertThat(holder.search("봄꽃")).contains(List.of());
+        assertThat(holder.search("단풍")).contains(List.of(1L));
+        assertThat(holder.search("축제")).contains(List.of(1L, 3L, 5L));
+        assertThat(holder.search("축")).isEmpty();
+    }
+}
@@ -0,0 +1,138 @@
+package com.swyp10.domain.festival.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalSearchIndex 테스트")
+class FestivalSearchIndexTest {
+
+    @Nested
+    @DisplayName("search")
+    class Search {
+
+        @Test
+        @DisplayName("제목/주소/overview 중 하나라도 검색어를 포함하면 후보로 반환")
+        void search_success() {
+            FestivalSearchIndex index = FestivalSearchIndex.build(List.of(
+                new FestivalSearchDocument(1L, "한강 벚꽃축제", "서울특별시 영등포구", null),
+                new FestivalSearchDocument(2L, "부산 불꽃축제", "부산광역시 수영구", "광안리 밤바다 불꽃"),
+                new FestivalSearchDocument(3L, "Jazz Festival", "경기도 가평군", "자라섬 재즈")
+            ));
+
+            assertThat(index.search("벚꽃")).containsExactly(1);
+            assertThat(index.search("불꽃축제")).containsExactly(2);
+            assertThat(index.search("축제")).containsExactly(1, 2);
+            assertThat(index.search("광안리")).containsExactly(2);
+            assertThat(index.search("JAZZ")).containsExactly(3);
+            assertThat(index.search("없는축제")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("1글자 검색어는 인덱스로 답하지 않음")
+        void search_tooShort() {
+            assertThat(FestivalSearchIndex.isSearchable("축")).isFalse();
+            assertThat(FestivalSearchIndex.isSearchable("축제")).isTrue();
+        }
+
+        @Test
+        @DisplayName("전각/악센트/대소문자를 DB 콜레이션처럼 무시하고 찾음")
+        void search_foldsLikeCollation() {
+            FestivalSearchIndex index = FestivalSearchIndex.build(List.of(
+                new FestivalSearchDocument(1L, "Ｊａｚｚ 페스티벌", null, null),
+                new FestivalSearchDocument(2L, "Café Seoul", null, "Cafe\u0301 거리 축제"),
+                new FestivalSearchDocument(3L, "커피 축제", null, null)
+            ));
+
+            assertThat(index.search("jazz")).containsExactly(1);
+            assertThat(index.search("ＪＡＺＺ")).containsExactly(1);
+            assertThat(index.search("cafe")).containsExactly(2);
+            assertThat(index.search("CAFÉ")).containsExactly(2);
+            assertThat(index.search("축제")).containsExactly(2, 3);
+        }
+
+        @Test
+        @DisplayName("접어도 콜레이션과 같다고 볼 수 없는 문자가 남은 문서는 항상 후보, 그런 검색어는 인덱스로 답하지 않음")
+        void search_unfoldedCharacters() {
+            FestivalSearchIndex index = FestivalSearchIndex.build(List.of(
+                new FestivalSearchDocument(1L, "Smørrebrød Fest", null, null),
+                new FestivalSearchDocument(2L, "한강\u200B축제", null, null),
+                new FestivalSearchDocument(3L, "봄꽃 축제", null, null)
+            ));
+
+            assertThat(index.search("smor")).containsExactly(1, 2);
+            assertThat(index.search("한강축제")).containsExactly(1, 2);
+            assertThat(index.search("봄꽃")).containsExactly(1, 2, 3);
+            assertThat(FestivalSearchIndex.isSearchable("smør")).isFalse();
+            assertThat(FestivalSearchIndex.isSearchable("カフェ")).isFalse();
+            assertThat(FestivalSearchIndex.isSearchable("e\u0301")).isFalse();
+        }
+
+        @Test
+        @DisplayName("무작위 문서에 대해 LIKE(전수 비교) 결과를 빠짐없이 포함")
+        void search_coversBruteForce() {
+            String syllables = "가나다라마바사아자차카타파하축제불꽃 ";
+            Random random = new Random(42);
+            List<FestivalSearchDocument> documents = new ArrayList<>();
+            for (long id = 1; id <= 1000; id++) {
+                documents.add(new FestivalSearchDocument(id, randomText(random, syllables, 8),
+                    randomText(random, syllables, 6), randomText(random, syllables, 40)));
+            }
+            FestivalSearchIndex index = FestivalSearchIndex.build(documents);
+
+            for (int q = 0; q < 200; q++) {
+                String query = randomText(random, syllables, 2 + random.nextInt(3));
+                List<Integer> candidates = Arrays.stream(index.search(query)).boxed().toList();
+                List<Integer> expected = documents.stream()
+                    .filter(d -> d.title().contains(query) || d.addr1().contains(query) || d.overview().contains(query))
+                    .map(d -> d.festivalId().intValue())
+                    .toList();
+                assertThat(candidates).containsAll(expected);
+                assertThat(candidates).isSorted();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("merge")
+    class Merge {
+
+        @Test
+        @DisplayName("같은 ID 문서는 새 문서로 교체하고 새 ID는 추가")
+        void merge_success() {
+            FestivalSearchIndex base = FestivalSearchIndex.build(List.of(
+                new FestivalSearchDocument(1L, "봄꽃 축제", null, null),
+                new FestivalSearchDocument(2L, "여름 물놀이", null, null)
+            ));
+            FestivalSearchIndex delta = FestivalSearchIndex.build(List.of(
+                new FestivalSearchDocument(1L, "가을 단풍 축제", null, null),
+                new FestivalSearchDocument(3L, "겨울 눈꽃 축제", null, null)
+            ));
+
+            FestivalSearchIndex merged = base.merge(delta);
+
+            assertThat(merged.size()).isEqualTo(3);
+            assertThat(merged.search("봄꽃")).isEmpty();
+            assertThat(merged.search("단풍")).containsExactly(1);
+            assertThat(merged.search("축제")).containsExactly(1, 3);
+            assertThat(merged.search("물놀이")).containsExactly(2);
+            // 원본은 그대로
+            assertThat(base.search("봄꽃")).containsExactly(1);
+        }
+    }
+
+    private static String randomText(Random random, String alphabet, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+}
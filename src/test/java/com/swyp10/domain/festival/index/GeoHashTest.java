@@ -0,0 +1,66 @@
+package com.swyp10.domain.festival.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("GeoHash 테스트")
+class GeoHashTest {
+
+    @Nested
+    @DisplayName("encode")
+    class Encode {
+
+        @Test
+        @DisplayName("표준 geohash 값과 일치")
+        void encode_success() {
+            assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+            assertThat(GeoHash.encode(37.5665, 126.9780)).isEqualTo("wydm9qy89");
+        }
+
+        @Test
+        @DisplayName("좌표가 없거나 범위를 벗어나면 null")
+        void encode_invalid() {
+            assertThat(GeoHash.encode(null, 127.0)).isNull();
+            assertThat(GeoHash.encode(91.0, 127.0, 9)).isNull();
+            assertThat(GeoHash.encode(37.0, 181.0, 9)).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("coveringPrefixes")
+    class CoveringPrefixes {
+
+        @Test
+        @DisplayName("영역 안의 모든 좌표가 prefix 중 하나로 시작")
+        void coveringPrefixes_coversViewport() {
+            Random random = new Random(1);
+            for (int i = 0; i < 500; i++) {
+                double minLat = 33 + random.nextDouble() * 5;
+                double minLng = 125 + random.nextDouble() * 5;
+                double latSpan = random.nextDouble() * Math.pow(10, -random.nextInt(4));
+                double lngSpan = random.nextDouble() * Math.pow(10, -random.nextInt(4));
+
+                List<String> prefixes = GeoHash.coveringPrefixes(minLat, minLat + latSpan, minLng, minLng + lngSpan);
+                assertThat(prefixes).isNotEmpty().hasSizeLessThanOrEqualTo(GeoHash.MAX_COVER_CELLS);
+
+                for (int j = 0; j < 20; j++) {
+                    String hash = GeoHash.encode(minLat + random.nextDouble() * latSpan, minLng + random.nextDouble() * lngSpan);
+                    assertThat(prefixes).anyMatch(hash::startsWith);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("뒤집힌 영역은 빈 목록")
+        void coveringPrefixes_invertedViewport() {
+            assertThat(GeoHash.coveringPrefixes(37.6, 37.4, 126.9, 127.1)).isEmpty();
+            assertThat(GeoHash.coveringPrefixes(37.4, 37.6, 127.1, 126.9)).isEmpty();
+        }
+    }
+}
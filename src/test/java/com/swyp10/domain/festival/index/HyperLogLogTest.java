@@ -0,0 +1,70 @@
+package com.swyp10.domain.festival.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("HyperLogLog 테스트")
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 조회자가 여러 번 조회해도 한 명으로 추정")
+    void estimate_duplicates() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 100; repeat++) {
+            for (int user = 0; user < 50; user++) {
+                sketch.offer("u:" + user);
+            }
+        }
+
+        assertThat(sketch.estimate()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("많은 조회자도 고정 크기로 오차 5% 이내 추정")
+    void estimate_large() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int user = 0; user < 100_000; user++) {
+            sketch.offer("c:10.0." + user + "|Mozilla");
+        }
+
+        assertThat((double) sketch.estimate()).isCloseTo(100_000, within(5_000.0));
+        assertThat(sketch.toBytes()).hasSize(HyperLogLog.REGISTERS);
+    }
+
+    @Test
+    @DisplayName("일별 sketch를 합치면 합집합 추정, 같은 sketch를 다시 합쳐도 그대로")
+    void merge_union() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int user = 0; user < 3_000; user++) {
+            monday.offer("u:" + user);
+            tuesday.offer("u:" + (user + 1_000));
+        }
+
+        HyperLogLog month = new HyperLogLog();
+        month.merge(monday);
+        month.merge(tuesday);
+        long estimate = month.estimate();
+        month.merge(tuesday);
+
+        assertThat((double) estimate).isCloseTo(4_000, within(200.0));
+        assertThat(month.estimate()).isEqualTo(estimate);
+    }
+
+    @Test
+    @DisplayName("바이트 배열로 저장했다가 복원해도 같은 추정치")
+    void fromBytes_roundTrip() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int user = 0; user < 1_000; user++) {
+            sketch.offer("u:" + user);
+        }
+
+        assertThat(HyperLogLog.fromBytes(sketch.toBytes()).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[10]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
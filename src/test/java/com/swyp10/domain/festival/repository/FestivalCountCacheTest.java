@@ -0,0 +1,49 @@
+package com.swyp10.domain.festival.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalCountCache 테스트")
+class FestivalCountCacheTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-08-01T00:00:00Z"), ZoneOffset.UTC);
+
+    @Test
+    @DisplayName("TTL 안에서는 같은 키의 count를 다시 조회하지 않음")
+    void get_cached() {
+        FestivalCountCache cache = new FestivalCountCache(true, Duration.ofSeconds(30), 100, clock);
+        AtomicInteger loads = new AtomicInteger();
+
+        long first = cache.get("search:title like 여름", () -> { loads.incrementAndGet(); return 3L; });
+        long second = cache.get("search:title like 여름", () -> { loads.incrementAndGet(); return 5L; });
+
+        assertThat(first).isEqualTo(3L);
+        assertThat(second).isEqualTo(3L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화/만료/비활성화 시 다시 조회")
+    void get_reload() {
+        FestivalCountCache cache = new FestivalCountCache(true, Duration.ofSeconds(30), 100, clock);
+        cache.get("map:", () -> 1L);
+        cache.invalidateAll();
+        assertThat(cache.get("map:", () -> 2L)).isEqualTo(2L);
+
+        FestivalCountCache expired = new FestivalCountCache(true, Duration.ZERO, 100, clock);
+        expired.get("map:", () -> 1L);
+        assertThat(expired.get("map:", () -> 2L)).isEqualTo(2L);
+
+        FestivalCountCache disabled = new FestivalCountCache(false, Duration.ofSeconds(30), 100, clock);
+        disabled.get("map:", () -> 1L);
+        assertThat(disabled.get("map:", () -> 2L)).isEqualTo(2L);
+    }
+}
@@ -23,6 +23,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -100,6 +101,37 @@ class FestivalCustomRepositoryImplTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
             assertThat(result.getContent()).isEmpty();
         }
+
+        @Test
+        @DisplayName("축제 지도 필터 - geohash 셀 조회 후 좌표로 정확히 거름")
+        void findFestivalsForMap_geohashRefine() {
+            // Given - 같은 geohash 셀 근처지만 영역 경계 밖에 있는 축제 포함
+            Festival inside = festivalRepository.save(Festival.builder()
+                .contentId("geo-1")
+                .basicInfo(FestivalBasicInfo.builder().title("영역안축제").mapx(126.98).mapy(37.57).build())
+                .build());
+            festivalRepository.save(Festival.builder()
+                .contentId("geo-2")
+                .basicInfo(FestivalBasicInfo.builder().title("경계밖축제").mapx(127.06).mapy(37.57).build())
+                .build());
+            festivalRepository.save(Festival.builder()
+                .contentId("geo-3")
+                .basicInfo(FestivalBasicInfo.builder().title("좌표없는축제").build())
+                .build());
+
+            FestivalMapRequest req = new FestivalMapRequest();
+            req.setLatTopLeft(37.6);
+            req.setLngTopLeft(126.95);
+            req.setLatBottomRight(37.5);
+            req.setLngBottomRight(127.05);
+
+            // When
+            Page<FestivalSummaryResponse> result = festivalRepository.findFestivalsForMap(req, PageRequest.of(0, 10));
+
+            // Then
+            assertThat(inside.getBasicInfo().getGeohash()).startsWith("wydm");
+            assertThat(result.getContent()).extracting(FestivalSummaryResponse::getTitle).containsExactly("영역안축제");
+        }
     }
 
     @Nested
@@ -216,6 +248,46 @@ class FestivalCustomRepositoryImplTest {
             assertThat(counts.get(5).getCount()).isEqualTo(2); // 8/15
         }
 
+        @Test
+        @DisplayName("날짜별 진행중 축제 개수 집계 - 달력 필터 적용 및 조회 구간 밖 기간 절삭")
+        void findDailyFestivalCounts_withFilter() {
+            // given
+            festivalRepository.save(Festival.builder()
+                .contentId("2001")
+                .basicInfo(FestivalBasicInfo.builder()
+                    .title("서울 음식축제")
+                    .eventstartdate(LocalDate.of(2025, 7, 25))
+                    .eventenddate(LocalDate.of(2025, 8, 11))
+                    .build())
+                .regionFilter(RegionFilter.SEOUL)
+                .theme(FestivalTheme.FOOD)
+                .build());
+            festivalRepository.save(Festival.builder()
+                .contentId("2002")
+                .basicInfo(FestivalBasicInfo.builder()
+                    .title("제주 음식축제")
+                    .eventstartdate(LocalDate.of(2025, 8, 10))
+                    .eventenddate(LocalDate.of(2025, 8, 12))
+                    .build())
+                .regionFilter(RegionFilter.JEJU)
+                .theme(FestivalTheme.FOOD)
+                .build());
+
+            LocalDate start = LocalDate.of(2025, 8, 10);
+            LocalDate end = LocalDate.of(2025, 8, 12);
+
+            // when
+            List<FestivalDailyCountResponse.DailyCount> all =
+                festivalRepository.findDailyFestivalCounts(start, end, null, FestivalTheme.FOOD, null);
+            List<FestivalDailyCountResponse.DailyCount> seoul =
+                festivalRepository.findDailyFestivalCounts(start, end, RegionFilter.SEOUL, null, null);
+
+            // then
+            assertThat(all).extracting(FestivalDailyCountResponse.DailyCount::getCount).containsExactly(2, 2, 1);
+            assertThat(seoul).extracting(FestivalDailyCountResponse.DailyCount::getCount).containsExactly(1, 1, 0);
+            assertThat(seoul.get(0).getDate()).isEqualTo(start);
+        }
+
         @Test
         @DisplayName("데이터 결과 없음")
         void findDailyFestivalCounts_empty() {
@@ -314,6 +386,59 @@ class FestivalCustomRepositoryImplTest {
             assertThat(page.getContent().get(0).getTitle()).contains("벚꽃");
         }
 
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - 요약 컬럼 projection이 엔티티 변환과 같은 값")
+        void searchFestivals_projection() {
+            // given
+            FestivalBasicInfo basicInfo = FestivalBasicInfo.builder()
+                .title("projection 불꽃축제")
+                .addr1("부산광역시 수영구")
+                .firstimage2("https://example.com/thumb.jpg")
+                .eventstartdate(LocalDate.of(2025, 10, 1))
+                .eventenddate(LocalDate.of(2025, 10, 3))
+                .mapx(129.1)
+                .mapy(35.15)
+                .build();
+            Festival saved = festivalRepository.save(Festival.builder()
+                .contentId("projection-1")
+                .overview("긴 소개 TEXT")
+                .basicInfo(basicInfo)
+                .theme(FestivalTheme.MUSIC)
+                .build());
+
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setSearchParam("projection");
+
+            // when
+            Page<FestivalSummaryResponse> page = festivalRepository.searchFestivals(req, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.getContent()).hasSize(1);
+            assertThat(page.getContent().get(0))
+                .usingRecursiveComparison()
+                .isEqualTo(FestivalSummaryResponse.from(saved));
+        }
+
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - festival_details의 overview로 검색")
+        void searchFestivals_overview() {
+            // given
+            festivalRepository.save(Festival.builder()
+                .contentId("overview-1")
+                .overview("단풍놀이와 야간 공연")
+                .basicInfo(FestivalBasicInfo.builder().title("가을 축제").addr1("강원특별자치도").build())
+                .build());
+
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setSearchParam("단풍");
+
+            // when
+            Page<FestivalSummaryResponse> page = festivalRepository.searchFestivals(req, PageRequest.of(0, 10));
+
+            // then
+            assertThat(page.getContent()).extracting(FestivalSummaryResponse::getTitle).containsExactly("가을 축제");
+        }
+
         @Test
         @DisplayName("축제 리스트 조회(검색 페이지) - 검색 결과 없음")
         void searchFestivals_noResult() {
@@ -328,5 +453,34 @@ class FestivalCustomRepositoryImplTest {
             assertThat(page.getTotalElements()).isEqualTo(0);
             assertThat(page.getContent()).isEmpty();
         }
+
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - 커서로 이어서 조회하면 중복/누락 없음")
+        void searchFestivalsSlice_cursor() {
+            // given
+            for (int i = 1; i <= 5; i++) {
+                festivalRepository.save(Festival.builder()
+                    .contentId("cursor-" + i)
+                    .basicInfo(FestivalBasicInfo.builder().title("커서축제" + i).build())
+                    .build());
+            }
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setSearchParam("커서축제");
+
+            // when
+            FestivalSlice first = festivalRepository.searchFestivalsSlice(req, null, PageRequest.of(0, 2));
+            FestivalSlice second = festivalRepository.searchFestivalsSlice(req, FestivalCursor.decode(first.getNextCursor()), PageRequest.of(0, 2));
+            FestivalSlice third = festivalRepository.searchFestivalsSlice(req, FestivalCursor.decode(second.getNextCursor()), PageRequest.of(0, 2));
+
+            // then
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(second.isHasNext()).isTrue();
+            assertThat(third.isHasNext()).isFalse();
+            assertThat(third.getNextCursor()).isNull();
+            assertThat(Stream.of(first, second, third)
+                .flatMap(slice -> slice.getContent().stream())
+                .map(FestivalSummaryResponse::getTitle))
+                .containsExactlyInAnyOrder("커서축제1", "커서축제2", "커서축제3", "커서축제4", "커서축제5");
+        }
     }
 }
@@ -0,0 +1,44 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.config.TestConfig;
+import com.swyp10.domain.festival.entity.FestivalDailyViewers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.swyp10.domain")
+@Import({TestConfig.class, QueryDslConfig.class})
+@DisplayName("FestivalDailyViewersRepository 테스트")
+class FestivalDailyViewersRepositoryTest {
+
+    @Autowired
+    FestivalDailyViewersRepository dailyViewersRepository;
+
+    @Test
+    @DisplayName("처음 넣으면 생성, 이미 있으면 덮어쓰지 않고 false")
+    void insertSketch() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThat(dailyViewersRepository.insertSketch(1L, today, new byte[]{1, 2}, now)).isTrue();
+        assertThat(dailyViewersRepository.insertSketch(1L, today, new byte[]{3, 4}, now)).isFalse();
+
+        assertThat(dailyViewersRepository.findFestivalIds(today, List.of(1L, 2L))).containsExactly(1L);
+        List<FestivalDailyViewers> rows = dailyViewersRepository.findForUpdate(today, List.of(1L, 2L));
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getSketch()).containsExactly(1, 2);
+    }
+}
@@ -0,0 +1,67 @@
+package com.swyp10.domain.festival.repository;
+
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.config.TestConfig;
+import com.swyp10.domain.festival.entity.FestivalDetail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@EntityScan(basePackages = "com.swyp10.domain")
+@Import({TestConfig.class, QueryDslConfig.class})
+@DisplayName("FestivalDetailRepository 테스트")
+class FestivalDetailRepositoryTest {
+
+    private static final List<String> LEGACY_COLUMNS = List.of(
+        "overview", "agelimit", "bookingplace", "discountinfofestival", "eventhomepage", "eventplace", "festivalgrade",
+        "placeinfo", "playtime", "program", "spendtimefestival", "sponsor1", "sponsor1tel", "sponsor2", "sponsor2tel",
+        "subevent", "usetimefestival");
+
+    @Autowired
+    FestivalDetailRepository festivalDetailRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("이전 컬럼이 없는 스키마면 아무것도 하지 않음")
+    void backfill_noLegacyColumns() {
+        assertThat(festivalDetailRepository.backfillFromLegacyColumns()).isZero();
+    }
+
+    @Test
+    @DisplayName("이전 컬럼 값으로 상세 행이 없는 축제만 채우고, 다시 실행해도 그대로")
+    void backfill_fromLegacyColumns() {
+        // H2는 DDL에서 커밋하므로 넣은 행과 컬럼은 직접 지움
+        LEGACY_COLUMNS.forEach(column -> jdbcTemplate.execute("ALTER TABLE festivals ADD COLUMN " + column + " TEXT"));
+        try {
+            jdbcTemplate.update("INSERT INTO festivals (content_id, overview, program, created_at, updated_at) " +
+                "VALUES ('legacy-1', '이전 개요', '이전 프로그램', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)");
+            Long festivalId = jdbcTemplate.queryForObject(
+                "SELECT festival_id FROM festivals WHERE content_id = 'legacy-1'", Long.class);
+
+            assertThat(festivalDetailRepository.backfillFromLegacyColumns()).isEqualTo(1);
+            assertThat(festivalDetailRepository.backfillFromLegacyColumns()).isZero();
+
+            FestivalDetail detail = festivalDetailRepository.findById(festivalId).orElseThrow();
+            assertThat(detail.getOverview()).isEqualTo("이전 개요");
+            assertThat(detail.getDetailIntro().getProgram()).isEqualTo("이전 프로그램");
+        } finally {
+            jdbcTemplate.update("DELETE FROM festival_details WHERE festival_id IN " +
+                "(SELECT festival_id FROM festivals WHERE content_id = 'legacy-1')");
+            jdbcTemplate.update("DELETE FROM festivals WHERE content_id = 'legacy-1'");
+            LEGACY_COLUMNS.forEach(column -> jdbcTemplate.execute("ALTER TABLE festivals DROP COLUMN " + column));
+        }
+    }
+}
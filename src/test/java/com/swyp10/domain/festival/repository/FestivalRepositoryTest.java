@@ -5,6 +5,8 @@ import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.entity.FestivalBasicInfo;
 import com.swyp10.domain.festival.entity.FestivalDetailIntro;
 import com.swyp10.domain.festival.entity.FestivalImage;
+import com.swyp10.domain.festival.entity.FestivalStatistics;
+import com.swyp10.domain.festival.entity.FestivalViewDaily;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +20,10 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -31,6 +36,15 @@ class FestivalRepositoryTest {
     @Autowired
     FestivalRepository festivalRepository;
 
+    @Autowired
+    FestivalStatisticsRepository festivalStatisticsRepository;
+
+    @Autowired
+    FestivalViewDailyRepository festivalViewDailyRepository;
+
+    @Autowired
+    EntityManager em;
+
     @TestConfiguration
     static class QuerydslTestConfig {
         @PersistenceContext
@@ -78,6 +92,77 @@ class FestivalRepositoryTest {
         assertThat(found).isEmpty();
     }
 
+    @Test
+    @DisplayName("findWithDetailByFestivalId - festival_details에 분리 저장한 상세 텍스트 조회 성공")
+    void findWithDetailByFestivalId_success() {
+        // given
+        Festival saved = festivalRepository.save(buildFestivalAggregate("상세분리축제"));
+        em.flush();
+        em.clear();
+
+        // when
+        var found = festivalRepository.findWithDetailByFestivalId(saved.getFestivalId());
+
+        // then
+        assertThat(found).isPresent();
+        assertThat(found.get().getDetail().getFestivalId()).isEqualTo(saved.getFestivalId());
+        assertThat(found.get().getOverview()).isEqualTo("개요 텍스트");
+        assertThat(found.get().getDetailIntro().getPlaytime()).isEqualTo("09:00~18:00");
+        Number detailRows = (Number) em.createNativeQuery("SELECT COUNT(*) FROM festival_details WHERE festival_id = :id")
+            .setParameter("id", saved.getFestivalId())
+            .getSingleResult();
+        assertThat(detailRows.longValue()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("addViewCounts - 조회수 증가분 일괄 반영, 통계 행이 없으면 생성하고 없는 축제는 반환")
+    void addViewCounts_success() {
+        // given
+        Festival withStatistics = festivalRepository.save(buildFestivalAggregate("통계있는축제"));
+        withStatistics.initializeStatistics();
+        festivalRepository.save(withStatistics);
+        Festival withoutStatistics = festivalRepository.save(buildFestivalAggregate("통계없는축제"));
+        em.flush();
+        em.clear();
+
+        // when
+        Set<Long> missing = festivalStatisticsRepository.addViewCounts(Map.of(
+            withStatistics.getFestivalId(), 3L,
+            withoutStatistics.getFestivalId(), 2L,
+            999999L, 1L
+        ), LocalDateTime.now());
+
+        // then
+        assertThat(missing).containsExactly(999999L);
+        assertThat(festivalStatisticsRepository.findById(withStatistics.getFestivalId()))
+            .map(FestivalStatistics::getViewCount).contains(3);
+        assertThat(festivalStatisticsRepository.findById(withoutStatistics.getFestivalId()))
+            .map(FestivalStatistics::getViewCount).contains(2);
+    }
+
+    @Test
+    @DisplayName("addDailyViewCounts - 날짜별 조회수 누적, 그날 첫 조회면 행을 만들고 없는 축제는 버림")
+    void addDailyViewCounts_success() {
+        // given
+        Festival festival = festivalRepository.save(buildFestivalAggregate("일별조회축제"));
+        em.flush();
+        em.clear();
+        LocalDate today = LocalDate.of(2025, 9, 2);
+
+        // when
+        festivalViewDailyRepository.addDailyViewCounts(Map.of(festival.getFestivalId(), 2L, 999999L, 1L),
+            today, LocalDateTime.now());
+        festivalViewDailyRepository.addDailyViewCounts(Map.of(festival.getFestivalId(), 3L),
+            today, LocalDateTime.now());
+        em.clear();
+
+        // then
+        List<FestivalViewDaily> rows = festivalViewDailyRepository.findByIdViewDateGreaterThanEqual(today);
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getId().getFestivalId()).isEqualTo(festival.getFestivalId());
+        assertThat(rows.get(0).getViewCount()).isEqualTo(5L);
+    }
+
     private Festival buildFestivalAggregate(String title) {
         FestivalBasicInfo basic = FestivalBasicInfo.builder()
             .title(title)
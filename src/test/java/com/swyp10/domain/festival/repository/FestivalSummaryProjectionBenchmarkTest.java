@@ -0,0 +1,155 @@
+package com.swyp10.domain.festival.repository;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.swyp10.config.QueryDslConfig;
+import com.swyp10.domain.festival.dto.request.FestivalSearchRequest;
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import com.swyp10.domain.festival.entity.QFestival;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 조회 엔티티(selectFrom) vs 요약 컬럼 projection 비교 - 페이지(20건)당 읽는 바이트 / 조회 시간
+ * 수동 실행 전용: ./gradlew test --tests '*FestivalSummaryProjectionBenchmarkTest' -Dbenchmark=true
+ * 바이트는 같은 컬럼 목록을 JDBC로 읽어 문자열은 UTF-8 길이, 그 외는 8바이트로 센 값이다 (드라이버 전송량 근사).
+ */
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("FestivalSummaryRow projection 벤치마크")
+class FestivalSummaryProjectionBenchmarkTest {
+
+    private static final int ROWS = 2_000;
+    private static final int PAGES = 50;
+    private static final int PAGE_SIZE = 20;
+
+    // 엔티티 조회가 읽는 컬럼 전체 (festival_details로 분리하기 전의 넓은 행과 같은 컬럼)
+    private static final String ENTITY_SQL = "SELECT f.*, d.* FROM festivals f LEFT JOIN festival_details d ON d.festival_id = f.festival_id "
+        + "ORDER BY f.created_at DESC, f.festival_id DESC LIMIT ? OFFSET ?";
+    // FestivalSummaryRow.projection 컬럼
+    private static final String PROJECTION_SQL = "SELECT festival_id, created_at, firstimage2, theme, title, addr1, "
+        + "eventstartdate, eventenddate, mapx, mapy FROM festivals ORDER BY created_at DESC, festival_id DESC LIMIT ? OFFSET ?";
+
+    @Autowired
+    FestivalRepository festivalRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    JPAQueryFactory queryFactory;
+
+    @Test
+    @DisplayName("페이지당 읽는 바이트와 조회 시간")
+    void benchmark() {
+        seed();
+
+        long entityBytes = 0;
+        long projectionBytes = 0;
+        for (int page = 0; page < PAGES; page++) {
+            entityBytes += bytesRead(ENTITY_SQL, page);
+            projectionBytes += bytesRead(PROJECTION_SQL, page);
+        }
+
+        QFestival festival = QFestival.festival;
+        FestivalSearchRequest request = new FestivalSearchRequest();
+
+        // 워밍업
+        queryFactory.selectFrom(festival).limit(PAGE_SIZE).fetch();
+        festivalRepository.searchFestivals(request, PageRequest.of(0, PAGE_SIZE));
+        em.clear();
+
+        long entityNanos = 0;
+        long projectionNanos = 0;
+        for (int page = 0; page < PAGES; page++) {
+            long startedAt = System.nanoTime();
+            List<FestivalSummaryResponse> before = queryFactory
+                .selectFrom(festival)
+                .orderBy(festival.createdAt.desc(), festival.festivalId.desc())
+                .offset((long) page * PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .fetch()
+                .stream()
+                .map(FestivalSummaryResponse::from)
+                .toList();
+            entityNanos += System.nanoTime() - startedAt;
+            em.clear();
+
+            startedAt = System.nanoTime();
+            List<FestivalSummaryResponse> after = festivalRepository
+                .searchFestivals(request, PageRequest.of(page, PAGE_SIZE))
+                .getContent();
+            projectionNanos += System.nanoTime() - startedAt;
+            em.clear();
+
+            assertThat(after).extracting(FestivalSummaryResponse::getId)
+                .containsExactlyElementsOf(before.stream().map(FestivalSummaryResponse::getId).toList());
+        }
+
+        assertThat(projectionBytes).isLessThan(entityBytes);
+        System.out.printf("[summary projection benchmark] rows=%d, pages=%d, entity=%d bytes/page (%.2fms), projection=%d bytes/page (%.2fms)%n",
+            ROWS, PAGES, entityBytes / PAGES, entityNanos / 1e6 / PAGES, projectionBytes / PAGES, projectionNanos / 1e6 / PAGES);
+    }
+
+    private long bytesRead(String sql, int page) {
+        List<Long> sizes = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            ResultSetMetaData meta = rs.getMetaData();
+            long size = 0;
+            for (int i = 1; i <= meta.getColumnCount(); i++) {
+                Object value = rs.getObject(i);
+                if (value instanceof String text) {
+                    size += text.getBytes(StandardCharsets.UTF_8).length;
+                } else if (value != null) {
+                    size += 8;
+                }
+            }
+            return size;
+        }, PAGE_SIZE, page * PAGE_SIZE);
+        return sizes.stream().mapToLong(Long::longValue).sum();
+    }
+
+    // 실제 TourAPI 응답과 비슷한 길이의 overview / 상세 소개 TEXT를 채움
+    private void seed() {
+        String overview = "축제 소개 ".repeat(200);
+        String program = "공연, 체험 프로그램 ".repeat(80);
+        String placeinfo = "행사장 안내 ".repeat(40);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate start = LocalDate.of(2025, 1, 1).plusDays(i % 365);
+            rows.add(new Object[]{"proj-" + i, "벤치마크 축제 " + i, "서울특별시 중구 " + i, "https://tong.visitkorea.or.kr/" + i + ".jpg",
+                Date.valueOf(start), Date.valueOf(start.plusDays(3)), 127.0, 37.5, now, now});
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO festivals (content_id, title, addr1, firstimage2, eventstartdate, eventenddate, mapx, mapy, "
+                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            rows);
+        jdbcTemplate.update(
+            "INSERT INTO festival_details (festival_id, overview, program, placeinfo, sponsor1) "
+                + "SELECT festival_id, ?, ?, ?, CONCAT('주최 ', festival_id) FROM festivals",
+            overview, program, placeinfo);
+    }
+}
@@ -0,0 +1,164 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.festival.dto.response.FestivalDetailResponse;
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FestivalDetailCache 테스트")
+class FestivalDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("한 번 만든 상세는 다시 만들지 않고, 적중/미적중 지표 집계")
+    void get_hitAndMiss() {
+        FestivalDetailCache cache = new FestivalDetailCache(true, 100, Long.MAX_VALUE, meterRegistry, singleFlight());
+
+        FestivalDetailResponse first = cache.get(1L, () -> load(1L, "개요"));
+        FestivalDetailResponse second = cache.get(1L, () -> load(1L, "개요"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("festival.detail.cache.hits").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("festival.detail.cache.misses").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장된 축제만 정확히 버림")
+    void evict_onlyThatFestival() {
+        FestivalDetailCache cache = new FestivalDetailCache(true, 100, Long.MAX_VALUE, meterRegistry, singleFlight());
+        cache.get(1L, () -> load(1L, "개요"));
+        cache.get(2L, () -> load(2L, "개요"));
+
+        cache.evict(1L);
+        cache.get(1L, () -> load(1L, "바뀐 개요"));
+        cache.get(2L, () -> load(2L, "바뀐 개요"));
+
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(cache.get(1L, () -> load(1L, "")).getContent().getOverview()).isEqualTo("바뀐 개요");
+        assertThat(cache.get(2L, () -> load(2L, "")).getContent().getOverview()).isEqualTo("개요");
+    }
+
+    @Test
+    @DisplayName("개수 또는 크기 상한을 넘으면 오래 안 쓴 축제부터 버림")
+    void eviction_bySizeAndWeight() {
+        FestivalDetailCache bySize = new FestivalDetailCache(true, 2, Long.MAX_VALUE, meterRegistry, singleFlight());
+        bySize.get(1L, () -> load(1L, "개요"));
+        bySize.get(2L, () -> load(2L, "개요"));
+        bySize.get(1L, () -> load(1L, "개요"));  // 1번 최근 사용
+        bySize.get(3L, () -> load(3L, "개요"));  // 2번 제거
+
+        assertThat(bySize.size()).isEqualTo(2);
+        assertThat(meterRegistry.counter("festival.detail.cache.evictions").count()).isEqualTo(1);
+
+        long oneEntry = FestivalDetailCache.estimateWeight(load(0L, "x".repeat(1000)));
+        FestivalDetailCache byWeight = new FestivalDetailCache(true, 100, oneEntry * 2, new SimpleMeterRegistry(), singleFlight());
+        byWeight.get(1L, () -> load(1L, "x".repeat(1000)));
+        byWeight.get(2L, () -> load(2L, "x".repeat(1000)));
+        byWeight.get(3L, () -> load(3L, "x".repeat(1000)));
+
+        assertThat(byWeight.size()).isEqualTo(2);
+        assertThat(byWeight.weight()).isLessThanOrEqualTo(oneEntry * 2);
+    }
+
+    @Test
+    @DisplayName("없는 축제 예외는 캐시하지 않음")
+    void get_loaderException_notCached() {
+        FestivalDetailCache cache = new FestivalDetailCache(true, 100, Long.MAX_VALUE, meterRegistry, singleFlight());
+
+        assertThatThrownBy(() -> cache.get(1L, () -> {
+            throw new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND);
+        })).isInstanceOf(ApplicationException.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("만드는 도중 축제가 저장되면 결과를 캐시하지 않음")
+    void get_evictedWhileLoading_notCached() {
+        FestivalDetailCache cache = new FestivalDetailCache(true, 100, Long.MAX_VALUE, meterRegistry, singleFlight());
+
+        cache.get(1L, () -> {
+            cache.evict(1L);
+            return load(1L, "오래된 개요");
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 미적중하면 한 번만 읽고, 읽는 도중 저장된 뒤 온 요청은 새로 읽음")
+    void get_concurrentMisses_loadOnce() throws Exception {
+        FestivalDetailCache cache = new FestivalDetailCache(true, 100, Long.MAX_VALUE, meterRegistry,
+            new FestivalSingleFlight(true, 5000, meterRegistry));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<FestivalDetailResponse> first = executor.submit(() -> cache.get(1L, () -> {
+                loading.countDown();
+                await(release);
+                return load(1L, "개요");
+            }));
+            loading.await(5, TimeUnit.SECONDS);
+            Future<FestivalDetailResponse> joined = executor.submit(() -> cache.get(1L, () -> load(1L, "개요")));
+            for (int i = 0; i < 500 && meterRegistry.counter("festival.single-flight.shared").count() < 1; i++) {
+                Thread.sleep(10);
+            }
+
+            cache.evict(1L);
+            Future<FestivalDetailResponse> afterEvict = executor.submit(() -> cache.get(1L, () -> load(1L, "바뀐 개요")));
+            assertThat(afterEvict.get(5, TimeUnit.SECONDS).getContent().getOverview()).isEqualTo("바뀐 개요");
+            release.countDown();
+
+            assertThat(joined.get(5, TimeUnit.SECONDS)).isSameAs(first.get(5, TimeUnit.SECONDS));
+            assertThat(loads.get()).isEqualTo(2);
+            assertThat(cache.get(1L, () -> load(1L, "")).getContent().getOverview()).isEqualTo("바뀐 개요");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static FestivalSingleFlight singleFlight() {
+        return new FestivalSingleFlight(true, 5000, new SimpleMeterRegistry());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private FestivalDetailResponse load(Long festivalId, String overview) {
+        loads.incrementAndGet();
+        return FestivalDetailResponse.builder()
+            .id(festivalId)
+            .title("축제" + festivalId)
+            .content(FestivalDetailResponse.ContentResponse.builder().overview(overview).build())
+            .bookmarked(false)
+            .build();
+    }
+}
@@ -8,7 +8,9 @@ import com.swyp10.domain.bookmark.entity.UserBookmark;
 import com.swyp10.domain.bookmark.repository.UserBookmarkRepository;
 import com.swyp10.domain.festival.dto.request.*;
 import com.swyp10.domain.festival.dto.response.FestivalDailyCountResponse;
+import com.swyp10.domain.festival.dto.response.FestivalFacetResponse;
 import com.swyp10.domain.festival.dto.response.FestivalListResponse;
+import com.swyp10.domain.festival.dto.response.FestivalMapClusterResponse;
 import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopListResponse;
 import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
 import com.swyp10.domain.festival.dto.tourapi.DetailCommon2Dto;
@@ -17,8 +19,12 @@ import com.swyp10.domain.festival.dto.tourapi.DetailIntro2Dto;
 import com.swyp10.domain.festival.dto.tourapi.SearchFestival2Dto;
 import com.swyp10.domain.festival.entity.Festival;
 import com.swyp10.domain.festival.entity.FestivalBasicInfo;
+import com.swyp10.domain.festival.enums.FestivalPageMode;
 import com.swyp10.domain.festival.enums.FestivalPersonalityType;
 import com.swyp10.domain.festival.enums.FestivalStatus;
+import com.swyp10.domain.festival.enums.FestivalTheme;
+import com.swyp10.domain.festival.enums.FestivalWithWhom;
+import com.swyp10.domain.festival.enums.RegionFilter;
 import com.swyp10.domain.festival.repository.FestivalRepository;
 import com.swyp10.exception.ApplicationException;
 import com.swyp10.global.page.PageRequest;
@@ -301,6 +307,30 @@ class FestivalServiceTest {
             assertThat(res.getContent()).isEmpty();
             assertThat(res.getTotalElements()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("지도 마커 클러스터 조회 - 가까운 축제끼리 묶음")
+        void getFestivalMapClusters_success() {
+            // given - 서울 2건, 부산 1건
+            saveFestival("2001", "서울축제1", 126.978, 37.5665);
+            saveFestival("2002", "서울축제2", 126.990, 37.5700);
+            saveFestival("2003", "부산축제", 129.0618, 35.1595);
+
+            FestivalMapClusterRequest req = new FestivalMapClusterRequest();
+            req.setLatTopLeft(38.0);
+            req.setLngTopLeft(126.0);
+            req.setLatBottomRight(35.0);
+            req.setLngBottomRight(130.0);
+            req.setZoom(7);
+
+            // when
+            FestivalMapClusterResponse res = festivalService.getFestivalMapClusters(req);
+
+            // then
+            assertThat(res.getClusters()).hasSize(2);
+            assertThat(res.getClusters()).extracting(FestivalMapClusterResponse.Cluster::getCount)
+                .containsExactlyInAnyOrder(2, 1);
+        }
     }
 
     @Nested
@@ -399,6 +429,61 @@ class FestivalServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("필터별 축제 개수 Service 테스트")
+    class FestivalFacets {
+        @Test
+        @DisplayName("필터별 축제 개수 - 각 필터 개수는 자기 필터를 뺀 나머지 조건 적용")
+        void getFestivalFacets_success() {
+            // given
+            LocalDate date = LocalDate.of(2025, 8, 2);
+            saveFacetFestival("1111", FestivalTheme.FOOD, RegionFilter.SEOUL, date);
+            saveFacetFestival("2222", FestivalTheme.FOOD, RegionFilter.JEJU, date);
+            saveFacetFestival("3333", FestivalTheme.MUSIC, RegionFilter.SEOUL, date);
+            saveFacetFestival("4444", FestivalTheme.FOOD, RegionFilter.SEOUL, date.plusMonths(1)); // 날짜 밖
+
+            FestivalFacetRequest request = new FestivalFacetRequest();
+            request.setDate(date);
+            request.setTheme(FestivalTheme.FOOD);
+            request.setRegion(RegionFilter.SEOUL);
+
+            // when
+            FestivalFacetResponse result = festivalService.getFestivalFacets(request);
+
+            // then
+            assertThat(result.getTotal()).isEqualTo(1);
+            assertThat(facetCount(result.getRegions(), "SEOUL")).isEqualTo(1);
+            assertThat(facetCount(result.getRegions(), "JEJU")).isEqualTo(1);
+            assertThat(facetCount(result.getRegions(), "ALL")).isEqualTo(2);
+            assertThat(facetCount(result.getThemes(), "FOOD")).isEqualTo(1);
+            assertThat(facetCount(result.getThemes(), "MUSIC")).isEqualTo(1);
+            assertThat(facetCount(result.getStatuses(), "ONGOING")).isEqualTo(1);
+            assertThat(result.getWithWhoms()).hasSize(FestivalWithWhom.values().length);
+        }
+
+        private void saveFacetFestival(String contentId, FestivalTheme theme, RegionFilter region, LocalDate date) {
+            festivalRepository.save(Festival.builder()
+                .contentId(contentId)
+                .basicInfo(FestivalBasicInfo.builder()
+                    .title("축제" + contentId)
+                    .eventstartdate(date)
+                    .eventenddate(date)
+                    .build())
+                .status(FestivalStatus.ONGOING)
+                .theme(theme)
+                .regionFilter(region)
+                .build());
+        }
+
+        private long facetCount(List<FestivalFacetResponse.FacetCount> counts, String value) {
+            return counts.stream()
+                .filter(count -> count.getValue().equals(value))
+                .findFirst()
+                .map(FestivalFacetResponse.FacetCount::getCount)
+                .orElseThrow();
+        }
+    }
+
     @Nested
     @DisplayName("맞춤 성향 테스트 축제 Service 테스트")
     class FestivalPersonalTest {
@@ -493,6 +578,69 @@ class FestivalServiceTest {
             assertThat(response.getTotalElements()).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - 커서 방식은 nextCursor 반환, 전체 개수 없음")
+        void searchFestivals_cursor() {
+            // given
+            saveFestival("3001", "커서검색축제1", 127.0, 37.5);
+            saveFestival("3002", "커서검색축제2", 127.0, 37.5);
+
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setSearchParam("커서검색");
+            req.setSize(1);
+            req.setCursor("");
+
+            // when
+            FestivalListResponse first = festivalService.searchFestivals(null, req);
+            req.setCursor(first.getNextCursor());
+            FestivalListResponse second = festivalService.searchFestivals(null, req);
+
+            // then
+            assertThat(first.getContent()).hasSize(1);
+            assertThat(first.getNextCursor()).isNotNull();
+            assertThat(first.getTotalElements()).isNull();
+            assertThat(second.getContent()).hasSize(1);
+            assertThat(second.getLast()).isTrue();
+            assertThat(second.getNextCursor()).isNull();
+            assertThat(second.getContent().get(0).getId()).isNotEqualTo(first.getContent().get(0).getId());
+        }
+
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - SLICE 모드는 count 없이 hasNext 반환")
+        void searchFestivals_sliceMode() {
+            // given
+            saveFestival("3101", "슬라이스축제1", 127.0, 37.5);
+            saveFestival("3102", "슬라이스축제2", 127.0, 37.5);
+            saveFestival("3103", "슬라이스축제3", 127.0, 37.5);
+
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setSearchParam("슬라이스");
+            req.setSize(2);
+            req.setMode(FestivalPageMode.SLICE);
+
+            // when
+            FestivalListResponse first = festivalService.searchFestivals(null, req);
+            req.setPage(1);
+            FestivalListResponse second = festivalService.searchFestivals(null, req);
+
+            // then
+            assertThat(first.getContent()).hasSize(2);
+            assertThat(first.getHasNext()).isTrue();
+            assertThat(first.getTotalElements()).isNull();
+            assertThat(first.getPage()).isEqualTo(0);
+            assertThat(second.getContent()).hasSize(1);
+            assertThat(second.getHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("축제 리스트 조회(검색 페이지) - 잘못된 커서 - 실패")
+        void searchFestivals_invalidCursor_fail() {
+            FestivalSearchRequest req = new FestivalSearchRequest();
+            req.setCursor("not-a-cursor");
+
+            assertThatThrownBy(() -> festivalService.searchFestivals(null, req))
+                .isInstanceOf(ApplicationException.class);
+        }
     }
 
     @Nested
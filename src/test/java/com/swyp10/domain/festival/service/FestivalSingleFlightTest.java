@@ -0,0 +1,130 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FestivalSingleFlight 테스트")
+class FestivalSingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch loading = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 요청은 한 번만 실행하고 같은 결과를 받음")
+    void execute_sharesInFlightResult() throws Exception {
+        FestivalSingleFlight singleFlight = new FestivalSingleFlight(true, 5000, meterRegistry);
+
+        Future<List<Long>> leader = executor.submit(() -> singleFlight.execute("monthly-top", blockingLoad(List.of(1L, 2L))));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<List<Long>> follower1 = executor.submit(() -> singleFlight.execute("monthly-top", () -> load(List.of(9L))));
+        Future<List<Long>> follower2 = executor.submit(() -> singleFlight.execute("monthly-top", () -> load(List.of(9L))));
+        awaitShared(2);
+        release.countDown();
+
+        assertThat(follower1.get(5, TimeUnit.SECONDS)).isSameAs(leader.get(5, TimeUnit.SECONDS));
+        assertThat(follower2.get(5, TimeUnit.SECONDS)).isSameAs(leader.get());
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패는 기다리던 요청에 같이 전달하고, 다음 요청은 다시 실행")
+    void execute_failureNotCached() throws Exception {
+        FestivalSingleFlight singleFlight = new FestivalSingleFlight(true, 5000, meterRegistry);
+
+        Future<Object> leader = executor.submit(() -> singleFlight.execute("detail:1", () -> {
+            loading.countDown();
+            await(release);
+            throw new ApplicationException(ErrorCode.FESTIVAL_NOT_FOUND);
+        }));
+        loading.await(5, TimeUnit.SECONDS);
+        Future<Object> follower = executor.submit(() -> singleFlight.execute("detail:1", () -> load("다른 결과")));
+        awaitShared(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ApplicationException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(ApplicationException.class);
+        assertThat(singleFlight.execute("detail:1", () -> load("다시 실행"))).isEqualTo("다시 실행");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("기다리는 시간이 넘으면 SERVICE_BUSY, 실행 중인 조회는 계속 진행")
+    void execute_timeout() throws Exception {
+        FestivalSingleFlight singleFlight = new FestivalSingleFlight(true, 50, meterRegistry);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("calendar", blockingLoad("결과")));
+        loading.await(5, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> singleFlight.execute("calendar", () -> load("다른 결과")))
+            .isInstanceOf(ApplicationException.class)
+            .extracting("errorCode").isEqualTo(ErrorCode.SERVICE_BUSY);
+        assertThat(meterRegistry.counter("festival.single-flight.timeouts").count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("결과");
+    }
+
+    @Test
+    @DisplayName("키가 다르면 따로 실행")
+    void execute_differentKeys() {
+        FestivalSingleFlight singleFlight = new FestivalSingleFlight(true, 5000, meterRegistry);
+
+        String result = singleFlight.execute("calendar:a", () -> singleFlight.execute("calendar:b", () -> load("b")));
+
+        assertThat(result).isEqualTo("b");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    private <T> Supplier<T> blockingLoad(T value) {
+        return () -> {
+            loading.countDown();
+            await(release);
+            return load(value);
+        };
+    }
+
+    private <T> T load(T value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    private void awaitShared(int count) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.counter("festival.single-flight.shared").count() < count; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
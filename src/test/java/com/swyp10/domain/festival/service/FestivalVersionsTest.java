@@ -0,0 +1,96 @@
+package com.swyp10.domain.festival.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FestivalVersions 테스트")
+class FestivalVersionsTest {
+
+    private final FestivalVersions versions = new FestivalVersions();
+
+    @Test
+    @DisplayName("목록 - 같은 ETag면 304, 축제가 저장되면 ETag가 바뀜")
+    void checkCatalogNotModified() {
+        String etag = catalogETag();
+
+        assertThat(versions.checkCatalogNotModified(conditional(etag))).isTrue();
+        versions.bump(1L);
+        assertThat(versions.checkCatalogNotModified(conditional(etag))).isFalse();
+        assertThat(catalogETag()).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("상세 - 다른 축제 저장은 영향 없고, 북마크 여부가 다르면 ETag가 다름")
+    void checkFestivalNotModified() {
+        versions.confirmed(1L);
+        ServletWebRequest first = plain();
+        versions.checkFestivalNotModified(first, 1L, true);
+        String etag = first.getResponse().getHeader("ETag");
+
+        versions.bump(2L);
+
+        assertThat(versions.checkFestivalNotModified(conditional(etag), 1L, true)).isTrue();
+        assertThat(versions.checkFestivalNotModified(conditional(etag), 1L, false)).isFalse();
+        versions.bump(1L);
+        assertThat(versions.checkFestivalNotModified(conditional(etag), 1L, true)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 동기화 반영 - 목록과 모든 축제 ETag가 바뀜")
+    void bumpAll() {
+        versions.confirmed(1L);
+        String catalogEtag = catalogETag();
+        ServletWebRequest first = plain();
+        versions.checkFestivalNotModified(first, 1L, null);
+        String festivalEtag = first.getResponse().getHeader("ETag");
+
+        versions.bumpAll();
+
+        assertThat(versions.checkCatalogNotModified(conditional(catalogEtag))).isFalse();
+        assertThat(versions.checkFestivalNotModified(conditional(festivalEtag), 1L, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상세 - 존재를 확인하지 않았거나 삭제된 축제는 ETag도 304도 없음")
+    void checkFestivalNotModified_unconfirmed() {
+        ServletWebRequest unknown = plain();
+        assertThat(versions.checkFestivalNotModified(unknown, 1L, null)).isFalse();
+        assertThat(unknown.getResponse().getHeader("ETag")).isNull();
+
+        versions.confirmed(1L);
+        ServletWebRequest first = plain();
+        versions.checkFestivalNotModified(first, 1L, null);
+        String etag = first.getResponse().getHeader("ETag");
+        versions.removed(1L);
+
+        assertThat(versions.isConfirmed(1L)).isFalse();
+        assertThat(versions.checkFestivalNotModified(conditional(etag), 1L, null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 같은 버전 번호여도 ETag가 다름")
+    void etag_perInstance() {
+        assertThat(new FestivalVersions().catalogTag()).isNotEqualTo(versions.catalogTag());
+    }
+
+    private String catalogETag() {
+        ServletWebRequest request = plain();
+        assertThat(versions.checkCatalogNotModified(request)).isFalse();
+        return request.getResponse().getHeader("ETag");
+    }
+
+    private static ServletWebRequest plain() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/festivals/map"), new MockHttpServletResponse());
+    }
+
+    private static ServletWebRequest conditional(String etag) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/festivals/map");
+        request.addHeader("If-None-Match", etag);
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
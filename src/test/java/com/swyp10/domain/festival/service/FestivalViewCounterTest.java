@@ -0,0 +1,158 @@
+package com.swyp10.domain.festival.service;
+
+import com.swyp10.domain.festival.index.FestivalTrendingHolder;
+import com.swyp10.domain.festival.repository.FestivalStatisticsRepository;
+import com.swyp10.domain.festival.repository.FestivalViewDailyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FestivalViewCounter 테스트")
+class FestivalViewCounterTest {
+
+    @Mock
+    private FestivalStatisticsRepository festivalStatisticsRepository;
+
+    @Mock
+    private FestivalViewDailyRepository festivalViewDailyRepository;
+
+    @Mock
+    private FestivalTrendingHolder festivalTrendingHolder;
+
+    private SimpleMeterRegistry meterRegistry;
+    private FestivalViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        viewCounter = new FestivalViewCounter(festivalStatisticsRepository, festivalViewDailyRepository,
+            festivalTrendingHolder, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동시 조회를 축제별로 모아서 한 번에 반영하고, 반영한 만큼 pending에서 빠짐")
+    void flush_aggregated() throws InterruptedException {
+        given(festivalStatisticsRepository.addViewCounts(anyMap(), any())).willReturn(Set.of());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    viewCounter.increment(1L);
+                    viewCounter.increment(j % 2 == 0 ? 2L : 3L);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("festival.view.pending").gauge().value()).isEqualTo(16000);
+
+        viewCounter.flush();
+
+        assertThat(captureIncrements(1)).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 8000L, 2L, 4000L, 3L, 4000L));
+        assertThat(viewCounter.pendingCount()).isZero();
+        assertThat(meterRegistry.get("festival.view.flushed").counter().count()).isEqualTo(16000);
+    }
+
+    @Test
+    @DisplayName("반영한 뒤에는 새로 들어온 증가분만 반영")
+    void flush_onlyNewIncrements() {
+        given(festivalStatisticsRepository.addViewCounts(anyMap(), any())).willReturn(Set.of());
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.flush();
+
+        viewCounter.increment(1L);
+        viewCounter.flush();
+        viewCounter.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(festivalStatisticsRepository, times(2)).addViewCounts(captor.capture(), any());
+        assertThat(captor.getAllValues()).containsExactly(Map.of(1L, 2L), Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 유지했다가 다음 flush에 다시 시도")
+    void flush_retryOnFailure() {
+        given(festivalStatisticsRepository.addViewCounts(anyMap(), any()))
+            .willThrow(new RuntimeException("db down"))
+            .willReturn(Set.of());
+        viewCounter.increment(1L);
+
+        viewCounter.flush();
+        assertThat(viewCounter.pendingCount()).isEqualTo(1);
+        viewCounter.increment(1L);
+        viewCounter.flush();
+
+        assertThat(captureIncrements(2)).containsExactlyEntriesOf(Map.of(1L, 2L));
+        assertThat(viewCounter.pendingCount()).isZero();
+        assertThat(meterRegistry.get("festival.view.flush.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영한 증가분은 일별 조회수와 급상승 점수에도 넘기고, 없는 축제는 제외")
+    void flush_feedsDailyAndTrending() {
+        given(festivalStatisticsRepository.addViewCounts(anyMap(), any())).willReturn(Set.of(9L));
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(9L);
+
+        viewCounter.flush();
+
+        verify(festivalViewDailyRepository).addDailyViewCounts(eq(Map.of(1L, 2L)), eq(LocalDate.now()), any());
+        verify(festivalTrendingHolder).record(eq(Map.of(1L, 2L)), any());
+    }
+
+    @Test
+    @DisplayName("일별 조회수 반영에 실패하면 남겨 두었다가 다음 flush에 합쳐서 다시 시도")
+    void flush_retryDaily() {
+        given(festivalStatisticsRepository.addViewCounts(anyMap(), any())).willReturn(Set.of());
+        doThrow(new RuntimeException("db down")).doNothing()
+            .when(festivalViewDailyRepository).addDailyViewCounts(anyMap(), any(), any());
+        viewCounter.increment(1L);
+        viewCounter.flush();
+
+        viewCounter.increment(1L);
+        viewCounter.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(festivalViewDailyRepository, times(2)).addDailyViewCounts(captor.capture(), any(), any());
+        assertThat(captor.getValue()).containsExactlyEntriesOf(Map.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("모인 조회수가 없으면 DB에 가지 않음")
+    void flush_empty() {
+        viewCounter.flush();
+
+        verifyNoInteractions(festivalStatisticsRepository);
+    }
+
+    private Map<Long, Long> captureIncrements(int calls) {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(festivalStatisticsRepository, times(calls)).addViewCounts(captor.capture(), any());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,120 @@
+package com.swyp10.domain.recommendation.service;
+
+import com.swyp10.domain.festival.dto.response.FestivalMonthlyTopResponse;
+import com.swyp10.domain.festival.repository.FestivalRepository;
+import com.swyp10.domain.recommendation.entity.MonthlyRecommendation;
+import com.swyp10.domain.recommendation.repository.MonthlyRecommendationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MonthlyTopFestivalRefresher 테스트")
+class MonthlyTopFestivalRefresherTest {
+
+    private static final LocalDate MONTH = LocalDate.of(2025, 8, 1);
+
+    @Mock
+    private MonthlyRecommendationRepository recommendationRepository;
+
+    @Mock
+    private FestivalRepository festivalRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("운영자 지정 축제는 sortSq 자리에 고정하고 남은 자리를 순위대로 채움")
+    void arrange_curatedPinned() {
+        List<MonthlyRecommendation> curated = List.of(recommendation(30L, 1L), recommendation(10L, 3L));
+
+        List<Long> arranged = MonthlyTopFestivalRefresher.arrange(curated, MONTH, List.of(10L, 11L, 12L, 13L, 14L), 5);
+
+        assertThat(arranged).containsExactly(30L, 11L, 10L, 12L, 13L);
+    }
+
+    @Test
+    @DisplayName("노출 자리 밖의 sortSq는 무시하고, 순위가 모자라면 빈 자리로 남김")
+    void arrange_outOfRangeAndShortRanking() {
+        List<MonthlyRecommendation> curated = List.of(recommendation(30L, 9L), recommendation(31L, 2L));
+
+        List<Long> arranged = MonthlyTopFestivalRefresher.arrange(curated, MONTH, List.of(10L), 5);
+
+        assertThat(arranged).isEqualTo(Arrays.asList(10L, 31L, null, null, null));
+    }
+
+    @Test
+    @DisplayName("다른 달에 지정된 축제는 고정하지 않고 순위에서도 제외")
+    void arrange_otherMonthCuratedIgnored() {
+        List<MonthlyRecommendation> curated = List.of(
+            recommendation(30L, 1L, MONTH.minusMonths(1)),
+            recommendation(31L, 2L, null),
+            recommendation(32L, 3L));
+
+        List<Long> arranged = MonthlyTopFestivalRefresher.arrange(curated, MONTH, List.of(30L, 31L, 10L, 11L, 12L), 5);
+
+        assertThat(arranged).containsExactly(10L, 11L, 32L, 12L, null);
+    }
+
+    @Test
+    @DisplayName("저장된 목록을 sortSq 순서대로 스냅샷에 담음")
+    void refresh_loadsStoredOrder() {
+        MonthlyTopFestivalRefresher refresher =
+            new MonthlyTopFestivalRefresher(recommendationRepository, festivalRepository, transactionTemplate, true);
+        given(recommendationRepository.findByTargetMonthOrderBySortSqAsc(YearMonth.now().atDay(1)))
+            .willReturn(List.of(recommendation(2L, 1L), recommendation(1L, 2L), recommendation(3L, 7L)));
+        given(festivalRepository.findMonthlyTopCardsByIds(anyList()))
+            .willReturn(List.of(card(1L), card(2L)));
+
+        refresher.refresh();
+
+        assertThat(refresher.current()).hasValueSatisfying(festivals ->
+            assertThat(festivals).extracting(FestivalMonthlyTopResponse::getId).containsExactly(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("비활성화하면 스냅샷 없이 DB 집계 쿼리로 처리")
+    void refresh_disabled() {
+        MonthlyTopFestivalRefresher refresher =
+            new MonthlyTopFestivalRefresher(recommendationRepository, festivalRepository, transactionTemplate, false);
+
+        refresher.refresh();
+
+        assertThat(refresher.current()).isEmpty();
+        verifyNoInteractions(recommendationRepository, festivalRepository, transactionTemplate);
+    }
+
+    private MonthlyRecommendation recommendation(Long festivalId, Long sortSq) {
+        return recommendation(festivalId, sortSq, MONTH);
+    }
+
+    private MonthlyRecommendation recommendation(Long festivalId, Long sortSq, LocalDate targetMonth) {
+        return MonthlyRecommendation.builder()
+            .festivalId(festivalId)
+            .sortSq(sortSq)
+            .curated(true)
+            .targetMonth(targetMonth)
+            .of();
+    }
+
+    private FestivalMonthlyTopResponse card(Long festivalId) {
+        return FestivalMonthlyTopResponse.builder()
+            .id(festivalId)
+            .title("축제 " + festivalId)
+            .bookmarked(false)
+            .build();
+    }
+}
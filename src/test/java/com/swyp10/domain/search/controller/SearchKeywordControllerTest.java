@@ -2,6 +2,8 @@ package com.swyp10.domain.search.controller;
 
 import com.swyp10.domain.search.dto.response.SearchKeywordListResponse;
 import com.swyp10.domain.search.dto.response.SearchKeywordResponse;
+import com.swyp10.domain.search.dto.response.SearchSuggestResponse;
+import com.swyp10.domain.search.enums.SearchSuggestType;
 import com.swyp10.domain.search.service.SearchKeywordService;
 import com.swyp10.exception.ApplicationException;
 import com.swyp10.exception.ErrorCode;
@@ -17,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -103,4 +106,60 @@ class SearchKeywordControllerTest {
             .andExpect(jsonPath("$.success").value(false))
             .andExpect(jsonPath("$.message").value("서버 내부 오류가 발생했습니다."));
     }
+
+    @Test
+    @DisplayName("기간별 실시간 검색어 조회 - 성공")
+    void getTopKeywords_trendingWindow() throws Exception {
+        // given
+        SearchKeywordListResponse mockResponse = SearchKeywordListResponse.builder()
+            .content(List.of(
+                SearchKeywordResponse.builder()
+                    .keyword("불꽃축제")
+                    .count(42L)
+                    .lastSearchedAt(LocalDateTime.of(2025, 8, 1, 10, 0))
+                    .build()
+            ))
+            .page(0)
+            .size(5)
+            .totalElements(1L)
+            .totalPages(1)
+            .first(true)
+            .last(true)
+            .empty(false)
+            .build();
+
+        when(searchKeywordService.getTrendingKeywords(5, "24h")).thenReturn(mockResponse);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/search/keywords/top")
+                .param("limit", "5")
+                .param("window", "24h"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.content[0].keyword").value("불꽃축제"))
+            .andExpect(jsonPath("$.data.content[0].count").value(42));
+    }
+
+    @Test
+    @DisplayName("검색어 자동완성 조회 - 성공")
+    void getSuggestions_success() throws Exception {
+        // given
+        SearchSuggestResponse mockResponse = SearchSuggestResponse.builder()
+            .query("불꽃")
+            .suggestions(List.of(
+                new SearchSuggestResponse.Suggestion("불꽃놀이", SearchSuggestType.KEYWORD, null),
+                new SearchSuggestResponse.Suggestion("부산 불꽃축제", SearchSuggestType.FESTIVAL, 1L)
+            ))
+            .build();
+
+        when(searchKeywordService.getSuggestions(eq("불꽃"), anyInt())).thenReturn(mockResponse);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/search/suggest")
+                .param("q", "불꽃"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.query").value("불꽃"))
+            .andExpect(jsonPath("$.data.suggestions[0].text").value("불꽃놀이"))
+            .andExpect(jsonPath("$.data.suggestions[0].type").value("KEYWORD"))
+            .andExpect(jsonPath("$.data.suggestions[1].festivalId").value(1));
+    }
 }
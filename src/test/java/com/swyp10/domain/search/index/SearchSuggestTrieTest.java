@@ -0,0 +1,52 @@
+package com.swyp10.domain.search.index;
+
+import com.swyp10.domain.search.enums.SearchSuggestType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SearchSuggestTrie 테스트")
+class SearchSuggestTrieTest {
+
+    @Test
+    @DisplayName("prefix로 시작하거나 단어 시작이 prefix인 후보를 가중치 순으로 반환")
+    void suggest_success() {
+        SearchSuggestTrie trie = SearchSuggestTrie.build(List.of(
+            new SearchSuggestEntry("부산 불꽃축제", SearchSuggestType.FESTIVAL, 1L, 500),
+            new SearchSuggestEntry("불꽃놀이", SearchSuggestType.KEYWORD, null, 800),
+            new SearchSuggestEntry("부산광역시", SearchSuggestType.REGION, null, 1200),
+            new SearchSuggestEntry("여수 밤바다 불꽃", SearchSuggestType.FESTIVAL, 2L, 100)
+        ));
+
+        assertThat(trie.suggest("불꽃", 10)).extracting(SearchSuggestEntry::text)
+            .containsExactly("불꽃놀이", "부산 불꽃축제", "여수 밤바다 불꽃");
+        assertThat(trie.suggest("부산", 10)).extracting(SearchSuggestEntry::text)
+            .containsExactly("부산광역시", "부산 불꽃축제");
+        assertThat(trie.suggest("  부산   불", 10)).extracting(SearchSuggestEntry::festivalId)
+            .containsExactly(1L);
+        assertThat(trie.suggest("대구", 10)).isEmpty();
+        assertThat(trie.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 문자열은 가중치가 큰 후보 하나만, 결과는 limit과 MAX_SUGGESTIONS 이하")
+    void suggest_dedupAndLimit() {
+        List<SearchSuggestEntry> entries = new ArrayList<>();
+        entries.add(new SearchSuggestEntry("Jazz Festival", SearchSuggestType.KEYWORD, null, 10));
+        entries.add(new SearchSuggestEntry("jazz festival", SearchSuggestType.FESTIVAL, 7L, 30));
+        for (int i = 0; i < 30; i++) {
+            entries.add(new SearchSuggestEntry("축제 " + i, SearchSuggestType.KEYWORD, null, i));
+        }
+        SearchSuggestTrie trie = SearchSuggestTrie.build(entries);
+
+        assertThat(trie.suggest("JAZZ", 10)).singleElement()
+            .extracting(SearchSuggestEntry::festivalId).isEqualTo(7L);
+        assertThat(trie.suggest("축제", 3)).extracting(SearchSuggestEntry::text)
+            .containsExactly("축제 29", "축제 28", "축제 27");
+        assertThat(trie.suggest("축제", 100)).hasSize(SearchSuggestTrie.MAX_SUGGESTIONS);
+    }
+}
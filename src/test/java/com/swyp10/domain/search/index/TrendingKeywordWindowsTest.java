@@ -0,0 +1,115 @@
+package com.swyp10.domain.search.index;
+
+import com.swyp10.domain.search.enums.TrendBucketUnit;
+import com.swyp10.domain.search.enums.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("TrendingKeywordWindows 테스트")
+class TrendingKeywordWindowsTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long HOUR = 60 * MINUTE;
+    private static final long DAY = 24 * HOUR;
+    private static final long NOW = 1_000 * DAY;
+
+    @Test
+    @DisplayName("기간 안의 검색만 횟수 순으로 집계")
+    void top_slidingWindow() {
+        TrendingKeywordWindows windows = new TrendingKeywordWindows();
+        windows.add("벚꽃축제", 500, NOW - 3 * DAY);
+        windows.add("불꽃축제", 30, NOW - 5 * HOUR);
+        windows.add("재즈", 20, NOW - 10 * MINUTE);
+        windows.add("불꽃축제", 5, NOW - MINUTE);
+
+        assertThat(windows.top(TrendingWindow.HOUR, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword, TrendingKeywordWindows.TrendingKeyword::count)
+            .containsExactly(
+                tuple("재즈", 20L),
+                tuple("불꽃축제", 5L));
+        assertThat(windows.top(TrendingWindow.DAY, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .containsExactly("불꽃축제", "재즈");
+        assertThat(windows.top(TrendingWindow.WEEK, 1, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .containsExactly("벚꽃축제");
+        // 7일이 지나면 빠짐
+        assertThat(windows.top(TrendingWindow.WEEK, 10, NOW + 5 * DAY))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .doesNotContain("벚꽃축제");
+    }
+
+    @Test
+    @DisplayName("버킷 상위 K보다 많은 검색어가 들어와도 많이 검색된 검색어는 남음")
+    void top_heavyHitters() {
+        TrendingKeywordWindows windows = new TrendingKeywordWindows();
+        for (int i = 0; i < 2_000; i++) {
+            windows.add("검색어" + i, 1, NOW - MINUTE);
+        }
+        windows.add("불꽃축제", 300, NOW - 2 * MINUTE);
+        windows.add("재즈", 200, NOW - MINUTE);
+
+        List<TrendingKeywordWindows.TrendingKeyword> top = windows.top(TrendingWindow.HOUR, 2, NOW);
+
+        assertThat(top).extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .containsExactly("불꽃축제", "재즈");
+        // Count-Min 추정은 실제보다 작지 않음
+        assertThat(top.get(0).count()).isGreaterThanOrEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스 버킷 요약으로 채우면 같은 순위")
+    void replacePeers_fromSnapshots() {
+        TrendingKeywordWindows windows = new TrendingKeywordWindows();
+        windows.add("불꽃축제", 30, NOW - 2 * HOUR);
+        windows.add("재즈", 10, NOW - 10 * MINUTE);
+
+        List<TrendingKeywordWindows.BucketSnapshot> snapshots = new ArrayList<>(windows.drainDirty());
+        assertThat(windows.drainDirty()).isEmpty();
+        // 보관 기간이 지난 버킷은 무시
+        snapshots.add(new TrendingKeywordWindows.BucketSnapshot(
+            TrendBucketUnit.HOUR, 0, TrendBucketUnit.HOUR.epochOf(NOW - 8 * DAY), Map.of("오래된", 999L)));
+
+        TrendingKeywordWindows restored = new TrendingKeywordWindows();
+        restored.replacePeers(snapshots, NOW);
+
+        assertThat(restored.top(TrendingWindow.DAY, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword, TrendingKeywordWindows.TrendingKeyword::count)
+            .containsExactly(
+                tuple("불꽃축제", 30L),
+                tuple("재즈", 10L));
+        assertThat(restored.top(TrendingWindow.HOUR, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .containsExactly("재즈");
+        assertThat(restored.top(TrendingWindow.WEEK, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword)
+            .doesNotContain("오래된");
+    }
+
+    @Test
+    @DisplayName("이 인스턴스 집계에 다른 인스턴스 요약을 더하고, 다시 채워도 두 번 세지 않음")
+    void replacePeers_mergedWithLocal() {
+        TrendingKeywordWindows other = new TrendingKeywordWindows();
+        other.add("불꽃축제", 20, NOW - 5 * MINUTE);
+        other.add("재즈", 15, NOW - 5 * MINUTE);
+        List<TrendingKeywordWindows.BucketSnapshot> peers = other.drainDirty();
+
+        TrendingKeywordWindows windows = new TrendingKeywordWindows();
+        windows.add("재즈", 10, NOW - MINUTE);
+        windows.replacePeers(peers, NOW);
+        windows.replacePeers(peers, NOW);
+
+        assertThat(windows.top(TrendingWindow.HOUR, 10, NOW))
+            .extracting(TrendingKeywordWindows.TrendingKeyword::keyword, TrendingKeywordWindows.TrendingKeyword::count)
+            .containsExactly(
+                tuple("재즈", 25L),
+                tuple("불꽃축제", 20L));
+    }
+}
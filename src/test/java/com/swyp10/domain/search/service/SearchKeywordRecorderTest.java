@@ -0,0 +1,137 @@
+package com.swyp10.domain.search.service;
+
+import com.swyp10.domain.search.index.TrendingKeywordTracker;
+import com.swyp10.domain.search.repository.SearchKeywordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SearchKeywordRecorder 테스트")
+class SearchKeywordRecorderTest {
+
+    @Mock
+    private SearchKeywordRepository searchKeywordRepository;
+
+    @Mock
+    private TrendingKeywordTracker trendingKeywordTracker;
+
+    private SearchKeywordRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new SearchKeywordRecorder(searchKeywordRepository, trendingKeywordTracker, true, 3);
+    }
+
+    @Test
+    @DisplayName("정규화한 검색어별로 모아서 한 번에 반영")
+    void flush_aggregated() {
+        recorder.record("벚꽃 축제");
+        recorder.record("  벚꽃   축제 ");
+        recorder.record("Jazz");
+        recorder.record("jazz");
+        recorder.record(" ");
+        recorder.record(null);
+
+        recorder.flush();
+
+        Map<String, Long> counts = captureCounts();
+        assertThat(counts).containsExactlyInAnyOrderEntriesOf(Map.of("벚꽃 축제", 2L, "jazz", 2L));
+        verify(trendingKeywordTracker).record(Map.of("벚꽃 축제", 2L, "jazz", 2L));
+    }
+
+    @Test
+    @DisplayName("동시에 기록해도 횟수가 빠지지 않음")
+    void record_concurrent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    recorder.record("불꽃축제");
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        recorder.flush();
+
+        assertThat(captureCounts()).containsExactlyEntriesOf(Map.of("불꽃축제", 8000L));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 새 검색어는 버리고 기존 검색어는 계속 집계")
+    void record_bufferFull() {
+        recorder.record("a");
+        recorder.record("b");
+        recorder.record("c");
+        recorder.record("d");
+        recorder.record("a");
+
+        recorder.flush();
+
+        assertThat(captureCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("a", 2L, "b", 1L, "c", 1L));
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 다음 flush에 다시 시도")
+    void flush_retryOnFailure() {
+        recorder.record("축제");
+        willThrow(new RuntimeException("db down"))
+            .willDoNothing()
+            .given(searchKeywordRepository).addCounts(anyMap(), any());
+
+        recorder.flush();
+        recorder.record("축제");
+        recorder.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(searchKeywordRepository, times(2)).addCounts(captor.capture(), any());
+        assertThat(captor.getAllValues().get(1)).containsExactlyEntriesOf(Map.of("축제", 2L));
+        // 실시간 집계에는 검색마다 한 번씩만
+        verify(trendingKeywordTracker, times(2)).record(Map.of("축제", 1L));
+    }
+
+    @Test
+    @DisplayName("비활성화면 기록하지 않고, 모인 게 없으면 DB에 가지 않음")
+    void record_disabled() {
+        SearchKeywordRecorder disabled = new SearchKeywordRecorder(searchKeywordRepository, trendingKeywordTracker, false, 3);
+        disabled.record("축제");
+
+        disabled.flush();
+        recorder.flush();
+
+        verifyNoInteractions(searchKeywordRepository, trendingKeywordTracker);
+    }
+
+    @Test
+    @DisplayName("컬럼 길이보다 긴 검색어는 잘라서 기록")
+    void normalize_truncate() {
+        String keyword = SearchKeywordRecorder.normalize("가".repeat(150));
+
+        assertThat(keyword).hasSize(SearchKeywordRecorder.MAX_KEYWORD_LENGTH);
+    }
+
+    private Map<String, Long> captureCounts() {
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, Long>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(searchKeywordRepository).addCounts(captor.capture(), any());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,102 @@
+package com.swyp10.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.swyp10.domain.festival.dto.response.FestivalListResponse;
+import com.swyp10.domain.festival.dto.response.FestivalSummaryResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 비로그인 목록 응답 - 매번 DTO 생성 + 직렬화 vs 직렬화 바이트 캐시, 요청당 할당 바이트 비교 (카드 20개)
+ * 수동 실행 전용: ./gradlew test --tests '*SerializedResponseCacheBenchmarkTest' -Dbenchmark=true
+ * DB 조회는 빼고 응답을 만드는 부분만 잰다. 결과 일치만 검증하고 수치는 로그로만 남긴다.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("SerializedResponseCache 벤치마크")
+class SerializedResponseCacheBenchmarkTest {
+
+    private static final int REQUESTS = 10_000;
+    private static final Map<String, Object> PARAMS = Map.of("date", "2025-09-01", "page", 0, "size", 20);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    @DisplayName("요청당 할당 바이트")
+    void benchmark_allocations() throws IOException {
+        SerializedResponseCache cache = new SerializedResponseCache(objectMapper, true, 10);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/festivals/calendar");
+        request.addParameter("date", "2025-09-01");
+        request.addParameter("page", "0");
+        request.addParameter("size", "20");
+
+        // 워밍업
+        byte[] serialized = serializeEveryTime();
+        MockHttpServletResponse cachedResponse = new MockHttpServletResponse();
+        cache.write(request, cachedResponse, PARAMS, "v1", SerializedResponseCacheBenchmarkTest::page);
+        assertThat(cachedResponse.getContentAsByteArray()).isEqualTo(serialized);
+
+        long startedAt = allocatedBytes();
+        for (int i = 0; i < REQUESTS; i++) {
+            serializeEveryTime();
+        }
+        long serializeBytes = allocatedBytes() - startedAt;
+
+        startedAt = allocatedBytes();
+        for (int i = 0; i < REQUESTS; i++) {
+            cache.write(request, new MockHttpServletResponse(), PARAMS, "v1", SerializedResponseCacheBenchmarkTest::page);
+        }
+        long cachedBytes = allocatedBytes() - startedAt;
+
+        System.out.printf("[serialized response benchmark] requests=%d, body=%dB, serialize avg=%dB/req, cached avg=%dB/req%n",
+            REQUESTS, serialized.length, serializeBytes / REQUESTS, cachedBytes / REQUESTS);
+    }
+
+    private byte[] serializeEveryTime() throws IOException {
+        return objectMapper.writeValueAsBytes(CommonResponse.success(page()));
+    }
+
+    private static FestivalListResponse page() {
+        List<FestivalSummaryResponse> content = LongStream.rangeClosed(1, 20)
+            .mapToObj(id -> FestivalSummaryResponse.builder()
+                .id(id)
+                .thumbnail("http://tong.visitkorea.or.kr/cms/resource/81/" + id + "_image2_1.jpg")
+                .theme("FOOD")
+                .title("축제" + id)
+                .bookmarked(false)
+                .address("서울특별시 어딘가 " + id)
+                .startDate(LocalDate.of(2025, 9, 1))
+                .endDate(LocalDate.of(2025, 9, 3))
+                .map_x("127.0" + id)
+                .map_y("37.5" + id)
+                .build())
+            .toList();
+        return FestivalListResponse.builder()
+            .content(content)
+            .page(0)
+            .size(20)
+            .totalElements(20L)
+            .totalPages(1)
+            .first(true)
+            .last(true)
+            .empty(false)
+            .build();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+            .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,119 @@
+package com.swyp10.global.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.swyp10.exception.ApplicationException;
+import com.swyp10.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SerializedResponseCache 테스트")
+class SerializedResponseCacheTest {
+
+    private final SerializedResponseCache cache = new SerializedResponseCache(new ObjectMapper(), true, 10);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 조건이면 파라미터 순서가 달라도 만들어 둔 바이트를 그대로 씀")
+    void write_hit() throws IOException {
+        MockHttpServletResponse first = write(request("size", "20", "page", "0"), new Params(0, 20), "v1");
+        MockHttpServletResponse second = write(request("page", "0", "size", "20"), new Params(0, 20), "v1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString())
+            .contains("\"success\":true", "\"data\":{\"total\":1}");
+        assertThat(second.getContentType()).startsWith("application/json");
+    }
+
+    @Test
+    @DisplayName("바인딩되지 않는 파라미터를 붙여도 같은 항목을 씀")
+    void write_unknownParameter_hit() throws IOException {
+        write(request("page", "0"), new Params(0, 20), "v1");
+        write(request("page", "0", "x", "8f3a1c"), new Params(0, 20), "v1");
+        write(request("page", "0", "x", "77b20e"), new Params(0, 20), "v1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조건이 다르면 따로 만듦 (생략한 값은 기본값과 같은 조건)")
+    void write_differentParams_miss() throws IOException {
+        write(request(), new Params(0, 20), "v1");
+        write(request("page", "0", "size", "20"), new Params(0, 20), "v1");
+        write(request("page", "1"), new Params(1, 20), "v1");
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("gzip을 받는 클라이언트에는 압축본을 씀")
+    void write_gzip() throws IOException {
+        MockHttpServletRequest request = request("page", "0");
+        request.addHeader("Accept-Encoding", "gzip, deflate, br");
+
+        MockHttpServletResponse response = write(request, new Params(0, 20), "v1");
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeaders("Vary")).contains("Accept-Encoding");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertThat(new String(gzip.readAllBytes())).contains("\"total\":1");
+        }
+    }
+
+    @Test
+    @DisplayName("데이터 버전이 바뀌면 다시 만듦")
+    void write_versionChanged() throws IOException {
+        write(request("page", "0"), new Params(0, 20), "v1");
+        write(request("page", "0"), new Params(0, 20), "v2");
+        write(request("page", "0"), new Params(0, 20), "v2");
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만들다 실패하면 아무것도 쓰지 않고 캐시하지 않음")
+    void write_failure_notCached() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> cache.write(request("page", "0"), response, new Params(0, 20), "v1", () -> {
+            throw new ApplicationException(ErrorCode.BAD_REQUEST);
+        })).isInstanceOf(ApplicationException.class);
+
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request, Params params, String version) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        cache.write(request, response, params, version, () -> {
+            loads.incrementAndGet();
+            return Map.of("total", 1);
+        });
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String... params) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/festivals/calendar");
+        for (int i = 0; i < params.length; i += 2) {
+            request.addParameter(params[i], params[i + 1]);
+        }
+        return request;
+    }
+
+    // 핸들러가 바인딩한 요청 DTO 역할
+    private record Params(int page, int size) {
+    }
+}